@@ -0,0 +1,77 @@
+package org.training.datastructures.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.training.datastructures.map.HashMap;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class BulkLoadBenchmark {
+
+	@Param({ "1000", "100000", "1000000" })
+	private int size;
+
+	@Param
+	private KeyDistribution distribution;
+
+	private Object[] keys;
+	private HashMap<Object, Object> source;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		keys = distribution.keys(size, 42);
+		source = new HashMap<>();
+		for (Object key : keys) {
+			source.put(key, key);
+		}
+	}
+
+	@Benchmark
+	public HashMap<Object, Object> putLoop() {
+		var map = new HashMap<Object, Object>();
+		for (Object key : keys) {
+			map.put(key, key);
+		}
+		return map;
+	}
+
+	@Benchmark
+	public HashMap<Object, Object> copyConstructor() {
+		return new HashMap<>(source);
+	}
+
+	@Benchmark
+	public HashMap<Object, Object> builder() {
+		var builder = HashMap.builder().expectedSize(size);
+		for (Object key : keys) {
+			builder.put(key, key);
+		}
+		return builder.build();
+	}
+
+	@Benchmark
+	public HashMap<Object, Object> builderSortedByBucket() {
+		var builder = HashMap.builder().expectedSize(size).sortByBucket(true);
+		for (Object key : keys) {
+			builder.put(key, key);
+		}
+		return builder.build();
+	}
+
+}
@@ -0,0 +1,168 @@
+package org.training.datastructures.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.training.datastructures.map.BoundedCache;
+import org.training.datastructures.map.BoundedCache.EvictionPolicy;
+import org.training.datastructures.map.HashMap;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class CacheBenchmark {
+
+	private static final int KEY_SPACE = 1 << 17;
+	private static final int TRACE_LENGTH = 1 << 20;
+
+	public enum CacheImplementation {
+
+		LRU {
+			@Override
+			CacheAdapter create(int maximumSize) {
+				var cache = BoundedCache.<Integer, Integer>builder().maximumSize(maximumSize).build();
+				return new BoundedCacheAdapter(cache);
+			}
+		},
+		WINDOW_TINY_LFU {
+			@Override
+			CacheAdapter create(int maximumSize) {
+				var cache = BoundedCache.<Integer, Integer>builder()
+						.maximumSize(maximumSize)
+						.evictionPolicy(EvictionPolicy.WINDOW_TINY_LFU)
+						.build();
+				return new BoundedCacheAdapter(cache);
+			}
+		},
+		HASH_MAP_MANUAL_EVICTION {
+			@Override
+			CacheAdapter create(int maximumSize) {
+				var map = new HashMap<Integer, Integer>();
+				return new CacheAdapter() {
+
+					@Override
+					public Integer get(Integer key) {
+						return map.get(key);
+					}
+
+					@Override
+					public void put(Integer key, Integer value) {
+						if (map.size() >= maximumSize) {
+							var i = map.iterator();
+							i.next();
+							i.remove();
+						}
+						map.put(key, value);
+					}
+
+				};
+			}
+		};
+
+		abstract CacheAdapter create(int maximumSize);
+
+	}
+
+	interface CacheAdapter {
+
+		Integer get(Integer key);
+
+		void put(Integer key, Integer value);
+
+	}
+
+	private record BoundedCacheAdapter(BoundedCache<Integer, Integer> cache) implements CacheAdapter {
+
+		@Override
+		public Integer get(Integer key) {
+			return cache.get(key);
+		}
+
+		@Override
+		public void put(Integer key, Integer value) {
+			cache.put(key, value);
+		}
+
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class HitCounters {
+
+		public long hits;
+		public long misses;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			hits = 0;
+			misses = 0;
+		}
+
+	}
+
+	@Param({ "1024", "16384" })
+	private int maximumSize;
+
+	@Param({ "0.8", "1.2" })
+	private double skew;
+
+	@Param
+	private CacheImplementation implementation;
+
+	private CacheAdapter cache;
+	private Integer[] trace;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final var cumulative = new double[KEY_SPACE];
+		double total = 0;
+		for (int k = 0; k < KEY_SPACE; k++) {
+			total += 1 / Math.pow(k + 1, skew);
+			cumulative[k] = total;
+		}
+		final var random = new Random(42);
+		final var keys = new Integer[KEY_SPACE];
+		for (int k = 0; k < KEY_SPACE; k++) {
+			keys[k] = random.nextInt();
+		}
+		trace = new Integer[TRACE_LENGTH];
+		for (int k = 0; k < TRACE_LENGTH; k++) {
+			int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+			trace[k] = keys[rank < 0 ? -rank - 1 : rank];
+		}
+		cache = implementation.create(maximumSize);
+	}
+
+	@Benchmark
+	public Integer getOrLoad(HitCounters counters) {
+		final Integer key = trace[cursor++ & (TRACE_LENGTH - 1)];
+		Integer value = cache.get(key);
+		if (value == null) {
+			counters.misses++;
+			value = key;
+			cache.put(key, value);
+		} else {
+			counters.hits++;
+		}
+		return value;
+	}
+
+}
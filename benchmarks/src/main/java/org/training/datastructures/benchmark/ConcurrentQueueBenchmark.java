@@ -0,0 +1,91 @@
+package org.training.datastructures.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Control;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.training.datastructures.benchmark.ConcurrentQueueImplementation.QueueAdapter;
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ConcurrentQueueBenchmark {
+
+	private static final Integer VALUE = 42;
+
+	@Param({ "1024", "65536" })
+	private int capacity;
+
+	@Param({ "LOCKED_LINKED_LIST", "CONCURRENT_LINKED_QUEUE", "JDK_CONCURRENT_LINKED_QUEUE" })
+	private ConcurrentQueueImplementation implementation;
+
+	private QueueAdapter queue;
+	private TransferBacklog backlog;
+
+	@Setup(Level.Trial)
+	public void setUp(BenchmarkParams params) {
+		queue = implementation.create(capacity);
+		final var labels = List.copyOf(params.getThreadGroupLabels());
+		final int[] threads = params.getThreadGroups();
+		backlog = new TransferBacklog(capacity, threads[labels.indexOf("offer")], threads[labels.indexOf("poll")]);
+	}
+
+	@TearDown(Level.Iteration)
+	public void drain() {
+		while (queue.poll() != null) {
+		}
+		backlog.reset();
+	}
+
+	@Benchmark
+	@Group("transfer")
+	@GroupThreads(2)
+	public void offer(Control control, ThreadParams thread) {
+		final int producer = thread.getSubgroupThreadIndex();
+		while (!control.stopMeasurement) {
+			if (!backlog.hasRoom(producer)) {
+				Thread.yield();
+			} else if (queue.offer(VALUE)) {
+				backlog.offered(producer);
+				return;
+			} else {
+				Thread.onSpinWait();
+			}
+		}
+	}
+
+	@Benchmark
+	@Group("transfer")
+	@GroupThreads(2)
+	public Integer poll(Control control, ThreadParams thread) {
+		Integer value;
+		while ((value = queue.poll()) == null && !control.stopMeasurement) {
+			Thread.onSpinWait();
+		}
+		if (value != null) {
+			backlog.polled(thread.getSubgroupThreadIndex());
+		}
+		return value;
+	}
+
+}
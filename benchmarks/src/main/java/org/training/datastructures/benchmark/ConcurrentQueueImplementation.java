@@ -0,0 +1,102 @@
+package org.training.datastructures.benchmark;
+
+import org.training.datastructures.list.ConcurrentLinkedQueue;
+import org.training.datastructures.list.LinkedList;
+import org.training.datastructures.list.SpscArrayQueue;
+
+public enum ConcurrentQueueImplementation {
+
+	LOCKED_LINKED_LIST {
+		@Override
+		QueueAdapter create(int capacity) {
+			var list = new LinkedList<Integer>();
+			return new QueueAdapter() {
+
+				@Override
+				public boolean offer(Integer value) {
+					synchronized (list) {
+						list.add(value);
+					}
+					return true;
+				}
+
+				@Override
+				public Integer poll() {
+					synchronized (list) {
+						return list.isEmpty() ? null : list.remove(0);
+					}
+				}
+
+			};
+		}
+	},
+	CONCURRENT_LINKED_QUEUE {
+		@Override
+		QueueAdapter create(int capacity) {
+			var queue = new ConcurrentLinkedQueue<Integer>();
+			return new QueueAdapter() {
+
+				@Override
+				public boolean offer(Integer value) {
+					queue.offer(value);
+					return true;
+				}
+
+				@Override
+				public Integer poll() {
+					return queue.poll();
+				}
+
+			};
+		}
+	},
+	SPSC_ARRAY_QUEUE {
+		@Override
+		QueueAdapter create(int capacity) {
+			var queue = new SpscArrayQueue<Integer>(capacity);
+			return new QueueAdapter() {
+
+				@Override
+				public boolean offer(Integer value) {
+					return queue.offer(value);
+				}
+
+				@Override
+				public Integer poll() {
+					return queue.poll();
+				}
+
+			};
+		}
+	},
+	JDK_CONCURRENT_LINKED_QUEUE {
+		@Override
+		QueueAdapter create(int capacity) {
+			var queue = new java.util.concurrent.ConcurrentLinkedQueue<Integer>();
+			return new QueueAdapter() {
+
+				@Override
+				public boolean offer(Integer value) {
+					return queue.offer(value);
+				}
+
+				@Override
+				public Integer poll() {
+					return queue.poll();
+				}
+
+			};
+		}
+	};
+
+	abstract QueueAdapter create(int capacity);
+
+	interface QueueAdapter {
+
+		boolean offer(Integer value);
+
+		Integer poll();
+
+	}
+
+}
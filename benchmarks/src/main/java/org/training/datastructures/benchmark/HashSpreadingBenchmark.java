@@ -0,0 +1,121 @@
+package org.training.datastructures.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.training.datastructures.map.HashMap;
+import org.training.datastructures.map.HashSpreading;
+import org.training.datastructures.map.OpenHashMap;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashSpreadingBenchmark {
+
+	private static final int PROBE_COUNT = 1 << 12;
+
+	public enum KeyPattern {
+
+		SEQUENTIAL {
+			@Override
+			int shift(int size) {
+				return 0;
+			}
+		},
+		STRIDED {
+			@Override
+			int shift(int size) {
+				return 10;
+			}
+		},
+		HIGH_BITS {
+			@Override
+			int shift(int size) {
+				return Integer.numberOfLeadingZeros(size - 1);
+			}
+		};
+
+		abstract int shift(int size);
+
+		int key(int index, int size) {
+			return index << shift(size);
+		}
+
+	}
+
+	@Param({ "4096", "262144" })
+	private int size;
+
+	@Param
+	private KeyPattern pattern;
+
+	@Param
+	private HashSpreading spreading;
+
+	private HashMap<Integer, Integer> hashMap;
+	private OpenHashMap<Integer, Integer> openHashMap;
+	private Integer[] probes;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final int capacity = Integer.highestOneBit(size) << 1;
+		hashMap = new HashMap<>(capacity, 0.75, HashMap.ResizeMode.EAGER, spreading);
+		openHashMap = new OpenHashMap<>(capacity, 0.75, spreading);
+		for (int k = 0; k < size; k++) {
+			hashMap.put(pattern.key(k, size), k);
+			openHashMap.put(pattern.key(k, size), k);
+		}
+		if (hashMap.size() != size || openHashMap.size() != size) {
+			throw new IllegalStateException(String.format("%s pattern produced %d distinct keys instead of %d", pattern,
+					hashMap.size(), size));
+		}
+		var random = new Random(42);
+		probes = new Integer[PROBE_COUNT];
+		for (int k = 0; k < PROBE_COUNT; k++) {
+			probes[k] = pattern.key(random.nextInt(size), size);
+		}
+		reportDistribution(capacity);
+	}
+
+	private void reportDistribution(int capacity) {
+		var bucketLengths = new int[capacity];
+		int usedBuckets = 0;
+		int maxLength = 0;
+		for (int k = 0; k < size; k++) {
+			final int index = spreading.spread(Integer.hashCode(pattern.key(k, size))) & (capacity - 1);
+			if (bucketLengths[index]++ == 0) {
+				usedBuckets++;
+			}
+			maxLength = Math.max(maxLength, bucketLengths[index]);
+		}
+		System.out.printf("%n%s/%s: %d keys in %d buckets, %d buckets used, max bucket length %d%n", pattern,
+				spreading, size, capacity, usedBuckets, maxLength);
+	}
+
+	@Benchmark
+	public Integer hashMapGet() {
+		return hashMap.get(probes[cursor++ & (PROBE_COUNT - 1)]);
+	}
+
+	@Benchmark
+	public Integer openHashMapGet() {
+		return openHashMap.get(probes[cursor++ & (PROBE_COUNT - 1)]);
+	}
+
+}
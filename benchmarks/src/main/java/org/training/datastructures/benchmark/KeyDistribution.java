@@ -0,0 +1,57 @@
+package org.training.datastructures.benchmark;
+
+import java.util.Random;
+
+public enum KeyDistribution {
+
+	SEQUENTIAL {
+		@Override
+		Object[] keys(int count, long seed) {
+			var keys = new Object[count];
+			for (int k = 0; k < count; k++) {
+				keys[k] = k;
+			}
+			return keys;
+		}
+	},
+	RANDOM {
+		@Override
+		Object[] keys(int count, long seed) {
+			var random = new Random(seed);
+			var keys = new Object[count];
+			var used = new java.util.HashSet<Integer>(count * 2);
+			for (int k = 0; k < count; k++) {
+				int key = random.nextInt();
+				while (!used.add(key)) {
+					key = random.nextInt();
+				}
+				keys[k] = key;
+			}
+			return keys;
+		}
+	},
+	COLLIDING {
+		@Override
+		Object[] keys(int count, long seed) {
+			var keys = new Object[count];
+			for (int k = 0; k < count; k++) {
+				keys[k] = new CollidingKey(k);
+			}
+			return keys;
+		}
+	};
+
+	static final int COLLISION_GROUP = 16;
+
+	abstract Object[] keys(int count, long seed);
+
+	record CollidingKey(int id) {
+
+		@Override
+		public int hashCode() {
+			return id / COLLISION_GROUP;
+		}
+
+	}
+
+}
@@ -0,0 +1,89 @@
+package org.training.datastructures.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.training.datastructures.benchmark.ListImplementation.ListAdapter;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ListBenchmark {
+
+	private static final int INDEX_COUNT = 1 << 10;
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	private int size;
+
+	@Param
+	private ListImplementation implementation;
+
+	private ListAdapter list;
+	private Integer[] values;
+	private int[] indexes;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		values = new Integer[size];
+		for (int k = 0; k < size; k++) {
+			values[k] = k;
+		}
+		list = implementation.create();
+		for (Integer value : values) {
+			list.add(value);
+		}
+		var random = new Random(42);
+		indexes = new int[INDEX_COUNT];
+		for (int k = 0; k < INDEX_COUNT; k++) {
+			indexes[k] = random.nextInt(size);
+		}
+	}
+
+	private int nextIndex() {
+		return indexes[cursor++ & (INDEX_COUNT - 1)];
+	}
+
+	@Benchmark
+	public Integer get() {
+		return list.get(nextIndex());
+	}
+
+	@Benchmark
+	public Integer removeAndInsert() {
+		final int index = nextIndex();
+		final Integer value = list.remove(index);
+		list.add(index, value);
+		return value;
+	}
+
+	@Benchmark
+	public long iterate() {
+		return list.sum();
+	}
+
+	@Benchmark
+	public ListAdapter fill() {
+		var newList = implementation.create();
+		for (Integer value : values) {
+			newList.add(value);
+		}
+		return newList;
+	}
+
+}
@@ -0,0 +1,123 @@
+package org.training.datastructures.benchmark;
+
+import org.training.datastructures.list.ArrayList;
+import org.training.datastructures.list.LinkedList;
+import org.training.datastructures.list.List;
+import org.training.datastructures.list.UnrolledLinkedList;
+
+public enum ListImplementation {
+
+	ARRAY_LIST {
+		@Override
+		ListAdapter create() {
+			return new ProjectListAdapter(new ArrayList<>());
+		}
+	},
+	LINKED_LIST {
+		@Override
+		ListAdapter create() {
+			return new ProjectListAdapter(new LinkedList<>());
+		}
+	},
+	UNROLLED_LINKED_LIST {
+		@Override
+		ListAdapter create() {
+			return new ProjectListAdapter(new UnrolledLinkedList<>());
+		}
+	},
+	JDK_ARRAY_LIST {
+		@Override
+		ListAdapter create() {
+			return new JdkListAdapter(new java.util.ArrayList<>());
+		}
+	},
+	JDK_LINKED_LIST {
+		@Override
+		ListAdapter create() {
+			return new JdkListAdapter(new java.util.LinkedList<>());
+		}
+	};
+
+	abstract ListAdapter create();
+
+	interface ListAdapter {
+
+		void add(Integer value);
+
+		void add(int index, Integer value);
+
+		Integer get(int index);
+
+		Integer remove(int index);
+
+		long sum();
+
+	}
+
+	private record ProjectListAdapter(List<Integer> list) implements ListAdapter {
+
+		@Override
+		public void add(Integer value) {
+			list.add(value);
+		}
+
+		@Override
+		public void add(int index, Integer value) {
+			list.add(value, index);
+		}
+
+		@Override
+		public Integer get(int index) {
+			return list.get(index);
+		}
+
+		@Override
+		public Integer remove(int index) {
+			return list.remove(index);
+		}
+
+		@Override
+		public long sum() {
+			long sum = 0;
+			for (Integer value : list) {
+				sum += value;
+			}
+			return sum;
+		}
+
+	}
+
+	private record JdkListAdapter(java.util.List<Integer> list) implements ListAdapter {
+
+		@Override
+		public void add(Integer value) {
+			list.add(value);
+		}
+
+		@Override
+		public void add(int index, Integer value) {
+			list.add(index, value);
+		}
+
+		@Override
+		public Integer get(int index) {
+			return list.get(index);
+		}
+
+		@Override
+		public Integer remove(int index) {
+			return list.remove(index);
+		}
+
+		@Override
+		public long sum() {
+			long sum = 0;
+			for (Integer value : list) {
+				sum += value;
+			}
+			return sum;
+		}
+
+	}
+
+}
@@ -0,0 +1,105 @@
+package org.training.datastructures.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.training.datastructures.benchmark.MapImplementation.MapAdapter;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class MapBenchmark {
+
+	private static final int PROBE_COUNT = 1 << 12;
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	private int size;
+
+	@Param
+	private MapImplementation implementation;
+
+	@Param
+	private KeyDistribution distribution;
+
+	private MapAdapter map;
+	private Object[] keys;
+	private Object[] hitKeys;
+	private Object[] missKeys;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		var allKeys = distribution.keys(2 * size, 42);
+		keys = new Object[size];
+		System.arraycopy(allKeys, 0, keys, 0, size);
+		map = implementation.create();
+		for (Object key : keys) {
+			map.put(key, key);
+		}
+		var random = new Random(42);
+		hitKeys = new Object[PROBE_COUNT];
+		missKeys = new Object[PROBE_COUNT];
+		for (int k = 0; k < PROBE_COUNT; k++) {
+			hitKeys[k] = allKeys[random.nextInt(size)];
+			missKeys[k] = allKeys[size + random.nextInt(size)];
+		}
+	}
+
+	private int nextProbe() {
+		return cursor++ & (PROBE_COUNT - 1);
+	}
+
+	@Benchmark
+	public Object getHit() {
+		return map.get(hitKeys[nextProbe()]);
+	}
+
+	@Benchmark
+	public Object getMiss() {
+		return map.get(missKeys[nextProbe()]);
+	}
+
+	@Benchmark
+	public Object putReplace() {
+		final Object key = hitKeys[nextProbe()];
+		return map.put(key, key);
+	}
+
+	@Benchmark
+	public Object removeAndPut() {
+		final Object key = hitKeys[nextProbe()];
+		final Object value = map.remove(key);
+		map.put(key, value);
+		return value;
+	}
+
+	@Benchmark
+	public long iterate() {
+		return map.iterate();
+	}
+
+	@Benchmark
+	public MapAdapter fill() {
+		var newMap = implementation.create();
+		for (Object key : keys) {
+			newMap.put(key, key);
+		}
+		return newMap;
+	}
+
+}
@@ -0,0 +1,105 @@
+package org.training.datastructures.benchmark;
+
+import org.training.datastructures.map.HashMap;
+import org.training.datastructures.map.LinkedHashMap;
+import org.training.datastructures.map.Map;
+import org.training.datastructures.map.OpenHashMap;
+
+public enum MapImplementation {
+
+	HASH_MAP {
+		@Override
+		MapAdapter create() {
+			return new ProjectMapAdapter(new HashMap<>());
+		}
+	},
+	LINKED_HASH_MAP {
+		@Override
+		MapAdapter create() {
+			return new ProjectMapAdapter(new LinkedHashMap<>());
+		}
+	},
+	OPEN_HASH_MAP {
+		@Override
+		MapAdapter create() {
+			return new ProjectMapAdapter(new OpenHashMap<>());
+		}
+	},
+	JDK_HASH_MAP {
+		@Override
+		MapAdapter create() {
+			return new JdkMapAdapter(new java.util.HashMap<>());
+		}
+	};
+
+	abstract MapAdapter create();
+
+	interface MapAdapter {
+
+		Object get(Object key);
+
+		Object put(Object key, Object value);
+
+		Object remove(Object key);
+
+		long iterate();
+
+	}
+
+	private record ProjectMapAdapter(Map<Object, Object> map) implements MapAdapter {
+
+		@Override
+		public Object get(Object key) {
+			return map.get(key);
+		}
+
+		@Override
+		public Object put(Object key, Object value) {
+			return map.put(key, value);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			return map.remove(key);
+		}
+
+		@Override
+		public long iterate() {
+			long count = 0;
+			for (var entry : map) {
+				count += entry.getValue().hashCode();
+			}
+			return count;
+		}
+
+	}
+
+	private record JdkMapAdapter(java.util.Map<Object, Object> map) implements MapAdapter {
+
+		@Override
+		public Object get(Object key) {
+			return map.get(key);
+		}
+
+		@Override
+		public Object put(Object key, Object value) {
+			return map.put(key, value);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			return map.remove(key);
+		}
+
+		@Override
+		public long iterate() {
+			long count = 0;
+			for (var entry : map.entrySet()) {
+				count += entry.getValue().hashCode();
+			}
+			return count;
+		}
+
+	}
+
+}
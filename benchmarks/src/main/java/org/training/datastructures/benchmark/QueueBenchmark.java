@@ -0,0 +1,130 @@
+package org.training.datastructures.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.training.datastructures.list.ArrayDeque;
+import org.training.datastructures.list.LinkedList;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class QueueBenchmark {
+
+	public enum QueueImplementation {
+
+		ARRAY_DEQUE {
+			@Override
+			QueueAdapter create() {
+				var deque = new ArrayDeque<Integer>();
+				return new QueueAdapter() {
+
+					@Override
+					public void offer(Integer value) {
+						deque.addLast(value);
+					}
+
+					@Override
+					public Integer poll() {
+						return deque.pollFirst();
+					}
+
+				};
+			}
+		},
+		LINKED_LIST {
+			@Override
+			QueueAdapter create() {
+				var list = new LinkedList<Integer>();
+				return new QueueAdapter() {
+
+					@Override
+					public void offer(Integer value) {
+						list.add(value);
+					}
+
+					@Override
+					public Integer poll() {
+						return list.isEmpty() ? null : list.remove(0);
+					}
+
+				};
+			}
+		},
+		JDK_ARRAY_DEQUE {
+			@Override
+			QueueAdapter create() {
+				var deque = new java.util.ArrayDeque<Integer>();
+				return new QueueAdapter() {
+
+					@Override
+					public void offer(Integer value) {
+						deque.offerLast(value);
+					}
+
+					@Override
+					public Integer poll() {
+						return deque.pollFirst();
+					}
+
+				};
+			}
+		};
+
+		abstract QueueAdapter create();
+
+	}
+
+	interface QueueAdapter {
+
+		void offer(Integer value);
+
+		Integer poll();
+
+	}
+
+	@Param({ "16", "1024", "65536" })
+	private int backlog;
+
+	@Param
+	private QueueImplementation implementation;
+
+	private QueueAdapter queue;
+	private Integer[] values;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		values = new Integer[backlog];
+		for (int k = 0; k < backlog; k++) {
+			values[k] = k;
+		}
+		queue = implementation.create();
+	}
+
+	@Benchmark
+	public long fillAndDrain() {
+		for (Integer value : values) {
+			queue.offer(value);
+		}
+		long sum = 0;
+		for (Integer value = queue.poll(); value != null; value = queue.poll()) {
+			sum += value;
+		}
+		return sum;
+	}
+
+}
@@ -0,0 +1,77 @@
+package org.training.datastructures.benchmark;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class TransferBacklog {
+
+	private static final int STRIDE = 16;
+	private static final int COUNT = 0;
+	private static final int ALLOWANCE = 1;
+
+	private final int capacity;
+	private final int producers;
+	private final int consumers;
+	private final AtomicLongArray slots;
+
+	TransferBacklog(int capacity, int producers, int consumers) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException(String.format("capacity %d should be greater 0", capacity));
+		}
+		if (producers <= 0 || consumers <= 0) {
+			throw new IllegalArgumentException(
+					String.format("producers %d and consumers %d should be greater 0", producers, consumers));
+		}
+		this.capacity = capacity;
+		this.producers = producers;
+		this.consumers = consumers;
+		slots = new AtomicLongArray((producers + consumers + 2) * STRIDE);
+	}
+
+	private int producerSlot(int producer) {
+		return (producer + 1) * STRIDE;
+	}
+
+	private int consumerSlot(int consumer) {
+		return (producers + consumer + 1) * STRIDE;
+	}
+
+	boolean hasRoom(int producer) {
+		final int slot = producerSlot(producer);
+		return slots.getPlain(slot + ALLOWANCE) > 0 || refill(slot);
+	}
+
+	private boolean refill(int slot) {
+		long granted = 0;
+		for (int k = 0; k < producers; k++) {
+			granted += slots.getAcquire(producerSlot(k) + COUNT);
+		}
+		long polled = 0;
+		for (int k = 0; k < consumers; k++) {
+			polled += slots.getAcquire(consumerSlot(k) + COUNT);
+		}
+		final long allowance = (capacity - (granted - polled)) / producers;
+		if (allowance <= 0) {
+			return false;
+		}
+		slots.setPlain(slot + ALLOWANCE, allowance);
+		slots.setRelease(slot + COUNT, slots.getPlain(slot + COUNT) + allowance);
+		return true;
+	}
+
+	void offered(int producer) {
+		final int slot = producerSlot(producer) + ALLOWANCE;
+		slots.setPlain(slot, slots.getPlain(slot) - 1);
+	}
+
+	void polled(int consumer) {
+		final int slot = consumerSlot(consumer) + COUNT;
+		slots.setRelease(slot, slots.getPlain(slot) + 1);
+	}
+
+	void reset() {
+		for (int k = 0; k < slots.length(); k++) {
+			slots.set(k, 0);
+		}
+	}
+
+}
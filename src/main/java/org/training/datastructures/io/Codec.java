@@ -0,0 +1,40 @@
+package org.training.datastructures.io;
+
+import java.nio.ByteBuffer;
+
+public interface Codec<T> {
+
+	int VARIABLE_SIZE = -1;
+
+	Codec<Integer> INT = new FixedSizeCodec<>(Integer.BYTES, ByteBuffer::putInt, ByteBuffer::getInt);
+	Codec<Long> LONG = new FixedSizeCodec<>(Long.BYTES, ByteBuffer::putLong, ByteBuffer::getLong);
+	Codec<Double> DOUBLE = new FixedSizeCodec<>(Double.BYTES, ByteBuffer::putDouble, ByteBuffer::getDouble);
+	Codec<String> STRING = new StringCodec();
+
+	int fixedSize();
+
+	default boolean isFixedSize() {
+		return fixedSize() != VARIABLE_SIZE;
+	}
+
+	default int minSize() {
+		return isFixedSize() ? fixedSize() : 0;
+	}
+
+	default int sizeOf(T value) {
+		return fixedSize();
+	}
+
+	void write(T value, ByteBuffer buffer);
+
+	T read(ByteBuffer buffer);
+
+	default void write(T value, ByteBuffer buffer, int index) {
+		write(value, buffer.duplicate().position(index));
+	}
+
+	default T read(ByteBuffer buffer, int index) {
+		return read(buffer.duplicate().position(index));
+	}
+
+}
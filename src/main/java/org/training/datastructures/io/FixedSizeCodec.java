@@ -0,0 +1,50 @@
+package org.training.datastructures.io;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+record FixedSizeCodec<T>(int fixedSize, IndexedWriter<T> writer, IndexedReader<T> reader) implements Codec<T> {
+
+	@FunctionalInterface
+	interface IndexedWriter<T> {
+		void write(ByteBuffer buffer, int index, T value);
+	}
+
+	@FunctionalInterface
+	interface IndexedReader<T> {
+		T read(ByteBuffer buffer, int index);
+	}
+
+	@Override
+	public void write(T value, ByteBuffer buffer) {
+		final int position = buffer.position();
+		if (buffer.limit() - position < fixedSize) {
+			throw new BufferOverflowException();
+		}
+		writer.write(buffer, position, value);
+		buffer.position(position + fixedSize);
+	}
+
+	@Override
+	public T read(ByteBuffer buffer) {
+		final int position = buffer.position();
+		if (buffer.limit() - position < fixedSize) {
+			throw new BufferUnderflowException();
+		}
+		final T value = reader.read(buffer, position);
+		buffer.position(position + fixedSize);
+		return value;
+	}
+
+	@Override
+	public void write(T value, ByteBuffer buffer, int index) {
+		writer.write(buffer, index, value);
+	}
+
+	@Override
+	public T read(ByteBuffer buffer, int index) {
+		return reader.read(buffer, index);
+	}
+
+}
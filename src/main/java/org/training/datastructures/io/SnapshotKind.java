@@ -0,0 +1,5 @@
+package org.training.datastructures.io;
+
+public enum SnapshotKind {
+	MAP, LIST
+}
@@ -0,0 +1,109 @@
+package org.training.datastructures.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+public final class SnapshotReader {
+
+	private static final int MAX_UNVERIFIED_COUNT = 1 << 16;
+
+	private final ReadableByteChannel channel;
+	private final CRC32 checksum = new CRC32();
+	private final int count;
+	private ByteBuffer buffer = ByteBuffer.allocateDirect(SnapshotWriter.BUFFER_BYTES).flip();
+	private int checked;
+
+	public SnapshotReader(ReadableByteChannel channel, SnapshotKind kind) throws IOException {
+		this.channel = Objects.requireNonNull(channel, "channel should be specified");
+		Objects.requireNonNull(kind, "snapshot kind should be specified");
+		require(4 * Integer.BYTES);
+		final int magic = buffer.getInt();
+		final int version = buffer.getInt();
+		if (magic != SnapshotWriter.MAGIC || version != SnapshotWriter.VERSION) {
+			throw new IllegalStateException(String.format("unsupported snapshot format %x version %d", magic, version));
+		}
+		final int storedKind = buffer.getInt();
+		if (storedKind != kind.ordinal()) {
+			throw new IllegalStateException(String.format("snapshot of kind %d can't be read as %s", storedKind, kind));
+		}
+		count = buffer.getInt();
+		if (count < 0) {
+			throw new IllegalStateException(String.format("record count %d should not be negative", count));
+		}
+	}
+
+	public int count() {
+		return count;
+	}
+
+	public int expectedCount(int minRecordBytes) throws IOException {
+		long bound = MAX_UNVERIFIED_COUNT;
+		if (minRecordBytes > 0 && channel instanceof SeekableByteChannel seekable) {
+			final long available = seekable.size() - seekable.position() + buffer.remaining() - Integer.BYTES;
+			bound = Math.max(0, available / minRecordBytes);
+		}
+		return (int) Math.min(count, bound);
+	}
+
+	public <T> T read(Codec<T> codec) throws IOException {
+		if (codec.isFixedSize()) {
+			require(codec.fixedSize());
+			return codec.read(buffer);
+		}
+		while (true) {
+			final int start = buffer.position();
+			try {
+				return codec.read(buffer);
+			} catch (BufferUnderflowException e) {
+				buffer.position(start);
+				if (!fill()) {
+					throw new EOFException("snapshot ended inside a record");
+				}
+			}
+		}
+	}
+
+	public void finish() throws IOException {
+		updateChecksum();
+		require(Integer.BYTES);
+		final int expected = buffer.getInt();
+		if (expected != (int) checksum.getValue()) {
+			throw new IllegalStateException("snapshot checksum mismatch");
+		}
+	}
+
+	private void require(int bytes) throws IOException {
+		while (buffer.remaining() < bytes) {
+			if (!fill()) {
+				throw new EOFException("snapshot ended unexpectedly");
+			}
+		}
+	}
+
+	private boolean fill() throws IOException {
+		updateChecksum();
+		buffer.compact();
+		checked = 0;
+		if (!buffer.hasRemaining()) {
+			final var grown = ByteBuffer.allocateDirect(2 * buffer.capacity());
+			buffer.flip();
+			grown.put(buffer);
+			buffer = grown;
+		}
+		final int read = channel.read(buffer);
+		buffer.flip();
+		return read >= 0;
+	}
+
+	private void updateChecksum() {
+		checksum.update(buffer.duplicate().limit(buffer.position()).position(checked));
+		checked = buffer.position();
+	}
+
+}
@@ -0,0 +1,66 @@
+package org.training.datastructures.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+public final class SnapshotWriter {
+
+	static final int MAGIC = 0x44535350;
+	static final int VERSION = 1;
+	static final int BUFFER_BYTES = 1 << 16;
+
+	private final WritableByteChannel channel;
+	private final CRC32 checksum = new CRC32();
+	private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+	private boolean finished;
+
+	public SnapshotWriter(WritableByteChannel channel, SnapshotKind kind, int count) {
+		this.channel = Objects.requireNonNull(channel, "channel should be specified");
+		Objects.requireNonNull(kind, "snapshot kind should be specified");
+		if (count < 0) {
+			throw new IllegalArgumentException(String.format("record count %d should not be negative", count));
+		}
+		buffer.putInt(MAGIC).putInt(VERSION).putInt(kind.ordinal()).putInt(count);
+	}
+
+	public <T> void write(T value, Codec<T> codec) throws IOException {
+		Objects.requireNonNull(value, "snapshot doesn't support null values");
+		if (finished) {
+			throw new IllegalStateException("snapshot is already finished");
+		}
+		final int size = codec.sizeOf(value);
+		if (buffer.remaining() < size) {
+			flush();
+			if (buffer.capacity() < size) {
+				buffer = ByteBuffer.allocateDirect(size);
+			}
+		}
+		codec.write(value, buffer);
+	}
+
+	public void finish() throws IOException {
+		if (finished) {
+			throw new IllegalStateException("snapshot is already finished");
+		}
+		flush();
+		buffer.putInt((int) checksum.getValue());
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		finished = true;
+	}
+
+	private void flush() throws IOException {
+		buffer.flip();
+		checksum.update(buffer.duplicate());
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+}
@@ -0,0 +1,62 @@
+package org.training.datastructures.io;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+final class StringCodec implements Codec<String> {
+
+	@Override
+	public int fixedSize() {
+		return VARIABLE_SIZE;
+	}
+
+	@Override
+	public int minSize() {
+		return Integer.BYTES;
+	}
+
+	@Override
+	public int sizeOf(String value) {
+		int length = 0;
+		for (int k = 0; k < value.length(); k++) {
+			final char c = value.charAt(k);
+			if (c < 0x80) {
+				length++;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(c) && k + 1 < value.length()
+					&& Character.isLowSurrogate(value.charAt(k + 1))) {
+				length += 4;
+				k++;
+			} else if (Character.isSurrogate(c)) {
+				length++;
+			} else {
+				length += 3;
+			}
+		}
+		return Integer.BYTES + length;
+	}
+
+	@Override
+	public void write(String value, ByteBuffer buffer) {
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		buffer.putInt(bytes.length);
+		buffer.put(bytes);
+	}
+
+	@Override
+	public String read(ByteBuffer buffer) {
+		final int length = buffer.getInt();
+		if (length < 0) {
+			throw new IllegalStateException(String.format("string length %d should not be negative", length));
+		}
+		if (length > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		final byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
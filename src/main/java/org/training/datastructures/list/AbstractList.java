@@ -2,6 +2,8 @@ package org.training.datastructures.list;
 
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 public abstract class AbstractList<E> implements List<E> {
 
@@ -10,6 +12,52 @@ public abstract class AbstractList<E> implements List<E> {
 		add(value, size());
 	}
 
+	@Override
+	public void addAll(List<? extends E> source) {
+		addAll(source, size());
+	}
+
+	@Override
+	public void addAll(List<? extends E> source, int index) {
+		final var i = listIterator(index);
+		for (Object value : source.toArray()) {
+			i.add((E) value);
+		}
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, size());
+		final var i = listIterator(fromIndex);
+		for (int k = fromIndex; k < toIndex; k++) {
+			i.next();
+			i.remove();
+		}
+	}
+
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		Objects.requireNonNull(filter);
+		boolean removed = false;
+		final var i = listIterator();
+		while (i.hasNext()) {
+			if (filter.test(i.next())) {
+				i.remove();
+				removed = true;
+			}
+		}
+		return removed;
+	}
+
+	@Override
+	public void replaceAll(UnaryOperator<E> operator) {
+		Objects.requireNonNull(operator);
+		final var i = listIterator();
+		while (i.hasNext()) {
+			i.set(operator.apply(i.next()));
+		}
+	}
+
 	@Override
 	public void clear() {
 		final var i = listIterator();
@@ -0,0 +1,286 @@
+package org.training.datastructures.list;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static java.lang.System.arraycopy;
+
+public class ArrayDeque<E> extends AbstractList<E> {
+
+	static final int INITIAL_CAPACITY = 16;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private Object[] elements;
+	private int head;
+	private int size;
+
+	public ArrayDeque() {
+		this(INITIAL_CAPACITY);
+	}
+
+	public ArrayDeque(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException(String.format("initial capacity %d should be greater 0", capacity));
+		}
+		elements = new Object[tableSizeFor(capacity)];
+	}
+
+	public ArrayDeque(E... data) {
+		this(Math.max(data.length, INITIAL_CAPACITY));
+		arraycopy(data, 0, elements, 0, data.length);
+		size = data.length;
+	}
+
+	private static int tableSizeFor(int capacity) {
+		if (capacity >= MAXIMUM_CAPACITY) {
+			return MAXIMUM_CAPACITY;
+		}
+		return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+	}
+
+	int capacity() {
+		return elements.length;
+	}
+
+	private int slot(int index) {
+		return (head + index) & (elements.length - 1);
+	}
+
+	private void growIfFull() {
+		if (size < elements.length) {
+			return;
+		}
+		if (elements.length >= MAXIMUM_CAPACITY) {
+			throw new IllegalStateException("deque capacity limit reached");
+		}
+		final var newElements = new Object[elements.length << 1];
+		final int headLength = elements.length - head;
+		arraycopy(elements, head, newElements, 0, headLength);
+		arraycopy(elements, 0, newElements, headLength, head);
+		elements = newElements;
+		head = 0;
+	}
+
+	public void addFirst(E value) {
+		growIfFull();
+		head = (head - 1) & (elements.length - 1);
+		elements[head] = value;
+		size++;
+	}
+
+	public void addLast(E value) {
+		growIfFull();
+		elements[slot(size)] = value;
+		size++;
+	}
+
+	public E pollFirst() {
+		if (size == 0) {
+			return null;
+		}
+		final E value = (E) elements[head];
+		elements[head] = null;
+		head = (head + 1) & (elements.length - 1);
+		size--;
+		return value;
+	}
+
+	public E pollLast() {
+		if (size == 0) {
+			return null;
+		}
+		final int tail = slot(size - 1);
+		final E value = (E) elements[tail];
+		elements[tail] = null;
+		size--;
+		return value;
+	}
+
+	public E peek() {
+		return peekFirst();
+	}
+
+	public E peekFirst() {
+		return size == 0 ? null : (E) elements[head];
+	}
+
+	public E peekLast() {
+		return size == 0 ? null : (E) elements[slot(size - 1)];
+	}
+
+	@Override
+	public void add(E value) {
+		addLast(value);
+	}
+
+	@Override
+	public void add(E value, int index) {
+		Objects.checkIndex(index, size + 1);
+		if (index == 0) {
+			addFirst(value);
+			return;
+		}
+		growIfFull();
+		if (index < size / 2) {
+			head = (head - 1) & (elements.length - 1);
+			for (int k = 0; k < index; k++) {
+				elements[slot(k)] = elements[slot(k + 1)];
+			}
+		} else {
+			for (int k = size; k > index; k--) {
+				elements[slot(k)] = elements[slot(k - 1)];
+			}
+		}
+		elements[slot(index)] = value;
+		size++;
+	}
+
+	@Override
+	public E remove(int index) {
+		Objects.checkIndex(index, size);
+		final E value = (E) elements[slot(index)];
+		if (index < size / 2) {
+			for (int k = index; k > 0; k--) {
+				elements[slot(k)] = elements[slot(k - 1)];
+			}
+			elements[head] = null;
+			head = (head + 1) & (elements.length - 1);
+		} else {
+			for (int k = index; k < size - 1; k++) {
+				elements[slot(k)] = elements[slot(k + 1)];
+			}
+			elements[slot(size - 1)] = null;
+		}
+		size--;
+		return value;
+	}
+
+	@Override
+	public E get(int index) {
+		Objects.checkIndex(index, size);
+		return (E) elements[slot(index)];
+	}
+
+	@Override
+	public E set(E value, int index) {
+		Objects.checkIndex(index, size);
+		final int slot = slot(index);
+		final E oldValue = (E) elements[slot];
+		elements[slot] = value;
+		return oldValue;
+	}
+
+	@Override
+	public void clear() {
+		for (int k = 0; k < size; k++) {
+			elements[slot(k)] = null;
+		}
+		head = 0;
+		size = 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Object[] toArray() {
+		final var data = new Object[size];
+		final int headLength = Math.min(size, elements.length - head);
+		arraycopy(elements, head, data, 0, headLength);
+		arraycopy(elements, 0, data, headLength, size - headLength);
+		return data;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return listIterator();
+	}
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return new DequeIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator(int index) {
+		return new DequeIterator(index);
+	}
+
+	private class DequeIterator implements ListIterator<E> {
+		private int index;
+		private int lastIndex = -1;
+
+		private DequeIterator(int index) {
+			Objects.checkIndex(index, size + 1);
+			this.index = index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < size;
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("no more next elements");
+			}
+			lastIndex = index;
+			return (E) elements[slot(index++)];
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return index > 0;
+		}
+
+		@Override
+		public E previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException("no more previous elements");
+			}
+			lastIndex = --index;
+			return (E) elements[slot(index)];
+		}
+
+		@Override
+		public int nextIndex() {
+			return index;
+		}
+
+		@Override
+		public int previousIndex() {
+			return index - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (lastIndex < 0) {
+				throw new IllegalStateException("either 'next' or 'previous' should be called first");
+			}
+			ArrayDeque.this.remove(lastIndex);
+			index = lastIndex;
+			lastIndex = -1;
+		}
+
+		@Override
+		public void set(E e) {
+			if (lastIndex < 0) {
+				throw new IllegalStateException("either 'next' or 'previous' should be called first");
+			}
+			elements[slot(lastIndex)] = e;
+		}
+
+		@Override
+		public void add(E e) {
+			ArrayDeque.this.add(e, index++);
+			lastIndex = -1;
+		}
+
+	}
+
+}
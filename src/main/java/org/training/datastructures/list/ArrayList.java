@@ -1,37 +1,56 @@
 package org.training.datastructures.list;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import static java.lang.System.arraycopy;
 
+import org.training.datastructures.io.Codec;
+import org.training.datastructures.io.SnapshotKind;
+import org.training.datastructures.io.SnapshotReader;
+import org.training.datastructures.io.SnapshotWriter;
+
 public class ArrayList<E> implements List<E> {
 
 	static final int INITIAL_CAPACITY = 10;
+	static final GrowthPolicy DEFAULT_GROWTH_POLICY = GrowthPolicy.geometric(1.5);
 
 	private Object[] chunk;
 	private int size;
+	private final GrowthPolicy growthPolicy;
 
 	public ArrayList() {
 		this(INITIAL_CAPACITY);
 	}
 
 	public ArrayList(int capacity) {
+		this(capacity, DEFAULT_GROWTH_POLICY);
+	}
+
+	public ArrayList(int capacity, GrowthPolicy growthPolicy) {
 		if (capacity <= 0) {
 			throw new IllegalArgumentException("initial capacity should be positive value");
 		}
+		this.growthPolicy = Objects.requireNonNull(growthPolicy, "growth policy should be specified");
 		chunk = new Object[capacity];
 		size = 0;
 	}
 
 	public ArrayList(E... data) {
-		chunk = new Object[getNewCapacity(data.length)];
+		growthPolicy = DEFAULT_GROWTH_POLICY;
+		chunk = Arrays.copyOf(data, data.length, Object[].class);
 		size = data.length;
-		arraycopy(data, 0, chunk, 0, size);
 	}
 
 	public Object[] toArray() {
@@ -52,7 +71,38 @@ public class ArrayList<E> implements List<E> {
 	}
 
 	int getNewCapacity(int requestedCapacity) {
-		return requestedCapacity * 3 / 2;
+		return growthPolicy.newCapacity(chunk.length, requestedCapacity);
+	}
+
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > chunk.length) {
+			chunk = Arrays.copyOf(chunk, getNewCapacity(minCapacity));
+		}
+	}
+
+	public void writeSnapshot(WritableByteChannel channel, Codec<E> codec) throws IOException {
+		final var writer = new SnapshotWriter(channel, SnapshotKind.LIST, size);
+		for (int k = 0; k < size; k++) {
+			writer.write((E) chunk[k], codec);
+		}
+		writer.finish();
+	}
+
+	public static <E> ArrayList<E> readSnapshot(ReadableByteChannel channel, Codec<E> codec) throws IOException {
+		final var reader = new SnapshotReader(channel, SnapshotKind.LIST);
+		final int count = reader.count();
+		final var list = new ArrayList<E>(Math.max(1, reader.expectedCount(codec.minSize())));
+		for (int k = 0; k < count; k++) {
+			list.add(reader.read(codec));
+		}
+		reader.finish();
+		return list;
+	}
+
+	public void trimToSize() {
+		if (size < chunk.length) {
+			chunk = Arrays.copyOf(chunk, size);
+		}
 	}
 
 	private void shiftInsert(E value, int insertIndex) {
@@ -76,6 +126,67 @@ public class ArrayList<E> implements List<E> {
 		}
 	}
 
+	@Override
+	public void addAll(List<? extends E> source) {
+		addAll(source, size);
+	}
+
+	@Override
+	public void addAll(List<? extends E> source, int index) {
+		Objects.checkIndex(index, size + 1);
+		final Object[] data = source.toArray();
+		final int count = data.length;
+		if (count == 0) {
+			return;
+		}
+		if (count <= capacity() - size) {
+			arraycopy(chunk, index, chunk, index + count, size - index);
+			arraycopy(data, 0, chunk, index, count);
+		} else {
+			Object[] newChunk = new Object[getNewCapacity(size + count)];
+			arraycopy(chunk, 0, newChunk, 0, index);
+			arraycopy(data, 0, newChunk, index, count);
+			arraycopy(chunk, index, newChunk, index + count, size - index);
+			chunk = newChunk;
+		}
+		size += count;
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, size);
+		arraycopy(chunk, toIndex, chunk, fromIndex, size - toIndex);
+		final int newSize = size - (toIndex - fromIndex);
+		Arrays.fill(chunk, newSize, size, null);
+		size = newSize;
+	}
+
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		Objects.requireNonNull(filter);
+		int kept = 0;
+		for (int k = 0; k < size; k++) {
+			final E value = (E) chunk[k];
+			if (!filter.test(value)) {
+				chunk[kept++] = value;
+			}
+		}
+		if (kept == size) {
+			return false;
+		}
+		Arrays.fill(chunk, kept, size, null);
+		size = kept;
+		return true;
+	}
+
+	@Override
+	public void replaceAll(UnaryOperator<E> operator) {
+		Objects.requireNonNull(operator);
+		for (int k = 0; k < size; k++) {
+			chunk[k] = operator.apply((E) chunk[k]);
+		}
+	}
+
 	private E removeShift(int removeIndex) {
 		E value = (E) chunk[removeIndex];
 		arraycopy(chunk, removeIndex + 1, chunk, removeIndex, size - removeIndex - 1);
@@ -105,8 +216,8 @@ public class ArrayList<E> implements List<E> {
 
 	@Override
 	public void clear() {
+		Arrays.fill(chunk, 0, size, null);
 		size = 0;
-		Arrays.fill(chunk, null);
 	}
 
 	@Override
@@ -176,6 +287,62 @@ public class ArrayList<E> implements List<E> {
 		return new ListIteratorImpl(index);
 	}
 
+	@Override
+	public Spliterator<E> spliterator() {
+		return new ArrayListSpliterator(0, size);
+	}
+
+	private final class ArrayListSpliterator implements Spliterator<E> {
+		private int index;
+		private final int fence;
+
+		private ArrayListSpliterator(int index, int fence) {
+			this.index = index;
+			this.fence = fence;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			if (index >= fence) {
+				return false;
+			}
+			action.accept((E) chunk[index++]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			final Object[] data = chunk;
+			for (; index < fence; index++) {
+				action.accept((E) data[index]);
+			}
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			final int middle = (index + fence) >>> 1;
+			if (middle <= index) {
+				return null;
+			}
+			final var prefix = new ArrayListSpliterator(index, middle);
+			index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED;
+		}
+
+	}
+
 	private class ListIteratorImpl implements ListIterator<E> {
 		private int index;
 
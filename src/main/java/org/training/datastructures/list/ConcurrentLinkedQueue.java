@@ -0,0 +1,166 @@
+package org.training.datastructures.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+public class ConcurrentLinkedQueue<E> implements Iterable<E> {
+
+	private static final VarHandle HEAD;
+	private static final VarHandle TAIL;
+	private static final VarHandle NEXT;
+
+	static {
+		try {
+			final var lookup = MethodHandles.lookup();
+			HEAD = lookup.findVarHandle(ConcurrentLinkedQueue.class, "head", Node.class);
+			TAIL = lookup.findVarHandle(ConcurrentLinkedQueue.class, "tail", Node.class);
+			NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private static class Node<E> {
+		private volatile E data;
+		private volatile Node<E> next;
+
+		private Node(E data) {
+			this.data = data;
+		}
+	}
+
+	private volatile Node<E> head;
+	private volatile Node<E> tail;
+
+	public ConcurrentLinkedQueue() {
+		head = tail = new Node<>(null);
+	}
+
+	public ConcurrentLinkedQueue(E... data) {
+		this();
+		for (E value : data) {
+			offer(value);
+		}
+	}
+
+	public void offer(E value) {
+		final var node = new Node<>(Objects.requireNonNull(value, "queue doesn't support null elements"));
+		while (true) {
+			final Node<E> last = tail;
+			final Node<E> next = last.next;
+			if (last != tail) {
+				continue;
+			}
+			if (next == null) {
+				if (NEXT.compareAndSet(last, null, node)) {
+					TAIL.compareAndSet(this, last, node);
+					return;
+				}
+			} else {
+				TAIL.compareAndSet(this, last, next);
+			}
+		}
+	}
+
+	public E poll() {
+		while (true) {
+			final Node<E> first = head;
+			final Node<E> last = tail;
+			final Node<E> next = first.next;
+			if (first != head) {
+				continue;
+			}
+			if (next == null) {
+				return null;
+			}
+			if (first == last) {
+				TAIL.compareAndSet(this, last, next);
+				continue;
+			}
+			final E value = next.data;
+			if (HEAD.compareAndSet(this, first, next)) {
+				next.data = null;
+				return value;
+			}
+		}
+	}
+
+	public E peek() {
+		for (Node<E> node = head.next; node != null; node = node.next) {
+			final E value = node.data;
+			if (value != null) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	public boolean isEmpty() {
+		return peek() == null;
+	}
+
+	public int size() {
+		int size = 0;
+		for (Node<E> node = head.next; node != null; node = node.next) {
+			if (node.data != null && ++size == Integer.MAX_VALUE) {
+				break;
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new QueueIterator();
+	}
+
+	@Override
+	public String toString() {
+		final var join = new StringJoiner(",", "[", "]");
+		for (E e : this) {
+			join.add(e.toString());
+		}
+		return join.toString();
+	}
+
+	private final class QueueIterator implements Iterator<E> {
+
+		private Node<E> node = head;
+		private E nextValue;
+
+		private QueueIterator() {
+			advance();
+		}
+
+		private void advance() {
+			nextValue = null;
+			while (nextValue == null && node != null) {
+				node = node.next;
+				if (node != null) {
+					nextValue = node.data;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextValue != null;
+		}
+
+		@Override
+		public E next() {
+			if (nextValue == null) {
+				throw new NoSuchElementException("no more elements in queue");
+			}
+			final E value = nextValue;
+			advance();
+			return value;
+		}
+
+	}
+
+}
@@ -0,0 +1,172 @@
+package org.training.datastructures.list;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.StringJoiner;
+
+import static java.lang.System.arraycopy;
+
+public class DoubleList {
+
+	static final int INITIAL_CAPACITY = 10;
+	private static final GrowthPolicy GROWTH_POLICY = ArrayList.DEFAULT_GROWTH_POLICY;
+
+	private double[] chunk;
+	private int size;
+
+	public DoubleList() {
+		this(INITIAL_CAPACITY);
+	}
+
+	public DoubleList(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("initial capacity should be positive value");
+		}
+		chunk = new double[capacity];
+		size = 0;
+	}
+
+	public static DoubleList of(double... data) {
+		var list = new DoubleList(GROWTH_POLICY.newCapacity(data.length, data.length));
+		arraycopy(data, 0, list.chunk, 0, data.length);
+		list.size = data.length;
+		return list;
+	}
+
+	public double[] toArray() {
+		return Arrays.copyOf(chunk, size);
+	}
+
+	int capacity() {
+		return chunk.length;
+	}
+
+	private int getNewCapacity(int requestedCapacity) {
+		return GROWTH_POLICY.newCapacity(chunk.length, requestedCapacity);
+	}
+
+	private void expandInsert(int requestedCapacity, double value, int insertIndex) {
+		double[] newChunk = new double[getNewCapacity(requestedCapacity)];
+		arraycopy(chunk, 0, newChunk, 0, insertIndex);
+		newChunk[insertIndex] = value;
+		arraycopy(chunk, insertIndex, newChunk, insertIndex + 1, size - insertIndex);
+		chunk = newChunk;
+		size++;
+	}
+
+	private void shiftInsert(double value, int insertIndex) {
+		arraycopy(chunk, insertIndex, chunk, insertIndex + 1, size - insertIndex);
+		chunk[insertIndex] = value;
+		size++;
+	}
+
+	public void add(double value) {
+		add(value, size);
+	}
+
+	public void add(double value, int index) {
+		Objects.checkIndex(index, size + 1);
+		if (size < chunk.length) {
+			shiftInsert(value, index);
+		} else {
+			expandInsert(size + 1, value, index);
+		}
+	}
+
+	public double remove(int index) {
+		Objects.checkIndex(index, size);
+		double value = chunk[index];
+		arraycopy(chunk, index + 1, chunk, index, size - index - 1);
+		size--;
+		return value;
+	}
+
+	public double get(int index) {
+		Objects.checkIndex(index, size);
+		return chunk[index];
+	}
+
+	public double set(double value, int index) {
+		final double oldValue = get(index);
+		chunk[index] = value;
+		return oldValue;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size <= 0;
+	}
+
+	public boolean contains(double value) {
+		return indexOf(value) >= 0;
+	}
+
+	public int indexOf(double value) {
+		return indexOf(value, 0);
+	}
+
+	public int indexOf(double value, int startIndex) {
+		for (int k = startIndex; k < size; k++) {
+			if (matches(chunk[k], value))
+				return k;
+		}
+		return -1;
+	}
+
+	public int lastIndexOf(double value) {
+		return lastIndexOf(value, size - 1);
+	}
+
+	public int lastIndexOf(double value, int startIndex) {
+		for (int k = Math.min(startIndex, size - 1); k >= 0; k--) {
+			if (matches(chunk[k], value))
+				return k;
+		}
+		return -1;
+	}
+
+	private static boolean matches(double element, double value) {
+		return Double.doubleToLongBits(element) == Double.doubleToLongBits(value);
+	}
+
+	public PrimitiveIterator.OfDouble iterator() {
+		return new DoubleIteratorImpl();
+	}
+
+	@Override
+	public String toString() {
+		final var join = new StringJoiner(",", "[", "]");
+		for (int k = 0; k < size; k++) {
+			join.add(String.valueOf(chunk[k]));
+		}
+		return join.toString();
+	}
+
+	private class DoubleIteratorImpl implements PrimitiveIterator.OfDouble {
+		private int index;
+
+		@Override
+		public boolean hasNext() {
+			return index < size;
+		}
+
+		@Override
+		public double nextDouble() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("no more next elements");
+			}
+			return chunk[index++];
+		}
+
+	}
+
+}
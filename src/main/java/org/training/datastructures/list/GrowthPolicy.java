@@ -0,0 +1,43 @@
+package org.training.datastructures.list;
+
+public interface GrowthPolicy {
+
+	int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	int newCapacity(int currentCapacity, int requiredCapacity);
+
+	static GrowthPolicy geometric(double factor) {
+		return geometric(factor, MAX_ARRAY_SIZE);
+	}
+
+	static GrowthPolicy geometric(double factor, int maxIncrement) {
+		return new GeometricGrowth(factor, maxIncrement);
+	}
+
+	record GeometricGrowth(double factor, int maxIncrement) implements GrowthPolicy {
+
+		private static final int MIN_INCREMENT = 4;
+
+		public GeometricGrowth {
+			if (!(factor > 1)) {
+				throw new IllegalArgumentException(String.format("growth factor %10.2f should be greater 1", factor));
+			}
+			if (maxIncrement <= 0) {
+				throw new IllegalArgumentException(
+						String.format("maximum increment %d should be greater 0", maxIncrement));
+			}
+		}
+
+		@Override
+		public int newCapacity(int currentCapacity, int requiredCapacity) {
+			if (requiredCapacity < 0 || requiredCapacity > MAX_ARRAY_SIZE) {
+				throw new IllegalStateException("list capacity limit reached");
+			}
+			final long increment = Math.min(maxIncrement,
+					Math.max(MIN_INCREMENT, (long) (currentCapacity * (factor - 1))));
+			return (int) Math.min(MAX_ARRAY_SIZE, Math.max(requiredCapacity, currentCapacity + increment));
+		}
+
+	}
+
+}
@@ -0,0 +1,168 @@
+package org.training.datastructures.list;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.StringJoiner;
+
+import static java.lang.System.arraycopy;
+
+public class IntList {
+
+	static final int INITIAL_CAPACITY = 10;
+	private static final GrowthPolicy GROWTH_POLICY = ArrayList.DEFAULT_GROWTH_POLICY;
+
+	private int[] chunk;
+	private int size;
+
+	public IntList() {
+		this(INITIAL_CAPACITY);
+	}
+
+	public IntList(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("initial capacity should be positive value");
+		}
+		chunk = new int[capacity];
+		size = 0;
+	}
+
+	public static IntList of(int... data) {
+		var list = new IntList(GROWTH_POLICY.newCapacity(data.length, data.length));
+		arraycopy(data, 0, list.chunk, 0, data.length);
+		list.size = data.length;
+		return list;
+	}
+
+	public int[] toArray() {
+		return Arrays.copyOf(chunk, size);
+	}
+
+	int capacity() {
+		return chunk.length;
+	}
+
+	private int getNewCapacity(int requestedCapacity) {
+		return GROWTH_POLICY.newCapacity(chunk.length, requestedCapacity);
+	}
+
+	private void expandInsert(int requestedCapacity, int value, int insertIndex) {
+		int[] newChunk = new int[getNewCapacity(requestedCapacity)];
+		arraycopy(chunk, 0, newChunk, 0, insertIndex);
+		newChunk[insertIndex] = value;
+		arraycopy(chunk, insertIndex, newChunk, insertIndex + 1, size - insertIndex);
+		chunk = newChunk;
+		size++;
+	}
+
+	private void shiftInsert(int value, int insertIndex) {
+		arraycopy(chunk, insertIndex, chunk, insertIndex + 1, size - insertIndex);
+		chunk[insertIndex] = value;
+		size++;
+	}
+
+	public void add(int value) {
+		add(value, size);
+	}
+
+	public void add(int value, int index) {
+		Objects.checkIndex(index, size + 1);
+		if (size < chunk.length) {
+			shiftInsert(value, index);
+		} else {
+			expandInsert(size + 1, value, index);
+		}
+	}
+
+	public int remove(int index) {
+		Objects.checkIndex(index, size);
+		int value = chunk[index];
+		arraycopy(chunk, index + 1, chunk, index, size - index - 1);
+		size--;
+		return value;
+	}
+
+	public int get(int index) {
+		Objects.checkIndex(index, size);
+		return chunk[index];
+	}
+
+	public int set(int value, int index) {
+		final int oldValue = get(index);
+		chunk[index] = value;
+		return oldValue;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size <= 0;
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	public int indexOf(int value) {
+		return indexOf(value, 0);
+	}
+
+	public int indexOf(int value, int startIndex) {
+		for (int k = startIndex; k < size; k++) {
+			if (chunk[k] == value)
+				return k;
+		}
+		return -1;
+	}
+
+	public int lastIndexOf(int value) {
+		return lastIndexOf(value, size - 1);
+	}
+
+	public int lastIndexOf(int value, int startIndex) {
+		for (int k = Math.min(startIndex, size - 1); k >= 0; k--) {
+			if (chunk[k] == value)
+				return k;
+		}
+		return -1;
+	}
+
+	public PrimitiveIterator.OfInt iterator() {
+		return new IntIteratorImpl();
+	}
+
+	@Override
+	public String toString() {
+		final var join = new StringJoiner(",", "[", "]");
+		for (int k = 0; k < size; k++) {
+			join.add(String.valueOf(chunk[k]));
+		}
+		return join.toString();
+	}
+
+	private class IntIteratorImpl implements PrimitiveIterator.OfInt {
+		private int index;
+
+		@Override
+		public boolean hasNext() {
+			return index < size;
+		}
+
+		@Override
+		public int nextInt() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("no more next elements");
+			}
+			return chunk[index++];
+		}
+
+	}
+
+}
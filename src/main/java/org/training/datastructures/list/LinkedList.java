@@ -1,9 +1,22 @@
 package org.training.datastructures.list;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import org.training.datastructures.io.Codec;
+import org.training.datastructures.io.SnapshotKind;
+import org.training.datastructures.io.SnapshotReader;
+import org.training.datastructures.io.SnapshotWriter;
 
 public class LinkedList<E> extends AbstractList<E> {
 
@@ -17,9 +30,14 @@ public class LinkedList<E> extends AbstractList<E> {
 		}
 	}
 
+	private static final int BATCH_UNIT = 1 << 10;
+	private static final int MAX_BATCH = 1 << 25;
+
 	private int size;
 	private Node<E> head;
 	private Node<E> tail;
+	private Node<E> cachedNode;
+	private int cachedIndex;
 
 	public LinkedList() {
 		size = 0;
@@ -36,30 +54,165 @@ public class LinkedList<E> extends AbstractList<E> {
 
 	@Override
 	public void add(E value, int index) {
-		listIterator(index).add(value);
+		Objects.checkIndex(index, size + 1);
+		final Node<E> successor = index == size ? null : node(index);
+		final var node = new Node<>(value);
+		final Node<E> predecessor = Objects.isNull(successor) ? tail : successor.previous;
+		link(predecessor, node);
+		link(node, successor);
+		size++;
+		cachedNode = node;
+		cachedIndex = index;
+	}
+
+	@Override
+	public void addAll(List<? extends E> source, int index) {
+		Objects.checkIndex(index, size + 1);
+		final Object[] data = source.toArray();
+		if (data.length == 0) {
+			return;
+		}
+		final Node<E> successor = index == size ? null : node(index);
+		Node<E> previous = Objects.isNull(successor) ? tail : successor.previous;
+		for (Object value : data) {
+			var node = new Node<>((E) value);
+			node.previous = previous;
+			if (Objects.isNull(previous)) {
+				head = node;
+			} else {
+				previous.next = node;
+			}
+			previous = node;
+		}
+		previous.next = successor;
+		if (Objects.isNull(successor)) {
+			tail = previous;
+		} else {
+			successor.previous = previous;
+		}
+		size += data.length;
+		invalidateCache();
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, size);
+		if (fromIndex == toIndex) {
+			return;
+		}
+		final Node<E> first = node(fromIndex);
+		final Node<E> before = first.previous;
+		Node<E> after = first;
+		for (int k = fromIndex; k < toIndex; k++) {
+			final Node<E> next = after.next;
+			after.previous = after.next = null;
+			after.data = null;
+			after = next;
+		}
+		link(before, after);
+		size -= toIndex - fromIndex;
+		invalidateCache();
+	}
+
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		Objects.requireNonNull(filter);
+		final int originalSize = size;
+		Node<E> node = head;
+		while (Objects.nonNull(node)) {
+			final Node<E> next = node.next;
+			if (filter.test(node.data)) {
+				link(node.previous, next);
+				size--;
+			}
+			node = next;
+		}
+		invalidateCache();
+		return size != originalSize;
+	}
+
+	@Override
+	public void replaceAll(UnaryOperator<E> operator) {
+		Objects.requireNonNull(operator);
+		for (Node<E> node = head; Objects.nonNull(node); node = node.next) {
+			node.data = operator.apply(node.data);
+		}
+	}
+
+	private Node<E> node(int index) {
+		Node<E> node;
+		if (Objects.nonNull(cachedNode) && Math.abs(index - cachedIndex) < Math.min(index, size - 1 - index)) {
+			node = cachedNode;
+			for (int k = cachedIndex; k < index; k++) {
+				node = node.next;
+			}
+			for (int k = cachedIndex; k > index; k--) {
+				node = node.previous;
+			}
+		} else if (index < size / 2) {
+			node = head;
+			for (int k = 0; k < index; k++) {
+				node = node.next;
+			}
+		} else {
+			node = tail;
+			for (int k = size - 1; k > index; k--) {
+				node = node.previous;
+			}
+		}
+		cachedNode = node;
+		cachedIndex = index;
+		return node;
+	}
+
+	private void invalidateCache() {
+		cachedNode = null;
+		cachedIndex = 0;
+	}
+
+	private void link(Node<E> before, Node<E> after) {
+		if (Objects.isNull(before)) {
+			head = after;
+		} else {
+			before.next = after;
+		}
+		if (Objects.isNull(after)) {
+			tail = before;
+		} else {
+			after.previous = before;
+		}
 	}
 
 	@Override
 	public E remove(int index) {
 		Objects.checkIndex(index, size());
-		var i = listIterator(index);
-		E oldValue = i.next();
-		i.remove();
+		final Node<E> node = node(index);
+		final Node<E> successor = node.next;
+		link(node.previous, successor);
+		size--;
+		if (Objects.isNull(successor)) {
+			invalidateCache();
+		} else {
+			cachedNode = successor;
+		}
+		final E oldValue = node.data;
+		node.previous = node.next = null;
+		node.data = null;
 		return oldValue;
 	}
 
 	@Override
 	public E get(int index) {
 		Objects.checkIndex(index, size());
-		return listIterator(index).next();
+		return node(index).data;
 	}
 
 	@Override
 	public E set(E value, int index) {
 		Objects.checkIndex(index, size());
-		var i = listIterator(index);
-		E oldValue = i.next();
-		i.set(value);
+		final Node<E> node = node(index);
+		final E oldValue = node.data;
+		node.data = value;
 		return oldValue;
 	}
 
@@ -68,6 +221,24 @@ public class LinkedList<E> extends AbstractList<E> {
 		return size;
 	}
 
+	public void writeSnapshot(WritableByteChannel channel, Codec<E> codec) throws IOException {
+		final var writer = new SnapshotWriter(channel, SnapshotKind.LIST, size);
+		for (var node = head; node != null; node = node.next) {
+			writer.write(node.data, codec);
+		}
+		writer.finish();
+	}
+
+	public static <E> LinkedList<E> readSnapshot(ReadableByteChannel channel, Codec<E> codec) throws IOException {
+		final var reader = new SnapshotReader(channel, SnapshotKind.LIST);
+		final var list = new LinkedList<E>();
+		for (int k = reader.count(); k > 0; k--) {
+			list.add(reader.read(codec));
+		}
+		reader.finish();
+		return list;
+	}
+
 	@Override
 	public Iterator<E> iterator() {
 		return listIterator();
@@ -83,6 +254,66 @@ public class LinkedList<E> extends AbstractList<E> {
 		return new LinkedListIterator(index);
 	}
 
+	@Override
+	public Spliterator<E> spliterator() {
+		return new LinkedListSpliterator();
+	}
+
+	private final class LinkedListSpliterator implements Spliterator<E> {
+		private Node<E> current = head;
+		private int remaining = size;
+		private int batch;
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			if (remaining <= 0) {
+				return false;
+			}
+			final E value = current.data;
+			current = current.next;
+			remaining--;
+			action.accept(value);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			for (; remaining > 0; remaining--) {
+				action.accept(current.data);
+				current = current.next;
+			}
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			if (remaining <= 1) {
+				return null;
+			}
+			final int count = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+			final var data = new Object[count];
+			for (int k = 0; k < count; k++) {
+				data[k] = current.data;
+				current = current.next;
+			}
+			batch = count;
+			remaining -= count;
+			return Spliterators.spliterator(data, 0, count, ORDERED);
+		}
+
+		@Override
+		public long estimateSize() {
+			return remaining;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED;
+		}
+
+	}
+
 	private class LinkedListIterator implements ListIterator<E> {
 		private Node<E> nextPointer;
 		private Node<E> prevPointer;
@@ -198,6 +429,7 @@ public class LinkedList<E> extends AbstractList<E> {
 			}
 			actionPointer = null;
 			size--;
+			invalidateCache();
 		}
 
 		private void removeIntermediateNode() {
@@ -248,6 +480,7 @@ public class LinkedList<E> extends AbstractList<E> {
 			}
 			index++;
 			size++;
+			invalidateCache();
 		}
 
 		private void addIntermediateNode(Node<E> node) {
@@ -1,6 +1,10 @@
 package org.training.datastructures.list;
 
 import java.util.ListIterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface List<E> extends Iterable<E> {
 
@@ -8,8 +12,18 @@ public interface List<E> extends Iterable<E> {
 
 	void add(E value, int index);
 
+	void addAll(List<? extends E> source);
+
+	void addAll(List<? extends E> source, int index);
+
 	E remove(int index);
 
+	void removeRange(int fromIndex, int toIndex);
+
+	boolean removeIf(Predicate<? super E> filter);
+
+	void replaceAll(UnaryOperator<E> operator);
+
 	E get(int index);
 
 	E set(E value, int index);
@@ -36,4 +50,12 @@ public interface List<E> extends Iterable<E> {
 
 	ListIterator<E> listIterator(int index);
 
+	default Stream<E> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	default Stream<E> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
 }
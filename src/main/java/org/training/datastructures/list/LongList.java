@@ -0,0 +1,168 @@
+package org.training.datastructures.list;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.StringJoiner;
+
+import static java.lang.System.arraycopy;
+
+public class LongList {
+
+	static final int INITIAL_CAPACITY = 10;
+	private static final GrowthPolicy GROWTH_POLICY = ArrayList.DEFAULT_GROWTH_POLICY;
+
+	private long[] chunk;
+	private int size;
+
+	public LongList() {
+		this(INITIAL_CAPACITY);
+	}
+
+	public LongList(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("initial capacity should be positive value");
+		}
+		chunk = new long[capacity];
+		size = 0;
+	}
+
+	public static LongList of(long... data) {
+		var list = new LongList(GROWTH_POLICY.newCapacity(data.length, data.length));
+		arraycopy(data, 0, list.chunk, 0, data.length);
+		list.size = data.length;
+		return list;
+	}
+
+	public long[] toArray() {
+		return Arrays.copyOf(chunk, size);
+	}
+
+	int capacity() {
+		return chunk.length;
+	}
+
+	private int getNewCapacity(int requestedCapacity) {
+		return GROWTH_POLICY.newCapacity(chunk.length, requestedCapacity);
+	}
+
+	private void expandInsert(int requestedCapacity, long value, int insertIndex) {
+		long[] newChunk = new long[getNewCapacity(requestedCapacity)];
+		arraycopy(chunk, 0, newChunk, 0, insertIndex);
+		newChunk[insertIndex] = value;
+		arraycopy(chunk, insertIndex, newChunk, insertIndex + 1, size - insertIndex);
+		chunk = newChunk;
+		size++;
+	}
+
+	private void shiftInsert(long value, int insertIndex) {
+		arraycopy(chunk, insertIndex, chunk, insertIndex + 1, size - insertIndex);
+		chunk[insertIndex] = value;
+		size++;
+	}
+
+	public void add(long value) {
+		add(value, size);
+	}
+
+	public void add(long value, int index) {
+		Objects.checkIndex(index, size + 1);
+		if (size < chunk.length) {
+			shiftInsert(value, index);
+		} else {
+			expandInsert(size + 1, value, index);
+		}
+	}
+
+	public long remove(int index) {
+		Objects.checkIndex(index, size);
+		long value = chunk[index];
+		arraycopy(chunk, index + 1, chunk, index, size - index - 1);
+		size--;
+		return value;
+	}
+
+	public long get(int index) {
+		Objects.checkIndex(index, size);
+		return chunk[index];
+	}
+
+	public long set(long value, int index) {
+		final long oldValue = get(index);
+		chunk[index] = value;
+		return oldValue;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size <= 0;
+	}
+
+	public boolean contains(long value) {
+		return indexOf(value) >= 0;
+	}
+
+	public int indexOf(long value) {
+		return indexOf(value, 0);
+	}
+
+	public int indexOf(long value, int startIndex) {
+		for (int k = startIndex; k < size; k++) {
+			if (chunk[k] == value)
+				return k;
+		}
+		return -1;
+	}
+
+	public int lastIndexOf(long value) {
+		return lastIndexOf(value, size - 1);
+	}
+
+	public int lastIndexOf(long value, int startIndex) {
+		for (int k = Math.min(startIndex, size - 1); k >= 0; k--) {
+			if (chunk[k] == value)
+				return k;
+		}
+		return -1;
+	}
+
+	public PrimitiveIterator.OfLong iterator() {
+		return new LongIteratorImpl();
+	}
+
+	@Override
+	public String toString() {
+		final var join = new StringJoiner(",", "[", "]");
+		for (int k = 0; k < size; k++) {
+			join.add(String.valueOf(chunk[k]));
+		}
+		return join.toString();
+	}
+
+	private class LongIteratorImpl implements PrimitiveIterator.OfLong {
+		private int index;
+
+		@Override
+		public boolean hasNext() {
+			return index < size;
+		}
+
+		@Override
+		public long nextLong() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("no more next elements");
+			}
+			return chunk[index++];
+		}
+
+	}
+
+}
@@ -0,0 +1,153 @@
+package org.training.datastructures.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+public class SpscArrayQueue<E> extends SpscConsumerFields {
+
+	private static final VarHandle HEAD;
+	private static final VarHandle TAIL;
+
+	static {
+		try {
+			final var lookup = MethodHandles.lookup();
+			HEAD = lookup.findVarHandle(SpscConsumerFields.class, "head", long.class);
+			TAIL = lookup.findVarHandle(SpscProducerFields.class, "tail", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	long p10, p11, p12, p13, p14, p15, p16, p17;
+	long p20, p21, p22, p23, p24, p25, p26, p27;
+
+	public SpscArrayQueue(int capacity) {
+		super(capacity);
+	}
+
+	public int capacity() {
+		return elements.length;
+	}
+
+	public boolean offer(E value) {
+		Objects.requireNonNull(value, "queue doesn't support null elements");
+		final long currentTail = (long) TAIL.getOpaque(this);
+		if (currentTail - cachedHead >= elements.length) {
+			cachedHead = (long) HEAD.getAcquire(this);
+			if (currentTail - cachedHead >= elements.length) {
+				return false;
+			}
+		}
+		elements[(int) currentTail & mask] = value;
+		TAIL.setRelease(this, currentTail + 1);
+		return true;
+	}
+
+	public E poll() {
+		final long currentHead = (long) HEAD.getOpaque(this);
+		if (currentHead >= cachedTail) {
+			cachedTail = (long) TAIL.getAcquire(this);
+			if (currentHead >= cachedTail) {
+				return null;
+			}
+		}
+		final int slot = (int) currentHead & mask;
+		final E value = (E) elements[slot];
+		elements[slot] = null;
+		HEAD.setRelease(this, currentHead + 1);
+		return value;
+	}
+
+	public E peek() {
+		final long currentHead = (long) HEAD.getOpaque(this);
+		if (currentHead >= (long) TAIL.getAcquire(this)) {
+			return null;
+		}
+		return (E) elements[(int) currentHead & mask];
+	}
+
+	public int size() {
+		while (true) {
+			final long before = head;
+			final long currentTail = tail;
+			if (head == before) {
+				return (int) (currentTail - before);
+			}
+		}
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+}
+
+abstract class SpscQueueFields {
+
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	final Object[] elements;
+	final int mask;
+
+	SpscQueueFields(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException(String.format("capacity %d should be greater 0", capacity));
+		}
+		if (capacity > MAXIMUM_CAPACITY) {
+			throw new IllegalArgumentException(
+					String.format("capacity %d should not exceed %d", capacity, MAXIMUM_CAPACITY));
+		}
+		elements = new Object[tableSizeFor(capacity)];
+		mask = elements.length - 1;
+	}
+
+	private static int tableSizeFor(int capacity) {
+		return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+	}
+
+}
+
+abstract class SpscProducerPadding extends SpscQueueFields {
+
+	long p00, p01, p02, p03, p04, p05, p06, p07;
+	long p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+
+	SpscProducerPadding(int capacity) {
+		super(capacity);
+	}
+
+}
+
+abstract class SpscProducerFields extends SpscProducerPadding {
+
+	volatile long tail;
+	long cachedHead;
+
+	SpscProducerFields(int capacity) {
+		super(capacity);
+	}
+
+}
+
+abstract class SpscConsumerPadding extends SpscProducerFields {
+
+	long p00, p01, p02, p03, p04, p05, p06, p07;
+	long p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+
+	SpscConsumerPadding(int capacity) {
+		super(capacity);
+	}
+
+}
+
+abstract class SpscConsumerFields extends SpscConsumerPadding {
+
+	volatile long head;
+	long cachedTail;
+
+	SpscConsumerFields(int capacity) {
+		super(capacity);
+	}
+
+}
@@ -0,0 +1,322 @@
+package org.training.datastructures.list;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import static java.lang.System.arraycopy;
+
+public class UnrolledLinkedList<E> extends AbstractList<E> {
+
+	static final int NODE_CAPACITY = 32;
+
+	private static class Node<E> {
+		private final Object[] elements;
+		private int count;
+		private Node<E> previous;
+		private Node<E> next;
+
+		private Node(int capacity) {
+			elements = new Object[capacity];
+		}
+	}
+
+	private final int nodeCapacity;
+	private int size;
+	private Node<E> head;
+	private Node<E> tail;
+
+	public UnrolledLinkedList() {
+		this(NODE_CAPACITY);
+	}
+
+	public UnrolledLinkedList(int nodeCapacity) {
+		if (nodeCapacity < 2) {
+			throw new IllegalArgumentException(
+					String.format("node capacity %d should be greater or equal to 2", nodeCapacity));
+		}
+		this.nodeCapacity = nodeCapacity;
+	}
+
+	public UnrolledLinkedList(E... data) {
+		this();
+		var i = listIterator();
+		for (E e : data) {
+			i.add(e);
+		}
+	}
+
+	@Override
+	public void add(E value, int index) {
+		listIterator(index).add(value);
+	}
+
+	@Override
+	public E remove(int index) {
+		Objects.checkIndex(index, size);
+		var i = listIterator(index);
+		E oldValue = i.next();
+		i.remove();
+		return oldValue;
+	}
+
+	@Override
+	public E get(int index) {
+		Objects.checkIndex(index, size);
+		return listIterator(index).next();
+	}
+
+	@Override
+	public E set(E value, int index) {
+		Objects.checkIndex(index, size);
+		var i = listIterator(index);
+		E oldValue = i.next();
+		i.set(value);
+		return oldValue;
+	}
+
+	@Override
+	public void clear() {
+		head = tail = null;
+		size = 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	int nodeCount() {
+		int count = 0;
+		for (var node = head; node != null; node = node.next) {
+			count++;
+		}
+		return count;
+	}
+
+	@Override
+	public Object[] toArray() {
+		final var data = new Object[size];
+		int index = 0;
+		for (var node = head; node != null; node = node.next) {
+			arraycopy(node.elements, 0, data, index, node.count);
+			index += node.count;
+		}
+		return data;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return listIterator();
+	}
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return new UnrolledListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator(int index) {
+		return new UnrolledListIterator(index);
+	}
+
+	@Override
+	public Spliterator<E> spliterator() {
+		return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+	}
+
+	private void linkAfter(Node<E> node, Node<E> newNode) {
+		newNode.previous = node;
+		newNode.next = node.next;
+		if (node.next == null) {
+			tail = newNode;
+		} else {
+			node.next.previous = newNode;
+		}
+		node.next = newNode;
+	}
+
+	private void unlink(Node<E> node) {
+		if (node.previous == null) {
+			head = node.next;
+		} else {
+			node.previous.next = node.next;
+		}
+		if (node.next == null) {
+			tail = node.previous;
+		} else {
+			node.next.previous = node.previous;
+		}
+		node.previous = node.next = null;
+	}
+
+	private void split(Node<E> node) {
+		final int half = node.count / 2;
+		final var newNode = new Node<E>(nodeCapacity);
+		newNode.count = node.count - half;
+		arraycopy(node.elements, half, newNode.elements, 0, newNode.count);
+		for (int k = half; k < node.count; k++) {
+			node.elements[k] = null;
+		}
+		node.count = half;
+		linkAfter(node, newNode);
+	}
+
+	private void rebalance(Node<E> node) {
+		final var next = node.next;
+		if (node.count >= nodeCapacity / 2 || next == null) {
+			return;
+		}
+		if (next.count > nodeCapacity / 2) {
+			node.elements[node.count++] = next.elements[0];
+			arraycopy(next.elements, 1, next.elements, 0, next.count - 1);
+			next.elements[--next.count] = null;
+		} else {
+			arraycopy(next.elements, 0, node.elements, node.count, next.count);
+			node.count += next.count;
+			unlink(next);
+		}
+	}
+
+	private class UnrolledListIterator implements ListIterator<E> {
+		private Node<E> current;
+		private int offset;
+		private int index;
+		private Node<E> actionNode;
+		private int actionOffset;
+		private boolean actionAfterNext;
+
+		private UnrolledListIterator(int startIndex) {
+			Objects.checkIndex(startIndex, size + 1);
+			moveTo(startIndex);
+		}
+
+		private void moveTo(int moveToIndex) {
+			index = moveToIndex;
+			if (moveToIndex < size / 2) {
+				current = head;
+				offset = moveToIndex;
+				while (offset > current.count) {
+					offset -= current.count;
+					current = current.next;
+				}
+			} else {
+				current = tail;
+				offset = current == null ? 0 : current.count - (size - moveToIndex);
+				while (offset < 0) {
+					current = current.previous;
+					offset += current.count;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < size;
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("no more elements to the right, iterator exhausted");
+			}
+			if (offset == current.count) {
+				current = current.next;
+				offset = 0;
+			}
+			actionNode = current;
+			actionOffset = offset;
+			actionAfterNext = true;
+			index++;
+			return (E) current.elements[offset++];
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return index > 0;
+		}
+
+		@Override
+		public E previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException("no more elements to the left, iterator exhausted");
+			}
+			if (offset == 0) {
+				current = current.previous;
+				offset = current.count;
+			}
+			actionNode = current;
+			actionOffset = --offset;
+			actionAfterNext = false;
+			index--;
+			return (E) current.elements[offset];
+		}
+
+		@Override
+		public int nextIndex() {
+			return index;
+		}
+
+		@Override
+		public int previousIndex() {
+			return index - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (Objects.isNull(actionNode)) {
+				throw new IllegalStateException("either 'next' or 'previous' should be called first");
+			}
+			final var node = actionNode;
+			arraycopy(node.elements, actionOffset + 1, node.elements, actionOffset, node.count - actionOffset - 1);
+			node.elements[--node.count] = null;
+			rebalance(node);
+			current = node;
+			offset = actionOffset;
+			if (node.count == 0) {
+				current = node.previous;
+				offset = current == null ? 0 : current.count;
+				unlink(node);
+			}
+			if (actionAfterNext) {
+				index--;
+			}
+			actionNode = null;
+			size--;
+		}
+
+		@Override
+		public void set(E e) {
+			if (Objects.isNull(actionNode)) {
+				throw new IllegalStateException("either 'next' or 'previous' should be called first");
+			}
+			actionNode.elements[actionOffset] = e;
+		}
+
+		@Override
+		public void add(E e) {
+			if (Objects.isNull(current)) {
+				head = tail = current = new Node<>(nodeCapacity);
+				offset = 0;
+			}
+			if (current.count == nodeCapacity) {
+				split(current);
+				if (offset > current.count) {
+					offset -= current.count;
+					current = current.next;
+				}
+			}
+			arraycopy(current.elements, offset, current.elements, offset + 1, current.count - offset);
+			current.elements[offset++] = e;
+			current.count++;
+			actionNode = null;
+			index++;
+			size++;
+		}
+
+	}
+
+}
@@ -0,0 +1,538 @@
+package org.training.datastructures.map;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public abstract class AbstractMap<K, V> implements Map<K, V> {
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> m) {
+		for (var entry : m) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	@Override
+	public V getOrDefault(K key, V defaultValue) {
+		final V value = get(key);
+		return value != null || containsKey(key) ? value : defaultValue;
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		final V originalValue = get(key);
+		return originalValue == null ? put(key, value) : originalValue;
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		Objects.requireNonNull(mappingFunction);
+		final V originalValue = get(key);
+		if (originalValue != null) {
+			return originalValue;
+		}
+		final V value = mappingFunction.apply(key);
+		if (value != null) {
+			put(key, value);
+		}
+		return value;
+	}
+
+	@Override
+	public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(remappingFunction);
+		final V originalValue = get(key);
+		final V value = remappingFunction.apply(key, originalValue);
+		if (value != null) {
+			put(key, value);
+		} else if (originalValue != null || containsKey(key)) {
+			remove(key);
+		}
+		return value;
+	}
+
+	@Override
+	public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(remappingFunction);
+		final V originalValue = get(key);
+		final V newValue = originalValue == null ? value : remappingFunction.apply(originalValue, value);
+		if (newValue == null) {
+			remove(key);
+		} else {
+			put(key, newValue);
+		}
+		return newValue;
+	}
+
+	@Override
+	public boolean containsValue(V value) {
+		var i = iterator();
+		while (i.hasNext()) {
+			var entry = i.next();
+			if (Objects.equals(entry.getValue(), value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner join = new StringJoiner(",", "[", "]");
+		for (var entry : this) {
+			join.add(entry.getKey() + "=" + entry.getValue());
+		}
+		return join.toString();
+	}
+
+	@Override
+	public int hashCode() {
+		return entrySet().hashCode();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof Map<?, ?> map) {
+			return entrySet().equals(map.entrySet());
+		}
+		return false;
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new Set<K>() {
+
+			@Override
+			public int size() {
+				return AbstractMap.this.size();
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return AbstractMap.this.isEmpty();
+			}
+
+			@Override
+			public boolean contains(Object key) {
+				return AbstractMap.this.containsKey((K) key);
+			}
+
+			@Override
+			public Iterator<K> iterator() {
+				return new Iterator<>() {
+
+					private final Iterator<Entry<K, V>> i = AbstractMap.this.iterator();
+
+					@Override
+					public boolean hasNext() {
+						return i.hasNext();
+					}
+
+					@Override
+					public K next() {
+						return i.next().getKey();
+					}
+
+					@Override
+					public void remove() {
+						i.remove();
+					}
+
+				};
+			}
+
+			@Override
+			public Object[] toArray() {
+				Object[] array = new Object[AbstractMap.this.size()];
+				fillInArrayData(array);
+				return array;
+			}
+
+			@Override
+			public K[] toArray(Object[] a) {
+				final int mapSize = AbstractMap.this.size();
+				Object[] array = a.length >= mapSize ? a : new Object[mapSize];
+				fillInArrayData(array);
+				return (K[]) array;
+			}
+
+			private void fillInArrayData(Object[] array) {
+				int k = 0;
+				for (var value : AbstractMap.this) {
+					array[k++] = value;
+				}
+			}
+
+			@Override
+			public boolean add(Object e) {
+				throw new UnsupportedOperationException("backing set for keys doesn't support 'add' operation");
+			}
+
+			@Override
+			public boolean remove(Object key) {
+				return AbstractMap.this.remove((K) key) != null;
+			}
+
+			@Override
+			public boolean containsAll(Collection<?> collection) {
+				for (var key : collection) {
+					if (!AbstractMap.this.containsKey((K) key)) {
+						return false;
+					}
+				}
+				return true;
+			}
+
+			@Override
+			public boolean addAll(Collection<? extends K> c) {
+				throw new UnsupportedOperationException("backing set for keys doesn't support 'addAll' operation");
+			}
+
+			@Override
+			public boolean retainAll(Collection<?> collection) {
+				boolean changed = false;
+				var i = iterator();
+				while (i.hasNext()) {
+					if (!collection.contains(i.next())) {
+						i.remove();
+						changed = true;
+					}
+				}
+				return changed;
+			}
+
+			@Override
+			public boolean removeAll(Collection<?> collection) {
+				boolean changed = false;
+				var i = iterator();
+				while (i.hasNext()) {
+					if (collection.contains(i.next())) {
+						i.remove();
+						changed = true;
+					}
+				}
+				return changed;
+			}
+
+			@Override
+			public void clear() {
+				AbstractMap.this.clear();
+			}
+
+			@Override
+			public int hashCode() {
+				return Objects.hash(toArray());
+			}
+
+			@Override
+			public boolean equals(Object o) {
+				if (o instanceof Collection<?> collection) {
+					return containsAll(collection) && collection.containsAll(this);
+				}
+				return false;
+			}
+
+			@Override
+			public String toString() {
+				StringJoiner join = new StringJoiner(",", "[", "]");
+				for (var key : this) {
+					join.add(key.toString());
+				}
+				return join.toString();
+			}
+
+		};
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new Set<Entry<K, V>>() {
+
+			@Override
+			public int size() {
+				return AbstractMap.this.size();
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return AbstractMap.this.isEmpty();
+			}
+
+			@Override
+			public boolean contains(Object entry) {
+				return AbstractMap.this.containsKey(((Entry<K, V>) entry).getKey());
+			}
+
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return AbstractMap.this.iterator();
+			}
+
+			@Override
+			public Object[] toArray() {
+				Object[] array = new Object[AbstractMap.this.size()];
+				fillInArrayData(array);
+				return array;
+			}
+
+			@Override
+			public <T> T[] toArray(T[] a) {
+				final int mapSize = AbstractMap.this.size();
+				Object[] array = a.length >= mapSize ? a : new Object[mapSize];
+				fillInArrayData(array);
+				return (T[]) array;
+			}
+
+			private void fillInArrayData(Object[] array) {
+				int k = 0;
+				for (var value : AbstractMap.this) {
+					array[k++] = value;
+				}
+			}
+
+			@Override
+			public boolean add(Entry<K, V> e) {
+				throw new UnsupportedOperationException("backing set for entries doesn't support 'add' operation");
+			}
+
+			@Override
+			public boolean remove(Object entry) {
+				return AbstractMap.this.remove(((Entry<K, V>) entry).getKey()) != null;
+			}
+
+			@Override
+			public boolean containsAll(Collection<?> collection) {
+				for (var entry : collection) {
+					if (!AbstractMap.this.containsKey(((Entry<K, V>) entry).getKey())) {
+						return false;
+					}
+				}
+				return true;
+			}
+
+			@Override
+			public boolean addAll(Collection<? extends Entry<K, V>> c) {
+				throw new UnsupportedOperationException("backing set for entries doesn't support 'addAll' operation");
+			}
+
+			@Override
+			public boolean retainAll(Collection<?> collection) {
+				boolean changed = false;
+				var i = iterator();
+				while (i.hasNext()) {
+					if (!collection.contains(i.next())) {
+						i.remove();
+						changed = true;
+					}
+				}
+				return changed;
+			}
+
+			@Override
+			public boolean removeAll(Collection<?> collection) {
+				boolean changed = false;
+				var i = iterator();
+				while (i.hasNext()) {
+					if (collection.contains(i.next())) {
+						i.remove();
+						changed = true;
+					}
+				}
+				return changed;
+			}
+
+			@Override
+			public void clear() {
+				AbstractMap.this.clear();
+			}
+
+			@Override
+			public int hashCode() {
+				return Objects.hash(toArray());
+			}
+
+			@Override
+			public boolean equals(Object o) {
+				if (o instanceof Collection<?> collection) {
+					return containsAll(collection) && collection.containsAll(this);
+				}
+				return false;
+			}
+
+			@Override
+			public String toString() {
+				StringJoiner join = new StringJoiner(",", "[", "]");
+				for (var entry : this) {
+					join.add(entry.getKey() + "=" + entry.getValue());
+				}
+				return join.toString();
+			}
+
+		};
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new Collection<V>() {
+
+			@Override
+			public int size() {
+				return AbstractMap.this.size();
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return AbstractMap.this.isEmpty();
+			}
+
+			@Override
+			public boolean contains(Object value) {
+				return AbstractMap.this.containsValue((V) value);
+			}
+
+			@Override
+			public Iterator<V> iterator() {
+				return new Iterator<>() {
+
+					private final Iterator<Entry<K, V>> i = AbstractMap.this.iterator();
+
+					@Override
+					public boolean hasNext() {
+						return i.hasNext();
+					}
+
+					@Override
+					public V next() {
+						return i.next().getValue();
+					}
+
+					@Override
+					public void remove() {
+						i.remove();
+					}
+
+				};
+			}
+
+			@Override
+			public Object[] toArray() {
+				Object[] array = new Object[AbstractMap.this.size()];
+				fillInArrayData(array);
+				return array;
+			}
+
+			@Override
+			public <T> T[] toArray(T[] a) {
+				final int mapSize = AbstractMap.this.size();
+				Object[] array = a.length >= mapSize ? a : new Object[mapSize];
+				fillInArrayData(array);
+				return (T[]) array;
+			}
+
+			private void fillInArrayData(Object[] array) {
+				int k = 0;
+				for (var value : AbstractMap.this) {
+					array[k++] = value;
+				}
+			}
+
+			@Override
+			public boolean add(V e) {
+				throw new UnsupportedOperationException("backing set for values doesn't support 'add' operation");
+			}
+
+			@Override
+			public boolean remove(Object value) {
+				var i = iterator();
+				while (i.hasNext()) {
+					if (Objects.equals(i.next(), value)) {
+						i.remove();
+						return true;
+					}
+				}
+				return false;
+			}
+
+			@Override
+			public boolean containsAll(Collection<?> collection) {
+				for (var value : collection) {
+					if (!AbstractMap.this.containsValue((V) value)) {
+						return false;
+					}
+				}
+				return true;
+			}
+
+			@Override
+			public boolean addAll(Collection<? extends V> c) {
+				throw new UnsupportedOperationException("backing set for values doesn't support 'addAll' operation");
+			}
+
+			@Override
+			public boolean removeAll(Collection<?> collection) {
+				boolean changed = false;
+				var i = iterator();
+				while (i.hasNext()) {
+					if (collection.contains(i.next())) {
+						i.remove();
+						changed = true;
+					}
+				}
+				return changed;
+			}
+
+			@Override
+			public boolean retainAll(Collection<?> collection) {
+				boolean changed = false;
+				var i = iterator();
+				while (i.hasNext()) {
+					if (!collection.contains(i.next())) {
+						i.remove();
+						changed = true;
+					}
+				}
+				return changed;
+			}
+
+			@Override
+			public void clear() {
+				AbstractMap.this.clear();
+			}
+
+			@Override
+			public int hashCode() {
+				return Objects.hash(toArray());
+			}
+
+			@Override
+			public boolean equals(Object o) {
+				if (o instanceof Collection<?> collection) {
+					return containsAll(collection) && collection.containsAll(this);
+				}
+				return false;
+			}
+
+			@Override
+			public String toString() {
+				StringJoiner join = new StringJoiner(",", "[", "]");
+				for (var value : this) {
+					join.add(value.toString());
+				}
+				return join.toString();
+			}
+
+		};
+	}
+
+}
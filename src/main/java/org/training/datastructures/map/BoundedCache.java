@@ -0,0 +1,451 @@
+package org.training.datastructures.map;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+public class BoundedCache<K, V> extends AbstractMap<K, V> {
+
+	public enum EvictionPolicy {
+		LRU, WINDOW_TINY_LFU
+	}
+
+	private static final long UNBOUNDED = Long.MAX_VALUE;
+	private static final int WINDOW_PERCENT = 1;
+	private static final int PROTECTED_PERCENT = 80;
+
+	private final CacheMap data = new CacheMap();
+	private final Segment window;
+	private final Segment probation;
+	private final Segment protectedSegment;
+	private final long mainMaximumSize;
+	private final long mainMaximumWeight;
+	private final long maximumWeight;
+	private final ToIntBiFunction<? super K, ? super V> weigher;
+	private final BiConsumer<? super K, ? super V> evictionListener;
+	private final FrequencySketch sketch;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	private BoundedCache(Builder<K, V> builder) {
+		maximumWeight = builder.maximumWeight;
+		weigher = builder.weigher;
+		evictionListener = builder.evictionListener;
+		if (builder.evictionPolicy == EvictionPolicy.LRU) {
+			window = new Segment(builder.maximumSize, builder.maximumWeight);
+			mainMaximumSize = 0;
+			mainMaximumWeight = 0;
+			sketch = null;
+		} else {
+			final long windowSize = budget(builder.maximumSize, WINDOW_PERCENT);
+			final long windowWeight = budget(builder.maximumWeight, WINDOW_PERCENT);
+			window = new Segment(windowSize, windowWeight);
+			mainMaximumSize = builder.maximumSize - windowSize;
+			mainMaximumWeight = builder.maximumWeight - windowWeight;
+			sketch = new FrequencySketch(0);
+		}
+		probation = new Segment(mainMaximumSize, mainMaximumWeight);
+		protectedSegment = new Segment(budget(mainMaximumSize, PROTECTED_PERCENT),
+				budget(mainMaximumWeight, PROTECTED_PERCENT));
+	}
+
+	public static <K, V> Builder<K, V> builder() {
+		return new Builder<>();
+	}
+
+	private static long budget(long maximum, int percent) {
+		return Math.max(1, maximum / 100 * percent + maximum % 100 * percent / 100);
+	}
+
+	private int weigh(K key, V value) {
+		final int weight = weigher.applyAsInt(key, value);
+		if (weight < 0) {
+			throw new IllegalArgumentException(String.format("weight %d of entry should not be negative", weight));
+		}
+		return weight;
+	}
+
+	private void recordAccess(K key) {
+		if (sketch != null) {
+			sketch.increment(key);
+		}
+	}
+
+	@Override
+	public V put(K key, V value) {
+		recordAccess(key);
+		final var entry = (CacheEntry) data.getEntry(key);
+		if (entry == null) {
+			data.put(key, value);
+			return null;
+		}
+		final int weight = weigh(key, value);
+		final V originalValue = entry.value;
+		entry.value = value;
+		entry.segment.reweigh(entry, weight);
+		onAccess(entry);
+		evict(entry);
+		return originalValue;
+	}
+
+	private void onInsert(CacheEntry entry) {
+		if (sketch != null) {
+			sketch.ensureCapacity(data.size());
+		}
+		window.append(entry);
+		evict(entry);
+	}
+
+	private void onAccess(CacheEntry entry) {
+		if (entry.segment == probation) {
+			probation.unlink(entry);
+			protectedSegment.append(entry);
+			while (protectedSegment.isOverBudget()) {
+				final var demoted = protectedSegment.head;
+				protectedSegment.unlink(demoted);
+				probation.append(demoted);
+			}
+		} else {
+			entry.segment.moveToTail(entry);
+		}
+	}
+
+	private boolean isMainOverBudget() {
+		return probation.count + protectedSegment.count > mainMaximumSize
+				|| probation.weight + protectedSegment.weight > mainMaximumWeight;
+	}
+
+	private boolean fitsMain(CacheEntry entry) {
+		return probation.count + protectedSegment.count < mainMaximumSize
+				&& entry.weight <= mainMaximumWeight - probation.weight - protectedSegment.weight;
+	}
+
+	private CacheEntry mainVictim() {
+		return probation.head != null ? probation.head : protectedSegment.head;
+	}
+
+	private void evict(CacheEntry written) {
+		if (written.weight > maximumWeight) {
+			evictEntry(written);
+		}
+		while (isMainOverBudget()) {
+			evictEntry(mainVictim());
+		}
+		while (window.isOverBudget()) {
+			final var candidate = window.head;
+			window.unlink(candidate);
+			admit(candidate);
+		}
+	}
+
+	private void admit(CacheEntry candidate) {
+		while (!fitsMain(candidate) && mainVictim() != null) {
+			final var victim = mainVictim();
+			if (sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+				evictEntry(candidate);
+				return;
+			}
+			evictEntry(victim);
+		}
+		if (fitsMain(candidate)) {
+			probation.append(candidate);
+		} else {
+			evictEntry(candidate);
+		}
+	}
+
+	private void evictEntry(CacheEntry entry) {
+		data.remove(entry.key);
+		evictions++;
+		if (evictionListener != null) {
+			evictionListener.accept(entry.key, entry.value);
+		}
+	}
+
+	@Override
+	public V get(K key) {
+		recordAccess(key);
+		final var entry = (CacheEntry) data.getEntry(key);
+		if (entry == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+		onAccess(entry);
+		return entry.value;
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return data.containsKey(key);
+	}
+
+	@Override
+	public V remove(K key) {
+		return data.remove(key);
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	int sketchCapacity() {
+		return sketch == null ? 0 : sketch.capacity();
+	}
+
+	boolean isProtected(K key) {
+		final var entry = (CacheEntry) data.getEntry(key);
+		return entry != null && entry.segment == protectedSegment;
+	}
+
+	public long weightedSize() {
+		return window.weight + probation.weight + protectedSegment.weight;
+	}
+
+	@Override
+	public void clear() {
+		data.clear();
+		window.clear();
+		probation.clear();
+		protectedSegment.clear();
+	}
+
+	public long hitCount() {
+		return hits;
+	}
+
+	public long missCount() {
+		return misses;
+	}
+
+	public long evictionCount() {
+		return evictions;
+	}
+
+	@Override
+	public Iterator<Entry<K, V>> iterator() {
+		return new CacheIterator();
+	}
+
+	private final class CacheIterator implements Iterator<Entry<K, V>> {
+
+		private Segment segment = probation;
+		private CacheEntry nextEntry = nextSegmentHead();
+		private CacheEntry lastReturned;
+
+		private CacheEntry nextSegmentHead() {
+			while (segment != null) {
+				final var head = segment.head;
+				segment = segment == probation ? protectedSegment : segment == protectedSegment ? window : null;
+				if (head != null) {
+					return head;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextEntry != null;
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			if (nextEntry == null) {
+				throw new NoSuchElementException("no more elements in cache");
+			}
+			lastReturned = nextEntry;
+			nextEntry = nextEntry.after != null ? (CacheEntry) nextEntry.after : nextSegmentHead();
+			return lastReturned;
+		}
+
+		@Override
+		public void remove() {
+			if (lastReturned == null) {
+				throw new IllegalStateException("method 'next' should be called before 'remove'");
+			}
+			BoundedCache.this.remove(lastReturned.key);
+			lastReturned = null;
+		}
+
+	}
+
+	private final class CacheMap extends HashMap<K, V> {
+
+		@Override
+		MapEntry<K, V> newEntry(int hash, K key, V value) {
+			return new CacheEntry(hash, key, value, weigh(key, value));
+		}
+
+		@Override
+		TreeEntry<K, V> newTreeEntry(int hash, K key, V value) {
+			return new CacheEntry(hash, key, value, weigh(key, value));
+		}
+
+		@Override
+		void afterInsert(MapEntry<K, V> entry) {
+			onInsert((CacheEntry) entry);
+		}
+
+		@Override
+		void afterRemove(MapEntry<K, V> entry) {
+			final var cacheEntry = (CacheEntry) entry;
+			if (cacheEntry.segment != null) {
+				cacheEntry.segment.unlink(cacheEntry);
+			}
+		}
+
+	}
+
+	private final class Segment {
+
+		private final long maximumSize;
+		private final long maximumWeight;
+		private CacheEntry head;
+		private CacheEntry tail;
+		private long count;
+		private long weight;
+
+		private Segment(long maximumSize, long maximumWeight) {
+			this.maximumSize = maximumSize;
+			this.maximumWeight = maximumWeight;
+		}
+
+		private boolean isOverBudget() {
+			return count > maximumSize || weight > maximumWeight;
+		}
+
+		private void append(CacheEntry entry) {
+			entry.segment = this;
+			entry.before = tail;
+			entry.after = null;
+			if (tail == null) {
+				head = entry;
+			} else {
+				tail.after = entry;
+			}
+			tail = entry;
+			count++;
+			weight += entry.weight;
+		}
+
+		private void unlink(CacheEntry entry) {
+			if (entry.before == null) {
+				head = (CacheEntry) entry.after;
+			} else {
+				entry.before.after = entry.after;
+			}
+			if (entry.after == null) {
+				tail = (CacheEntry) entry.before;
+			} else {
+				entry.after.before = entry.before;
+			}
+			entry.before = entry.after = null;
+			entry.segment = null;
+			count--;
+			weight -= entry.weight;
+		}
+
+		private void moveToTail(CacheEntry entry) {
+			if (entry != tail) {
+				unlink(entry);
+				append(entry);
+			}
+		}
+
+		private void reweigh(CacheEntry entry, int newWeight) {
+			weight += newWeight - entry.weight;
+			entry.weight = newWeight;
+		}
+
+		private void clear() {
+			head = tail = null;
+			count = 0;
+			weight = 0;
+		}
+
+	}
+
+	private final class CacheEntry extends HashMap.TreeEntry<K, V> {
+
+		private int weight;
+		private Segment segment;
+
+		private CacheEntry(int hash, K key, V value, int weight) {
+			super(hash, key, value);
+			this.weight = weight;
+		}
+
+		@Override
+		public V setValue(V value) {
+			final int newWeight = weigh(key, value);
+			if (newWeight > weight) {
+				throw new IllegalArgumentException(String.format(
+						"weight %d of new value should not exceed current weight %d of entry, use 'put' instead",
+						newWeight, weight));
+			}
+			if (segment != null) {
+				segment.reweigh(this, newWeight);
+			}
+			return super.setValue(value);
+		}
+
+	}
+
+	public static final class Builder<K, V> {
+
+		private long maximumSize = UNBOUNDED;
+		private long maximumWeight = UNBOUNDED;
+		private ToIntBiFunction<? super K, ? super V> weigher = (key, value) -> 1;
+		private BiConsumer<? super K, ? super V> evictionListener;
+		private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+		private Builder() {
+		}
+
+		public Builder<K, V> maximumSize(long maximumSize) {
+			if (maximumSize <= 0) {
+				throw new IllegalArgumentException(String.format("maximum size %d should be greater 0", maximumSize));
+			}
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		public Builder<K, V> maximumWeight(long maximumWeight) {
+			if (maximumWeight <= 0) {
+				throw new IllegalArgumentException(
+						String.format("maximum weight %d should be greater 0", maximumWeight));
+			}
+			this.maximumWeight = maximumWeight;
+			return this;
+		}
+
+		public Builder<K, V> weigher(ToIntBiFunction<? super K, ? super V> weigher) {
+			this.weigher = Objects.requireNonNull(weigher, "weigher should be specified");
+			return this;
+		}
+
+		public Builder<K, V> evictionListener(BiConsumer<? super K, ? super V> evictionListener) {
+			this.evictionListener = Objects.requireNonNull(evictionListener, "eviction listener should be specified");
+			return this;
+		}
+
+		public Builder<K, V> evictionPolicy(EvictionPolicy evictionPolicy) {
+			this.evictionPolicy = Objects.requireNonNull(evictionPolicy, "eviction policy should be specified");
+			return this;
+		}
+
+		public BoundedCache<K, V> build() {
+			if (maximumSize == UNBOUNDED && maximumWeight == UNBOUNDED) {
+				throw new IllegalStateException("either maximum size or maximum weight should be specified");
+			}
+			return new BoundedCache<>(this);
+		}
+
+	}
+
+}
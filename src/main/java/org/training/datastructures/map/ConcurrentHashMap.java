@@ -0,0 +1,606 @@
+package org.training.datastructures.map;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public class ConcurrentHashMap<K, V> extends AbstractMap<K, V> {
+
+	private static final int INITIAL_CAPACITY = 16;
+	private static final double DEFAULT_LOAD_FACTOR = 0.75;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+	private static final int MIN_TRANSFER_STRIDE = 16;
+	private static final int MOVED = -1;
+	private static final int RESERVED = -2;
+	private static final int HASH_BITS = 0x7fffffff;
+	private static final VarHandle TABLE = MethodHandles.arrayElementVarHandle(Node[].class);
+
+	private static class Node<K, V> {
+		private final int hash;
+		private final K key;
+		private volatile V value;
+		private volatile Node<K, V> next;
+
+		private Node(int hash, K key, V value) {
+			this.hash = hash;
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	private static final class ForwardingNode<K, V> extends Node<K, V> {
+		private final Node<K, V>[] nextTable;
+
+		private ForwardingNode(Node<K, V>[] nextTable) {
+			super(MOVED, null, null);
+			this.nextTable = nextTable;
+		}
+	}
+
+	private static final class ReservationNode<K, V> extends Node<K, V> {
+		private ReservationNode() {
+			super(RESERVED, null, null);
+		}
+	}
+
+	private static final class Resize<K, V> {
+		private final Node<K, V>[] source;
+		private final Node<K, V>[] target;
+		private final ForwardingNode<K, V> forward;
+		private final int stride;
+		private final AtomicInteger transferIndex;
+		private final AtomicInteger transferred = new AtomicInteger();
+
+		private Resize(Node<K, V>[] source, Node<K, V>[] target) {
+			this.source = source;
+			this.target = target;
+			this.forward = new ForwardingNode<>(target);
+			this.stride = Math.max(MIN_TRANSFER_STRIDE,
+					source.length / (4 * Runtime.getRuntime().availableProcessors()));
+			this.transferIndex = new AtomicInteger(source.length);
+		}
+	}
+
+	private volatile Node<K, V>[] table;
+	private volatile Resize<K, V> resize;
+	private volatile int threshold;
+	private final Object resizeLock = new Object();
+	private final LongAdder counter = new LongAdder();
+	private final double loadFactor;
+
+	public ConcurrentHashMap() {
+		this(INITIAL_CAPACITY);
+	}
+
+	public ConcurrentHashMap(int capacity) {
+		this(capacity, DEFAULT_LOAD_FACTOR);
+	}
+
+	public ConcurrentHashMap(int capacity, double loadFactor) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException(String.format("initial capacity %d should be greater 0", capacity));
+		}
+		if (loadFactor <= 0) {
+			throw new IllegalArgumentException(
+					String.format("initial load factor %10.2f should be positive value", loadFactor));
+		}
+		this.loadFactor = loadFactor;
+		table = createTable(tableSizeFor(capacity));
+		threshold = thresholdFor(table.length);
+	}
+
+	public ConcurrentHashMap(Map<K, V> map) {
+		this(Math.max(1, (int) Math.ceil(map.size() / DEFAULT_LOAD_FACTOR)));
+		putAll(map);
+	}
+
+	private static int tableSizeFor(int capacity) {
+		if (capacity >= MAXIMUM_CAPACITY) {
+			return MAXIMUM_CAPACITY;
+		}
+		return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+	}
+
+	private int thresholdFor(int capacity) {
+		return (int) Math.min(capacity * loadFactor, Integer.MAX_VALUE);
+	}
+
+	private static <K, V> Node<K, V>[] createTable(int capacity) {
+		return (Node<K, V>[]) new Node<?, ?>[capacity];
+	}
+
+	int capacity() {
+		return table.length;
+	}
+
+	private static int spread(int hash) {
+		return (hash ^ (hash >>> 16)) & HASH_BITS;
+	}
+
+	private static <K, V> Node<K, V> tabAt(Node<K, V>[] tab, int index) {
+		return (Node<K, V>) TABLE.getVolatile(tab, index);
+	}
+
+	private static <K, V> boolean casTabAt(Node<K, V>[] tab, int index, Node<K, V> expected, Node<K, V> node) {
+		return TABLE.compareAndSet(tab, index, expected, node);
+	}
+
+	private static <K, V> void setTabAt(Node<K, V>[] tab, int index, Node<K, V> node) {
+		TABLE.setVolatile(tab, index, node);
+	}
+
+	private static void checkNotReserved(Node<?, ?> head) {
+		if (head instanceof ReservationNode) {
+			throw new IllegalStateException("Recursive update");
+		}
+	}
+
+	@Override
+	public V get(K key) {
+		final int hash = spread(key.hashCode());
+		var tab = table;
+		while (true) {
+			var node = tabAt(tab, hash & (tab.length - 1));
+			if (node instanceof ForwardingNode<K, V> forwardingNode) {
+				tab = forwardingNode.nextTable;
+				continue;
+			}
+			for (; node != null; node = node.next) {
+				if (node.hash == hash && key.equals(node.key)) {
+					return node.value;
+				}
+			}
+			return null;
+		}
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return putValue(key, value, false);
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		return putValue(key, value, true);
+	}
+
+	private V putValue(K key, V value, boolean onlyIfAbsent) {
+		Objects.requireNonNull(value, "concurrent map doesn't support null values");
+		final int hash = spread(key.hashCode());
+		var tab = table;
+		while (true) {
+			final int index = hash & (tab.length - 1);
+			var head = tabAt(tab, index);
+			if (head == null) {
+				if (casTabAt(tab, index, null, new Node<>(hash, key, value))) {
+					addCount();
+					return null;
+				}
+			} else if (head instanceof ForwardingNode<K, V> forwardingNode) {
+				tab = helpTransfer(tab, forwardingNode);
+			} else {
+				V originalValue = null;
+				boolean added = false;
+				synchronized (head) {
+					if (tabAt(tab, index) != head) {
+						continue;
+					}
+					checkNotReserved(head);
+					for (var node = head;; node = node.next) {
+						if (node.hash == hash && key.equals(node.key)) {
+							originalValue = node.value;
+							if (!onlyIfAbsent) {
+								node.value = value;
+							}
+							break;
+						}
+						if (node.next == null) {
+							node.next = new Node<>(hash, key, value);
+							added = true;
+							break;
+						}
+					}
+				}
+				if (added) {
+					addCount();
+				}
+				return originalValue;
+			}
+		}
+	}
+
+	@Override
+	public V getOrDefault(K key, V defaultValue) {
+		final V value = get(key);
+		return value == null ? defaultValue : value;
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		Objects.requireNonNull(mappingFunction);
+		final V value = get(key);
+		if (value != null) {
+			return value;
+		}
+		return compute(key, (k, originalValue) -> originalValue == null ? mappingFunction.apply(k) : originalValue);
+	}
+
+	@Override
+	public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(value, "concurrent map doesn't support null values");
+		Objects.requireNonNull(remappingFunction);
+		return compute(key,
+				(k, originalValue) -> originalValue == null ? value : remappingFunction.apply(originalValue, value));
+	}
+
+	@Override
+	public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(remappingFunction);
+		final int hash = spread(key.hashCode());
+		var tab = table;
+		while (true) {
+			final int index = hash & (tab.length - 1);
+			var head = tabAt(tab, index);
+			V value = null;
+			int delta = 0;
+			if (head == null) {
+				var reservation = new ReservationNode<K, V>();
+				synchronized (reservation) {
+					if (!casTabAt(tab, index, null, reservation)) {
+						continue;
+					}
+					Node<K, V> node = null;
+					try {
+						value = remappingFunction.apply(key, null);
+						if (value != null) {
+							node = new Node<>(hash, key, value);
+							delta = 1;
+						}
+					} finally {
+						setTabAt(tab, index, node);
+					}
+				}
+			} else if (head instanceof ForwardingNode<K, V> forwardingNode) {
+				tab = helpTransfer(tab, forwardingNode);
+				continue;
+			} else {
+				synchronized (head) {
+					if (tabAt(tab, index) != head) {
+						continue;
+					}
+					checkNotReserved(head);
+					Node<K, V> previous = null;
+					var node = head;
+					while (node != null && (node.hash != hash || !key.equals(node.key))) {
+						previous = node;
+						node = node.next;
+					}
+					value = remappingFunction.apply(key, node == null ? null : node.value);
+					if (node == null) {
+						if (value != null) {
+							previous.next = new Node<>(hash, key, value);
+							delta = 1;
+						}
+					} else if (value != null) {
+						node.value = value;
+					} else {
+						if (previous == null) {
+							setTabAt(tab, index, node.next);
+						} else {
+							previous.next = node.next;
+						}
+						delta = -1;
+					}
+				}
+			}
+			if (delta > 0) {
+				addCount();
+			} else if (delta < 0) {
+				counter.decrement();
+			}
+			return value;
+		}
+	}
+
+	@Override
+	public V remove(K key) {
+		final int hash = spread(key.hashCode());
+		var tab = table;
+		while (true) {
+			final int index = hash & (tab.length - 1);
+			var head = tabAt(tab, index);
+			if (head == null) {
+				return null;
+			}
+			if (head instanceof ForwardingNode<K, V> forwardingNode) {
+				tab = helpTransfer(tab, forwardingNode);
+				continue;
+			}
+			V originalValue = null;
+			synchronized (head) {
+				if (tabAt(tab, index) != head) {
+					continue;
+				}
+				checkNotReserved(head);
+				Node<K, V> previous = null;
+				for (var node = head; node != null; previous = node, node = node.next) {
+					if (node.hash == hash && key.equals(node.key)) {
+						originalValue = node.value;
+						if (previous == null) {
+							setTabAt(tab, index, node.next);
+						} else {
+							previous.next = node.next;
+						}
+						break;
+					}
+				}
+			}
+			if (originalValue != null) {
+				counter.decrement();
+			}
+			return originalValue;
+		}
+	}
+
+	@Override
+	public int size() {
+		final long sum = counter.sum();
+		return (int) Math.max(0, Math.min(sum, Integer.MAX_VALUE));
+	}
+
+	@Override
+	public void clear() {
+		var tab = table;
+		int index = 0;
+		while (index < tab.length) {
+			var head = tabAt(tab, index);
+			if (head == null) {
+				index++;
+			} else if (head instanceof ForwardingNode<K, V> forwardingNode) {
+				tab = helpTransfer(tab, forwardingNode);
+				index = 0;
+			} else {
+				synchronized (head) {
+					if (tabAt(tab, index) == head) {
+						checkNotReserved(head);
+						long removed = 0;
+						for (var node = head; node != null; node = node.next) {
+							removed++;
+						}
+						setTabAt(tab, index, null);
+						counter.add(-removed);
+						index++;
+					}
+				}
+			}
+		}
+	}
+
+	private void addCount() {
+		counter.increment();
+		while (true) {
+			var current = resize;
+			if (current == null) {
+				var tab = table;
+				if (counter.sum() <= threshold || tab.length >= MAXIMUM_CAPACITY) {
+					return;
+				}
+				synchronized (resizeLock) {
+					if (resize == null && table == tab) {
+						resize = new Resize<>(tab, createTable(tab.length << 1));
+					}
+				}
+				continue;
+			}
+			transfer(current);
+			if (resize == current) {
+				return;
+			}
+		}
+	}
+
+	private Node<K, V>[] helpTransfer(Node<K, V>[] tab, ForwardingNode<K, V> forwardingNode) {
+		var current = resize;
+		if (current != null && current.source == tab) {
+			transfer(current);
+		}
+		return forwardingNode.nextTable;
+	}
+
+	private void transfer(Resize<K, V> current) {
+		final int length = current.source.length;
+		while (true) {
+			final int end = current.transferIndex.get();
+			if (end <= 0) {
+				return;
+			}
+			final int start = Math.max(0, end - current.stride);
+			if (!current.transferIndex.compareAndSet(end, start)) {
+				continue;
+			}
+			for (int index = end - 1; index >= start; index--) {
+				transferBin(current, index);
+			}
+			if (current.transferred.addAndGet(end - start) == length) {
+				synchronized (resizeLock) {
+					table = current.target;
+					threshold = thresholdFor(current.target.length);
+					resize = null;
+				}
+			}
+		}
+	}
+
+	private void transferBin(Resize<K, V> current, int index) {
+		final int length = current.source.length;
+		while (true) {
+			var head = tabAt(current.source, index);
+			if (head == null) {
+				if (casTabAt(current.source, index, null, current.forward)) {
+					return;
+				}
+				continue;
+			}
+			synchronized (head) {
+				if (tabAt(current.source, index) != head) {
+					continue;
+				}
+				checkNotReserved(head);
+				Node<K, V> low = null;
+				Node<K, V> high = null;
+				for (var node = head; node != null; node = node.next) {
+					var copy = new Node<>(node.hash, node.key, node.value);
+					if ((node.hash & length) == 0) {
+						copy.next = low;
+						low = copy;
+					} else {
+						copy.next = high;
+						high = copy;
+					}
+				}
+				setTabAt(current.target, index, low);
+				setTabAt(current.target, index + length, high);
+				setTabAt(current.source, index, current.forward);
+				return;
+			}
+		}
+	}
+
+	@Override
+	public Iterator<Entry<K, V>> iterator() {
+		return new MapIterator();
+	}
+
+	private static final class TableStack<K, V> {
+		private final Node<K, V>[] table;
+		private final int index;
+		private final TableStack<K, V> next;
+
+		private TableStack(Node<K, V>[] table, int index, TableStack<K, V> next) {
+			this.table = table;
+			this.index = index;
+			this.next = next;
+		}
+	}
+
+	private final class MapIterator implements Iterator<Entry<K, V>> {
+
+		private final Node<K, V>[] baseTable = table;
+		private int baseIndex;
+		private TableStack<K, V> stack;
+		private Node<K, V> nextNode;
+		private K lastReturnedKey;
+
+		private MapIterator() {
+			nextNode = advance(null);
+		}
+
+		private Node<K, V> advance(Node<K, V> node) {
+			if (node != null && node.next != null) {
+				return node.next;
+			}
+			while (true) {
+				Node<K, V>[] tab;
+				int index;
+				if (stack != null) {
+					tab = stack.table;
+					index = stack.index;
+					stack = stack.next;
+				} else if (baseIndex < baseTable.length) {
+					tab = baseTable;
+					index = baseIndex++;
+				} else {
+					return null;
+				}
+				var head = tabAt(tab, index);
+				if (head instanceof ForwardingNode<K, V> forwardingNode) {
+					stack = new TableStack<>(forwardingNode.nextTable, index + tab.length, stack);
+					stack = new TableStack<>(forwardingNode.nextTable, index, stack);
+				} else if (head != null && !(head instanceof ReservationNode)) {
+					return head;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextNode != null;
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			if (nextNode == null) {
+				throw new NoSuchElementException("no more elements in map");
+			}
+			var node = nextNode;
+			nextNode = advance(node);
+			lastReturnedKey = node.key;
+			return new WriteThroughEntry(node.key, node.value);
+		}
+
+		@Override
+		public void remove() {
+			if (lastReturnedKey == null) {
+				throw new IllegalStateException("method 'next' should be called before 'remove'");
+			}
+			ConcurrentHashMap.this.remove(lastReturnedKey);
+			lastReturnedKey = null;
+		}
+
+	}
+
+	private final class WriteThroughEntry implements Entry<K, V> {
+
+		private final K key;
+		private V value;
+
+		private WriteThroughEntry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			V originalValue = this.value;
+			this.value = value;
+			ConcurrentHashMap.this.put(key, value);
+			return originalValue;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(key);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o instanceof Entry<?, ?> entry) {
+				return Objects.equals(key, entry.getKey());
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,93 @@
+package org.training.datastructures.map;
+
+final class FrequencySketch {
+
+	private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L };
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final int MAX_COUNT = 15;
+	private static final int MAXIMUM_CAPACITY = 1 << 26;
+
+	private long[] table;
+	private int tableMask;
+	private int sampleSize;
+	private int additions;
+
+	FrequencySketch(int expectedSize) {
+		table = new long[tableSizeFor(expectedSize)];
+		tableMask = table.length - 1;
+		sampleSize = sampleSizeFor(expectedSize);
+	}
+
+	private static int capacityFor(int expectedSize) {
+		return Math.min(MAXIMUM_CAPACITY, Math.max(16, expectedSize));
+	}
+
+	private static int tableSizeFor(int expectedSize) {
+		return Integer.highestOneBit(capacityFor(expectedSize) - 1) << 1;
+	}
+
+	private static int sampleSizeFor(int expectedSize) {
+		return (int) Math.min(Integer.MAX_VALUE, 10L * capacityFor(expectedSize));
+	}
+
+	int capacity() {
+		return table.length;
+	}
+
+	void ensureCapacity(int expectedSize) {
+		sampleSize = Math.max(sampleSize, sampleSizeFor(expectedSize));
+		final int tableSize = tableSizeFor(expectedSize);
+		if (tableSize <= table.length) {
+			return;
+		}
+		final var newTable = new long[tableSize];
+		for (int k = 0; k < tableSize; k++) {
+			newTable[k] = table[k & tableMask];
+		}
+		table = newTable;
+		tableMask = tableSize - 1;
+	}
+
+	private static long mix(int hash, int row) {
+		final long h = (hash * 0x9E3779B9L + SEEDS[row]) * SEEDS[row];
+		return h ^ (h >>> 29);
+	}
+
+	int frequency(Object element) {
+		final int hash = element.hashCode();
+		int frequency = MAX_COUNT;
+		for (int row = 0; row < SEEDS.length; row++) {
+			final long h = mix(hash, row);
+			final int index = (int) h & tableMask;
+			final int offset = ((int) (h >>> 40) & 15) << 2;
+			frequency = Math.min(frequency, (int) (table[index] >>> offset) & MAX_COUNT);
+		}
+		return frequency;
+	}
+
+	void increment(Object element) {
+		final int hash = element.hashCode();
+		boolean added = false;
+		for (int row = 0; row < SEEDS.length; row++) {
+			final long h = mix(hash, row);
+			final int index = (int) h & tableMask;
+			final int offset = ((int) (h >>> 40) & 15) << 2;
+			if (((table[index] >>> offset) & MAX_COUNT) < MAX_COUNT) {
+				table[index] += 1L << offset;
+				added = true;
+			}
+		}
+		if (added && ++additions >= sampleSize) {
+			reset();
+		}
+	}
+
+	private void reset() {
+		for (int k = 0; k < table.length; k++) {
+			table[k] = (table[k] >>> 1) & RESET_MASK;
+		}
+		additions /= 2;
+	}
+
+}
@@ -1,26 +1,44 @@
 package org.training.datastructures.map;
 
-import java.util.Collection;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
-import java.util.StringJoiner;
-import java.util.function.BiConsumer;
-import org.training.datastructures.list.ArrayList;
-import org.training.datastructures.list.LinkedList;
-import org.training.datastructures.list.List;
-
-public class HashMap<K, V> implements Map<K, V> {
-
-	private static final int INITIAL_CAPACITY = 16;
-	private static final double DEFAULT_LOAD_FACTOR = 0.75;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.training.datastructures.io.Codec;
+import org.training.datastructures.io.SnapshotKind;
+import org.training.datastructures.io.SnapshotReader;
+import org.training.datastructures.io.SnapshotWriter;
+
+public class HashMap<K, V> extends AbstractMap<K, V> {
+
+	static final int INITIAL_CAPACITY = 16;
+	static final double DEFAULT_LOAD_FACTOR = 0.75;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+	private static final int MIGRATION_STEP = 4;
+	private static final int TREEIFY_THRESHOLD = 8;
+	private static final int UNTREEIFY_THRESHOLD = 6;
+	private static final int MIN_TREEIFY_CAPACITY = 64;
+
+	public enum ResizeMode {
+		EAGER, INCREMENTAL
+	}
 
-	private List<? extends List<Entry<K, V>>> buckets;
+	private MapEntry<K, V>[] buckets;
+	private MapEntry<K, V>[] oldBuckets;
+	private int migrationIndex;
 	private final double loadFactor;
+	private final ResizeMode resizeMode;
+	private final HashSpreading hashSpreading;
 	private int size;
+	private HashMapMetrics metrics;
 
 	public HashMap() {
 		this(INITIAL_CAPACITY);
@@ -31,6 +49,14 @@ public class HashMap<K, V> implements Map<K, V> {
 	}
 
 	public HashMap(int capacity, double loadFactor) {
+		this(capacity, loadFactor, ResizeMode.EAGER);
+	}
+
+	public HashMap(int capacity, double loadFactor, ResizeMode resizeMode) {
+		this(capacity, loadFactor, resizeMode, HashSpreading.XOR_SHIFT);
+	}
+
+	public HashMap(int capacity, double loadFactor, ResizeMode resizeMode, HashSpreading hashSpreading) {
 		if (capacity <= 0) {
 			throw new IllegalArgumentException(String.format("initial capacity %d should be greater 0", capacity));
 		}
@@ -39,175 +65,508 @@ public class HashMap<K, V> implements Map<K, V> {
 					String.format("initial load factor %10.2f should be positive value", loadFactor));
 		}
 		this.loadFactor = loadFactor;
-		buckets = createBucketList(capacity);
+		this.resizeMode = Objects.requireNonNull(resizeMode, "resize mode should be specified");
+		this.hashSpreading = Objects.requireNonNull(hashSpreading, "hash spreading should be specified");
+		buckets = createBuckets(tableSizeFor(capacity));
 	}
 
 	public HashMap(Map<K, V> map) {
-		this(map.size());
+		this(capacityFor(map.size(), DEFAULT_LOAD_FACTOR));
 		putAll(map);
 	}
 
-	private List<? extends List<Entry<K, V>>> createBucketList(int capacity) {
-		var newBucketList = new ArrayList<LinkedList<Entry<K, V>>>(capacity);
-		createBuckets(newBucketList, capacity);
-		return newBucketList;
+	public static <K, V> Builder<K, V> builder() {
+		return new Builder<>();
+	}
+
+	private static int capacityFor(int expectedSize, double loadFactor) {
+		return (int) Math.max(1, Math.min(MAXIMUM_CAPACITY, Math.ceil(expectedSize / loadFactor)));
 	}
 
-	private <T extends List<Entry<K, V>>> void createBuckets(List<T> bucketList, int capacity) {
-		for (int k = 0; k < capacity; k++) {
-			bucketList.add((T) new LinkedList<Entry<K, V>>());
+	private static int tableSizeFor(int capacity) {
+		if (capacity >= MAXIMUM_CAPACITY) {
+			return MAXIMUM_CAPACITY;
 		}
+		return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+	}
+
+	int capacity() {
+		return buckets.length;
+	}
+
+	private int hash(K key) {
+		return hashSpreading.spread(key.hashCode());
+	}
+
+	private MapEntry<K, V>[] createBuckets(int capacity) {
+		return (MapEntry<K, V>[]) new MapEntry<?, ?>[capacity];
 	}
 
 	@Override
 	public V put(K key, V value) {
-		Optional<V> originalValue = locateAndApply(new MapEntry<>(key, value), Optional.of(ListIterator::set),
-				Optional.of(this::addEntry));
-		reallocateIfNecessary();
-		return originalValue.orElse(null);
+		final int hash = hash(key);
+		var entry = findEntryForUpdate(hash, key);
+		if (entry != null) {
+			return replaceValue(entry, value);
+		}
+		addEntry(hash, key, value);
+		return null;
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		final int hash = hash(key);
+		var entry = findEntryForUpdate(hash, key);
+		if (entry == null) {
+			addEntry(hash, key, value);
+			return null;
+		}
+		if (entry.value == null) {
+			return replaceValue(entry, value);
+		}
+		afterAccess(entry);
+		return entry.value;
 	}
 
-	private void addEntry(ListIterator<Entry<K, V>> iterator, Entry<K, V> entry) {
-		iterator.add(entry);
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		Objects.requireNonNull(mappingFunction);
+		final int hash = hash(key);
+		var entry = findEntryForUpdate(hash, key);
+		if (entry != null && entry.value != null) {
+			afterAccess(entry);
+			return entry.value;
+		}
+		final V value = mappingFunction.apply(key);
+		if (value == null) {
+			return null;
+		}
+		if (entry == null) {
+			addEntry(hash, key, value);
+		} else {
+			replaceValue(entry, value);
+		}
+		return value;
+	}
+
+	@Override
+	public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(remappingFunction);
+		final int hash = hash(key);
+		var entry = findEntryForUpdate(hash, key);
+		final V value = remappingFunction.apply(key, entry == null ? null : entry.value);
+		if (entry == null) {
+			if (value != null) {
+				addEntry(hash, key, value);
+			}
+		} else if (value == null) {
+			removeEntry(hash, key, true);
+		} else {
+			replaceValue(entry, value);
+		}
+		return value;
+	}
+
+	@Override
+	public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(remappingFunction);
+		final int hash = hash(key);
+		var entry = findEntryForUpdate(hash, key);
+		if (entry == null) {
+			addEntry(hash, key, value);
+			return value;
+		}
+		final V newValue = entry.value == null ? value : remappingFunction.apply(entry.value, value);
+		if (newValue == null) {
+			removeEntry(hash, key, true);
+		} else {
+			replaceValue(entry, newValue);
+		}
+		return newValue;
+	}
+
+	private MapEntry<K, V> findEntryForUpdate(int hash, K key) {
+		if (oldBuckets != null) {
+			migrateBuckets(MIGRATION_STEP);
+		}
+		return findEntry(hash, key);
+	}
+
+	private void addEntry(int hash, K key, V value) {
+		final var newEntry = linkEntry(hash, key, value);
 		size++;
+		reallocateIfNecessary();
+		afterInsert(newEntry);
+	}
+
+	private MapEntry<K, V> linkEntry(int hash, K key, V value) {
+		final int index = bucketIndex(hash, buckets.length);
+		var head = buckets[index];
+		MapEntry<K, V> newEntry;
+		if (head instanceof TreeBucket<K, V> tree) {
+			newEntry = newTreeEntry(hash, key, value);
+			tree.insert((TreeEntry<K, V>) newEntry);
+		} else {
+			newEntry = newEntry(hash, key, value);
+			newEntry.next = head;
+			buckets[index] = newEntry;
+			if (head != null && isLongerThan(newEntry, TREEIFY_THRESHOLD)) {
+				treeify(buckets, index);
+			}
+		}
+		return newEntry;
+	}
+
+	private V replaceValue(MapEntry<K, V> entry, V value) {
+		afterAccess(entry);
+		return entry.setValue(value);
+	}
+
+	MapEntry<K, V> newEntry(int hash, K key, V value) {
+		return new MapEntry<>(hash, key, value);
+	}
+
+	TreeEntry<K, V> newTreeEntry(int hash, K key, V value) {
+		return new TreeEntry<>(hash, key, value);
+	}
+
+	TreeEntry<K, V> toTreeEntry(MapEntry<K, V> entry) {
+		return TreeEntry.of(entry);
 	}
 
-	private Optional<V> locateAndApply(Entry<K, V> entry,
-			Optional<BiConsumer<ListIterator<Entry<K, V>>, Entry<K, V>>> onSuccessAction,
-			Optional<BiConsumer<ListIterator<Entry<K, V>>, Entry<K, V>>> onFailAction) {
-		final K key = entry.getKey();
-		var i = getBucketList(key).listIterator();
-		while (i.hasNext()) {
-			var originalEntry = i.next();
-			var originalValue = originalEntry.getValue();
-			if (Objects.equals(originalEntry.getKey(), key)) {
-				onSuccessAction.ifPresent(action -> action.accept(i, entry));
-				return Optional.of(originalValue);
+	void afterInsert(MapEntry<K, V> entry) {
+	}
+
+	void afterAccess(MapEntry<K, V> entry) {
+	}
+
+	void afterRemove(MapEntry<K, V> entry) {
+	}
+
+	private MapEntry<K, V> findEntry(int hash, K key) {
+		var entry = findEntry(buckets, hash, key);
+		if (entry == null && oldBuckets != null) {
+			entry = findEntry(oldBuckets, hash, key);
+		}
+		return entry;
+	}
+
+	private MapEntry<K, V> findEntry(MapEntry<K, V>[] table, int hash, K key) {
+		var entry = table[bucketIndex(hash, table.length)];
+		if (entry instanceof TreeBucket<K, V> tree) {
+			return tree.find(hash, key);
+		}
+		while (entry != null) {
+			if (entry.hash == hash && Objects.equals(entry.key, key)) {
+				return entry;
 			}
+			entry = entry.next;
+		}
+		return null;
+	}
+
+	MapEntry<K, V> removeEntry(int hash, K key, boolean compactTrees) {
+		var entry = removeEntry(buckets, hash, key, compactTrees);
+		if (entry == null && oldBuckets != null) {
+			entry = removeEntry(oldBuckets, hash, key, compactTrees);
+		}
+		if (entry != null) {
+			afterRemove(entry);
 		}
-		onFailAction.ifPresent(action -> action.accept(i, entry));
-		return Optional.empty();
+		return entry;
 	}
 
-	private List<Entry<K, V>> getBucketList(K key) {
-		int bucketIndex = bucketIndex(key);
-		return buckets.get(bucketIndex);
+	private MapEntry<K, V> removeEntry(MapEntry<K, V>[] table, int hash, K key, boolean compactTrees) {
+		final int index = bucketIndex(hash, table.length);
+		if (table[index] instanceof TreeBucket<K, V> tree) {
+			var entry = tree.find(hash, key);
+			if (entry != null) {
+				tree.remove(entry);
+				size--;
+				if (compactTrees && tree.size <= UNTREEIFY_THRESHOLD) {
+					table[index] = tree.first;
+				}
+			}
+			return entry;
+		}
+		MapEntry<K, V> previous = null;
+		for (var entry = table[index]; entry != null; entry = entry.next) {
+			if (entry.hash == hash && Objects.equals(entry.key, key)) {
+				if (previous == null) {
+					table[index] = entry.next;
+				} else {
+					previous.next = entry.next;
+				}
+				entry.next = null;
+				size--;
+				return entry;
+			}
+			previous = entry;
+		}
+		return null;
 	}
 
-	private int bucketIndex(K key) {
-		long index = key.hashCode() - (long) Integer.MIN_VALUE;
-		return (int) (index % buckets.size());
+	private static int bucketIndex(int hash, int capacity) {
+		return hash & (capacity - 1);
 	}
 
 	private boolean shouldReallocate() {
-		return size() > loadFactor * buckets.size();
+		return size() > loadFactor * buckets.length && buckets.length < MAXIMUM_CAPACITY;
 	}
 
 	private int newCapacity() {
-		return 2 * buckets.size();
+		return 2 * buckets.length;
 	}
 
 	private void reallocateIfNecessary() {
 		if (shouldReallocate()) {
-			var data = stashData();
-			buckets = createBucketList(newCapacity());
-			for (var entry : data) {
-				put(entry.getKey(), entry.getValue());
-			}
+			resize(newCapacity(), resizeMode);
 		}
 	}
 
-	private List<Entry<K, V>> stashData() {
-		var data = new ArrayList<Entry<K, V>>(size());
-		var iterator = iterator();
-		while (iterator.hasNext()) {
-			data.add(iterator.next());
-			iterator.remove();
+	private void resize(int capacity, ResizeMode mode) {
+		final var event = new HashMapResizeEvent();
+		event.begin();
+		final long start = metrics == null ? 0 : System.nanoTime();
+		final int oldCapacity = buckets.length;
+		if (oldBuckets != null) {
+			migrateBuckets(oldBuckets.length);
+		}
+		oldBuckets = buckets;
+		migrationIndex = 0;
+		buckets = createBuckets(capacity);
+		if (mode == ResizeMode.EAGER) {
+			migrateBuckets(oldBuckets.length);
+		}
+		if (metrics != null) {
+			metrics.recordResize(System.nanoTime() - start);
+		}
+		if (event.shouldCommit()) {
+			event.oldCapacity = oldCapacity;
+			event.newCapacity = buckets.length;
+			event.size = size;
+			event.resizeMode = mode.name();
+			event.commit();
 		}
-		return data;
 	}
 
-	@Override
-	public V get(K key) {
-		Optional<V> originalValue = locateAndApply(new MapEntry<>(key, null), Optional.empty(), Optional.empty());
-		return originalValue.orElse(null);
+	public void ensureCapacity(int expectedSize) {
+		final int capacity = tableSizeFor(capacityFor(expectedSize, loadFactor));
+		if (capacity > buckets.length) {
+			resize(capacity, resizeMode);
+		}
 	}
 
 	@Override
-	public boolean containsKey(K key) {
-		Optional<V> originalValue = locateAndApply(new MapEntry<>(key, null), Optional.empty(), Optional.empty());
-		return originalValue.isPresent();
+	public void putAll(Map<? extends K, ? extends V> m) {
+		ensureCapacity(size + m.size());
+		super.putAll(m);
 	}
 
-	@Override
-	public int size() {
-		return size;
+	private void migrateBuckets(int count) {
+		final int end = Math.min(migrationIndex + count, oldBuckets.length);
+		for (; migrationIndex < end; migrationIndex++) {
+			var entry = oldBuckets[migrationIndex];
+			oldBuckets[migrationIndex] = null;
+			if (entry instanceof TreeBucket<K, V> tree) {
+				entry = tree.first;
+			}
+			while (entry != null) {
+				var next = entry.next;
+				transferEntry(entry);
+				entry = next;
+			}
+		}
+		if (migrationIndex == oldBuckets.length) {
+			oldBuckets = null;
+		}
 	}
 
-	@Override
-	public void clear() {
-		size = 0;
-		for (var list : buckets) {
-			list.clear();
+	private void transferEntry(MapEntry<K, V> entry) {
+		final int index = bucketIndex(entry.hash, buckets.length);
+		var head = buckets[index];
+		if (head instanceof TreeBucket<K, V> tree) {
+			tree.insert(toTreeEntry(entry));
+		} else {
+			entry.next = head;
+			buckets[index] = entry;
+			if (head != null && isLongerThan(entry, TREEIFY_THRESHOLD)) {
+				treeify(buckets, index);
+			}
 		}
 	}
 
-	@Override
-	public boolean isEmpty() {
-		return size == 0;
+	private static boolean isLongerThan(MapEntry<?, ?> entry, int length) {
+		for (int k = 0; k < length; k++) {
+			if (entry == null) {
+				return false;
+			}
+			entry = entry.next;
+		}
+		return entry != null;
 	}
 
-	@Override
-	public V remove(K key) {
-		Optional<V> originalValue = locateAndApply(new MapEntry<>(key, null), Optional.of(this::removeEntry),
-				Optional.empty());
-		return originalValue.orElse(null);
+	private void treeify(MapEntry<K, V>[] table, int index) {
+		if (table.length < MIN_TREEIFY_CAPACITY) {
+			return;
+		}
+		var tree = new TreeBucket<K, V>();
+		var entry = table[index];
+		while (entry != null) {
+			var next = entry.next;
+			tree.insert(toTreeEntry(entry));
+			entry = next;
+		}
+		table[index] = tree;
+		final var event = new HashMapTreeifyEvent();
+		if (event.isEnabled()) {
+			event.capacity = table.length;
+			event.bucketLength = tree.size;
+			event.commit();
+		}
 	}
 
-	private void removeEntry(ListIterator<Entry<K, V>> iterator, Entry<K, V> entry) {
-		iterator.remove();
-		size--;
+	int maxBucketLength() {
+		int maxLength = 0;
+		for (var head : buckets) {
+			int length = 0;
+			if (head instanceof TreeBucket<K, V> tree) {
+				length = tree.size;
+			} else {
+				for (var entry = head; entry != null; entry = entry.next) {
+					length++;
+				}
+			}
+			maxLength = Math.max(maxLength, length);
+		}
+		return maxLength;
 	}
 
-	@Override
-	public void putAll(Map<? extends K, ? extends V> m) {
-		for (var entry : m) {
-			put(entry.getKey(), entry.getValue());
+	public void enableMetrics() {
+		if (metrics == null) {
+			metrics = new HashMapMetrics();
 		}
 	}
 
-	@Override
-	public boolean containsValue(V value) {
-		var i = iterator();
-		while (i.hasNext()) {
-			var entry = i.next();
-			if (Objects.equals(entry.getValue(), value)) {
-				return true;
+	public void disableMetrics() {
+		metrics = null;
+	}
+
+	public HashMapStats stats() {
+		final var source = metrics == null ? new HashMapMetrics() : metrics;
+		return source.snapshot(size, buckets.length, loadFactor, maxBucketLength());
+	}
+
+	private MapEntry<K, V> lookup(K key) {
+		final int hash = hash(key);
+		return metrics == null ? findEntry(hash, key) : findAndRecord(hash, key);
+	}
+
+	private MapEntry<K, V> findAndRecord(int hash, K key) {
+		int probes = 0;
+		for (var table = buckets; table != null; table = table == buckets ? oldBuckets : null) {
+			var entry = table[bucketIndex(hash, table.length)];
+			if (entry instanceof TreeBucket<K, V> tree) {
+				probes += tree.root == null ? 0 : tree.root.height;
+				entry = tree.find(hash, key);
+				if (entry != null) {
+					metrics.recordLookup(probes, true);
+					return entry;
+				}
+				continue;
+			}
+			for (; entry != null; entry = entry.next) {
+				probes++;
+				if (entry.hash == hash && Objects.equals(entry.key, key)) {
+					metrics.recordLookup(probes, true);
+					return entry;
+				}
 			}
 		}
-		return false;
+		metrics.recordLookup(probes, false);
+		return null;
+	}
+
+	MapEntry<K, V> getEntry(K key) {
+		return lookup(key);
+	}
+
+	boolean isTreeBucket(K key) {
+		return buckets[bucketIndex(hash(key), buckets.length)] instanceof TreeBucket;
+	}
+
+	boolean isMigrating() {
+		return oldBuckets != null;
 	}
 
 	@Override
-	public String toString() {
-		StringJoiner join = new StringJoiner(",", "[", "]");
-		for (var entry : this) {
-			join.add(entry.getKey() + "=" + entry.getValue());
+	public V get(K key) {
+		return getOrDefault(key, null);
+	}
+
+	@Override
+	public V getOrDefault(K key, V defaultValue) {
+		final var entry = lookup(key);
+		if (entry == null) {
+			return defaultValue;
 		}
-		return join.toString();
+		afterAccess(entry);
+		return entry.value;
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return lookup(key) != null;
 	}
 
 	@Override
-	public int hashCode() {
-		return entrySet().hashCode();
+	public int size() {
+		return size;
 	}
 
 	@Override
-	public boolean equals(Object o) {
-		if (o instanceof HashMap<?, ?> map) {
-			return entrySet().equals(map.entrySet());
+	public void clear() {
+		size = 0;
+		oldBuckets = null;
+		Arrays.fill(buckets, null);
+	}
+
+	@Override
+	public V remove(K key) {
+		if (oldBuckets != null) {
+			migrateBuckets(MIGRATION_STEP);
 		}
-		return false;
+		var entry = removeEntry(hash(key), key, true);
+		return entry == null ? null : entry.value;
+	}
+
+	public void writeSnapshot(WritableByteChannel channel, Codec<K> keyCodec, Codec<V> valueCodec)
+			throws IOException {
+		final var writer = new SnapshotWriter(channel, SnapshotKind.MAP, size);
+		for (var entry : this) {
+			writer.write(entry.getKey(), keyCodec);
+			writer.write(entry.getValue(), valueCodec);
+		}
+		writer.finish();
+	}
+
+	public static <K, V> HashMap<K, V> readSnapshot(ReadableByteChannel channel, Codec<K> keyCodec,
+			Codec<V> valueCodec) throws IOException {
+		final var reader = new SnapshotReader(channel, SnapshotKind.MAP);
+		final int count = reader.count();
+		final int expectedCount = reader.expectedCount(keyCodec.minSize() + valueCodec.minSize());
+		final var map = new HashMap<K, V>(capacityFor(expectedCount, DEFAULT_LOAD_FACTOR));
+		for (int k = 0; k < count; k++) {
+			final K key = reader.read(keyCodec);
+			final V value = reader.read(valueCodec);
+			map.load(map.hash(key), key, value);
+			if (k >= expectedCount) {
+				map.reallocateIfNecessary();
+			}
+		}
+		reader.finish();
+		return map;
 	}
 
 	@Override
@@ -217,505 +576,524 @@ public class HashMap<K, V> implements Map<K, V> {
 
 	private final class MapIterator implements Iterator<Entry<K, V>> {
 
-		private final Iterator<? extends List<Entry<K, V>>> bucketIterator = buckets.iterator();
-		private Iterator<Entry<K, V>> listIterator = null;
+		private final MapEntry<K, V>[] table = buckets;
+		private final MapEntry<K, V>[] oldTable = oldBuckets;
+		private int bucketIndex;
+		private MapEntry<K, V> nextEntry;
+		private MapEntry<K, V> lastReturned;
 
-		private Iterator<Entry<K, V>> getIterator() {
-			while ((listIterator == null || !listIterator.hasNext()) && bucketIterator.hasNext()) {
-				listIterator = bucketIterator.next().iterator();
+		private MapIterator() {
+			nextEntry = nextNonEmptyBucket();
+		}
+
+		private MapEntry<K, V> nextNonEmptyBucket() {
+			final int oldLength = oldTable == null ? 0 : oldTable.length;
+			while (bucketIndex < table.length + oldLength) {
+				final int index = bucketIndex++;
+				var entry = index < table.length ? table[index] : oldTable[index - table.length];
+				if (entry instanceof TreeBucket<K, V> tree) {
+					entry = tree.first;
+				}
+				if (entry != null) {
+					return entry;
+				}
 			}
-			return listIterator;
+			return null;
 		}
 
 		@Override
 		public boolean hasNext() {
-			var i = getIterator();
-			return (i != null && i.hasNext());
+			return nextEntry != null;
 		}
 
 		@Override
 		public Entry<K, V> next() {
-			if (listIterator == null || !listIterator.hasNext()) {
+			if (nextEntry == null) {
 				throw new NoSuchElementException("no more elements in map");
 			}
-			return listIterator.next();
+			lastReturned = nextEntry;
+			nextEntry = nextEntry.next != null ? nextEntry.next : nextNonEmptyBucket();
+			return lastReturned;
 		}
 
 		@Override
 		public void remove() {
-			if (listIterator == null) {
+			if (lastReturned == null) {
 				throw new IllegalStateException("method 'next' should be called before 'remove'");
 			}
-			HashMap.this.size--;
-			listIterator.remove();
+			removeEntry(lastReturned.hash, lastReturned.key, false);
+			lastReturned = null;
 		}
 
 	}
 
 	@Override
-	public Set<K> keySet() {
-		return new Set<K>() {
+	public Spliterator<Entry<K, V>> spliterator() {
+		final int oldLength = oldBuckets == null ? 0 : oldBuckets.length;
+		return new MapSpliterator(buckets, oldBuckets, 0, buckets.length + oldLength, size, true);
+	}
 
-			@Override
-			public int size() {
-				return HashMap.this.size();
-			}
+	private final class MapSpliterator implements Spliterator<Entry<K, V>> {
+
+		private final MapEntry<K, V>[] table;
+		private final MapEntry<K, V>[] oldTable;
+		private int bucketIndex;
+		private int fence;
+		private int estimatedSize;
+		private boolean exactSize;
+		private MapEntry<K, V> current;
+
+		private MapSpliterator(MapEntry<K, V>[] table, MapEntry<K, V>[] oldTable, int bucketIndex, int fence,
+				int estimatedSize, boolean exactSize) {
+			this.table = table;
+			this.oldTable = oldTable;
+			this.bucketIndex = bucketIndex;
+			this.fence = fence;
+			this.estimatedSize = estimatedSize;
+			this.exactSize = exactSize;
+		}
 
-			@Override
-			public boolean isEmpty() {
-				return HashMap.this.isEmpty();
+		private MapEntry<K, V> bucket(int index) {
+			var entry = index < table.length ? table[index] : oldTable[index - table.length];
+			if (entry instanceof TreeBucket<K, V> tree) {
+				entry = tree.first;
 			}
+			return entry;
+		}
 
-			@Override
-			public boolean contains(Object key) {
-				return HashMap.this.containsKey((K) key);
+		@Override
+		public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+			Objects.requireNonNull(action);
+			while (current == null && bucketIndex < fence) {
+				current = bucket(bucketIndex++);
 			}
+			if (current == null) {
+				return false;
+			}
+			final var entry = current;
+			current = current.next;
+			action.accept(entry);
+			return true;
+		}
 
-			@Override
-			public Iterator<K> iterator() {
-				return new Iterator<>() {
+		@Override
+		public void forEachRemaining(Consumer<? super Entry<K, V>> action) {
+			Objects.requireNonNull(action);
+			for (var entry = current; entry != null; entry = entry.next) {
+				action.accept(entry);
+			}
+			current = null;
+			for (; bucketIndex < fence; bucketIndex++) {
+				for (var entry = bucket(bucketIndex); entry != null; entry = entry.next) {
+					action.accept(entry);
+				}
+			}
+		}
 
-					private final Iterator<Entry<K, V>> i = HashMap.this.iterator();
+		@Override
+		public Spliterator<Entry<K, V>> trySplit() {
+			final int middle = (bucketIndex + fence) >>> 1;
+			if (middle <= bucketIndex) {
+				return null;
+			}
+			estimatedSize >>>= 1;
+			exactSize = false;
+			final var suffix = new MapSpliterator(table, oldTable, middle, fence, estimatedSize, false);
+			fence = middle;
+			return suffix;
+		}
 
-					@Override
-					public boolean hasNext() {
-						return i.hasNext();
-					}
+		@Override
+		public long estimateSize() {
+			return estimatedSize;
+		}
 
-					@Override
-					public K next() {
-						return i.next().getKey();
-					}
+		@Override
+		public int characteristics() {
+			return DISTINCT | NONNULL | (exactSize ? SIZED : 0);
+		}
 
-					@Override
-					public void remove() {
-						i.remove();
-					}
+	}
 
-				};
-			}
+	static class MapEntry<K, V> implements Entry<K, V> {
 
-			@Override
-			public Object[] toArray() {
-				Object[] array = new Object[HashMap.this.size()];
-				fillInArrayData(array);
-				return array;
-			}
+		final int hash;
+		final K key;
+		V value;
+		MapEntry<K, V> next;
 
-			@Override
-			public K[] toArray(Object[] a) {
-				final int mapSize = HashMap.this.size();
-				Object[] array = a.length >= mapSize ? a : new Object[mapSize];
-				fillInArrayData(array);
-				return (K[]) array;
-			}
+		public MapEntry(K key, V value) {
+			this(Objects.hashCode(key), key, value);
+		}
 
-			private void fillInArrayData(Object[] array) {
-				int k = 0;
-				for (var value : HashMap.this) {
-					array[k++] = value;
-				}
-			}
+		MapEntry(int hash, K key, V value) {
+			this.hash = hash;
+			this.key = key;
+			this.value = value;
+		}
 
-			@Override
-			public boolean add(Object e) {
-				throw new UnsupportedOperationException("backing set for keys doesn't support 'add' operation");
-			}
+		@Override
+		public K getKey() {
+			return key;
+		}
 
-			@Override
-			public boolean remove(Object key) {
-				return HashMap.this.remove((K) key) != null;
-			}
+		@Override
+		public V getValue() {
+			return value;
+		}
 
-			@Override
-			public boolean containsAll(Collection<?> collection) {
-				for (var key : collection) {
-					if (!HashMap.this.containsKey((K) key)) {
-						return false;
-					}
-				}
-				return true;
-			}
+		@Override
+		public V setValue(V value) {
+			V originalValue = this.value;
+			this.value = value;
+			return originalValue;
+		}
 
-			@Override
-			public boolean addAll(Collection<? extends K> c) {
-				throw new UnsupportedOperationException("backing set for keys doesn't support 'addAll' operation");
-			}
+		@Override
+		public int hashCode() {
+			return Objects.hash(key);
+		}
 
-			@Override
-			public boolean retainAll(Collection<?> collection) {
-				boolean changed = false;
-				var i = iterator();
-				while (i.hasNext()) {
-					if (!collection.contains(i.next())) {
-						i.remove();
-						changed = true;
-					}
-				}
-				return changed;
+		@Override
+		public boolean equals(Object o) {
+			if (o instanceof MapEntry<?, ?> entry) {
+				return Objects.equals(key, entry.key);
 			}
+			return false;
+		}
 
-			@Override
-			public boolean removeAll(Collection<?> collection) {
-				boolean changed = false;
-				var i = iterator();
-				while (i.hasNext()) {
-					if (collection.contains(i.next())) {
-						i.remove();
-						changed = true;
-					}
-				}
-				return changed;
-			}
+	}
 
-			@Override
-			public void clear() {
-				HashMap.this.clear();
-			}
+	static class TreeEntry<K, V> extends LinkedHashMap.LinkedEntry<K, V> {
 
-			@Override
-			public int hashCode() {
-				return Objects.hash(toArray());
-			}
+		private TreeEntry<K, V> left;
+		private TreeEntry<K, V> right;
+		private TreeEntry<K, V> previous;
+		private int height = 1;
 
-			@Override
-			public boolean equals(Object o) {
-				if (o instanceof Collection<?> collection) {
-					return containsAll(collection) && collection.containsAll(this);
-				}
-				return false;
-			}
+		TreeEntry(int hash, K key, V value) {
+			super(hash, key, value);
+		}
 
-			@Override
-			public String toString() {
-				StringJoiner join = new StringJoiner(",", "[", "]");
-				for (var key : this) {
-					join.add(key.toString());
-				}
-				return join.toString();
+		static <K, V> TreeEntry<K, V> of(MapEntry<K, V> entry) {
+			if (entry instanceof TreeEntry<K, V> treeEntry) {
+				treeEntry.left = treeEntry.right = treeEntry.previous = null;
+				treeEntry.next = null;
+				treeEntry.height = 1;
+				return treeEntry;
 			}
+			return new TreeEntry<>(entry.hash, entry.key, entry.value);
+		}
 
-		};
 	}
 
-	@Override
-	public Set<Entry<K, V>> entrySet() {
-		return new Set<Entry<K, V>>() {
+	static final class TreeBucket<K, V> extends MapEntry<K, V> {
 
-			@Override
-			public int size() {
-				return HashMap.this.size();
-			}
+		private TreeEntry<K, V> root;
+		private TreeEntry<K, V> first;
+		private int size;
+		private boolean removed;
 
-			@Override
-			public boolean isEmpty() {
-				return HashMap.this.isEmpty();
-			}
-
-			@Override
-			public boolean contains(Object entry) {
-				return HashMap.this.containsKey(((Entry<K, V>) entry).getKey());
-			}
+		TreeBucket() {
+			super(0, null, null);
+		}
 
-			@Override
-			public Iterator<Entry<K, V>> iterator() {
-				return HashMap.this.iterator();
-			}
+		TreeEntry<K, V> find(int hash, Object key) {
+			return find(root, hash, key);
+		}
 
-			@Override
-			public Object[] toArray() {
-				Object[] array = new Object[HashMap.this.size()];
-				fillInArrayData(array);
-				return array;
+		private static <K, V> TreeEntry<K, V> find(TreeEntry<K, V> node, int hash, Object key) {
+			while (node != null) {
+				if (hash < node.hash) {
+					node = node.left;
+				} else if (hash > node.hash) {
+					node = node.right;
+				} else if (Objects.equals(key, node.key)) {
+					return node;
+				} else {
+					final int cmp = compareComparables(key, node.key);
+					if (cmp < 0) {
+						node = node.left;
+					} else if (cmp > 0) {
+						node = node.right;
+					} else {
+						var found = find(node.right, hash, key);
+						if (found != null) {
+							return found;
+						}
+						node = node.left;
+					}
+				}
 			}
+			return null;
+		}
 
-			@Override
-			public <T> T[] toArray(T[] a) {
-				final int mapSize = HashMap.this.size();
-				Object[] array = a.length >= mapSize ? a : new Object[mapSize];
-				fillInArrayData(array);
-				return (T[]) array;
+		void insert(TreeEntry<K, V> entry) {
+			entry.next = first;
+			if (first != null) {
+				first.previous = entry;
 			}
+			first = entry;
+			root = insert(root, entry);
+			size++;
+		}
 
-			private void fillInArrayData(Object[] array) {
-				int k = 0;
-				for (var value : HashMap.this) {
-					array[k++] = value;
-				}
+		void remove(TreeEntry<K, V> entry) {
+			removed = false;
+			root = delete(root, entry);
+			if (entry.previous == null) {
+				first = (TreeEntry<K, V>) entry.next;
+			} else {
+				entry.previous.next = entry.next;
 			}
-
-			@Override
-			public boolean add(Entry<K, V> e) {
-				throw new UnsupportedOperationException("backing set for entries doesn't support 'add' operation");
+			if (entry.next != null) {
+				((TreeEntry<K, V>) entry.next).previous = entry.previous;
 			}
+			entry.previous = null;
+			entry.next = null;
+			size--;
+		}
 
-			@Override
-			public boolean remove(Object entry) {
-				return HashMap.this.remove(((Entry<K, V>) entry).getKey()) != null;
+		private static <K, V> TreeEntry<K, V> insert(TreeEntry<K, V> node, TreeEntry<K, V> entry) {
+			if (node == null) {
+				return entry;
 			}
-
-			@Override
-			public boolean containsAll(Collection<?> collection) {
-				for (var entry : collection) {
-					if (!HashMap.this.containsKey(((Entry<K, V>) entry).getKey())) {
-						return false;
-					}
-				}
-				return true;
+			if (order(entry, node) <= 0) {
+				node.left = insert(node.left, entry);
+			} else {
+				node.right = insert(node.right, entry);
 			}
+			return balance(node);
+		}
 
-			@Override
-			public boolean addAll(Collection<? extends Entry<K, V>> c) {
-				throw new UnsupportedOperationException("backing set for entries doesn't support 'addAll' operation");
+		private TreeEntry<K, V> delete(TreeEntry<K, V> node, TreeEntry<K, V> target) {
+			if (node == null) {
+				return null;
 			}
-
-			@Override
-			public boolean retainAll(Collection<?> collection) {
-				boolean changed = false;
-				var i = iterator();
-				while (i.hasNext()) {
-					if (!collection.contains(i.next())) {
-						i.remove();
-						changed = true;
-					}
+			if (node == target) {
+				removed = true;
+				if (node.left == null || node.right == null) {
+					var child = node.left == null ? node.right : node.left;
+					node.left = node.right = null;
+					return child;
+				}
+				var successor = node.right;
+				while (successor.left != null) {
+					successor = successor.left;
 				}
-				return changed;
+				successor.right = deleteMin(node.right);
+				successor.left = node.left;
+				node.left = node.right = null;
+				return balance(successor);
 			}
-
-			@Override
-			public boolean removeAll(Collection<?> collection) {
-				boolean changed = false;
-				var i = iterator();
-				while (i.hasNext()) {
-					if (collection.contains(i.next())) {
-						i.remove();
-						changed = true;
-					}
+			final int cmp = order(target, node);
+			if (cmp < 0) {
+				node.left = delete(node.left, target);
+			} else if (cmp > 0) {
+				node.right = delete(node.right, target);
+			} else {
+				node.left = delete(node.left, target);
+				if (!removed) {
+					node.right = delete(node.right, target);
 				}
-				return changed;
 			}
+			return balance(node);
+		}
 
-			@Override
-			public void clear() {
-				HashMap.this.clear();
+		private static <K, V> TreeEntry<K, V> deleteMin(TreeEntry<K, V> node) {
+			if (node.left == null) {
+				return node.right;
 			}
+			node.left = deleteMin(node.left);
+			return balance(node);
+		}
 
-			@Override
-			public int hashCode() {
-				return Objects.hash(toArray());
+		private static int order(MapEntry<?, ?> entry, MapEntry<?, ?> other) {
+			int cmp = Integer.compare(entry.hash, other.hash);
+			if (cmp == 0) {
+				cmp = compareComparables(entry.key, other.key);
 			}
-
-			@Override
-			public boolean equals(Object o) {
-				if (o instanceof Collection<?> collection) {
-					return containsAll(collection) && collection.containsAll(this);
-				}
-				return false;
+			if (cmp == 0) {
+				cmp = entry.key.getClass().getName().compareTo(other.key.getClass().getName());
 			}
-
-			@Override
-			public String toString() {
-				StringJoiner join = new StringJoiner(",", "[", "]");
-				for (var entry : this) {
-					join.add(entry.getKey() + "=" + entry.getValue());
-				}
-				return join.toString();
+			if (cmp == 0) {
+				cmp = Integer.compare(System.identityHashCode(entry.key), System.identityHashCode(other.key));
 			}
+			return cmp;
+		}
 
-		};
-	}
+		private static int compareComparables(Object key, Object other) {
+			if (key instanceof Comparable && key.getClass() == other.getClass()) {
+				return ((Comparable<Object>) key).compareTo(other);
+			}
+			return 0;
+		}
 
-	@Override
-	public Collection<V> values() {
-		return new Collection<V>() {
+		private static int height(TreeEntry<?, ?> node) {
+			return node == null ? 0 : node.height;
+		}
 
-			@Override
-			public int size() {
-				return HashMap.this.size();
-			}
+		private static void updateHeight(TreeEntry<?, ?> node) {
+			node.height = 1 + Math.max(height(node.left), height(node.right));
+		}
 
-			@Override
-			public boolean isEmpty() {
-				return HashMap.this.isEmpty();
+		private static <K, V> TreeEntry<K, V> balance(TreeEntry<K, V> node) {
+			final int difference = height(node.left) - height(node.right);
+			if (difference > 1) {
+				if (height(node.left.left) < height(node.left.right)) {
+					node.left = rotateLeft(node.left);
+				}
+				return rotateRight(node);
 			}
-
-			@Override
-			public boolean contains(Object value) {
-				return HashMap.this.containsValue((V) value);
+			if (difference < -1) {
+				if (height(node.right.right) < height(node.right.left)) {
+					node.right = rotateRight(node.right);
+				}
+				return rotateLeft(node);
 			}
+			updateHeight(node);
+			return node;
+		}
 
-			@Override
-			public Iterator<V> iterator() {
-				return new Iterator<>() {
+		private static <K, V> TreeEntry<K, V> rotateRight(TreeEntry<K, V> node) {
+			var pivot = node.left;
+			node.left = pivot.right;
+			pivot.right = node;
+			updateHeight(node);
+			updateHeight(pivot);
+			return pivot;
+		}
 
-					private final Iterator<Entry<K, V>> i = HashMap.this.iterator();
+		private static <K, V> TreeEntry<K, V> rotateLeft(TreeEntry<K, V> node) {
+			var pivot = node.right;
+			node.right = pivot.left;
+			pivot.left = node;
+			updateHeight(node);
+			updateHeight(pivot);
+			return pivot;
+		}
 
-					@Override
-					public boolean hasNext() {
-						return i.hasNext();
-					}
+	}
 
-					@Override
-					public V next() {
-						return i.next().getValue();
-					}
+	private void load(int hash, K key, V value) {
+		final var entry = findEntry(buckets, hash, key);
+		if (entry != null) {
+			entry.value = value;
+		} else {
+			linkEntry(hash, key, value);
+			size++;
+		}
+	}
 
-					@Override
-					public void remove() {
-						i.remove();
-					}
+	public static final class Builder<K, V> {
 
-				};
-			}
+		private static final int MAX_ENTRIES = Integer.MAX_VALUE - 8;
 
-			@Override
-			public Object[] toArray() {
-				Object[] array = new Object[HashMap.this.size()];
-				fillInArrayData(array);
-				return array;
-			}
+		private int expectedSize;
+		private double loadFactor = DEFAULT_LOAD_FACTOR;
+		private ResizeMode resizeMode = ResizeMode.EAGER;
+		private HashSpreading hashSpreading = HashSpreading.XOR_SHIFT;
+		private boolean sortByBucket;
+		private Object[] keys = new Object[INITIAL_CAPACITY];
+		private Object[] values = new Object[INITIAL_CAPACITY];
+		private int count;
 
-			@Override
-			public <T> T[] toArray(T[] a) {
-				final int mapSize = HashMap.this.size();
-				Object[] array = a.length >= mapSize ? a : new Object[mapSize];
-				fillInArrayData(array);
-				return (T[]) array;
-			}
+		private Builder() {
+		}
 
-			private void fillInArrayData(Object[] array) {
-				int k = 0;
-				for (var value : HashMap.this) {
-					array[k++] = value;
-				}
+		public Builder<K, V> expectedSize(int expectedSize) {
+			if (expectedSize < 0) {
+				throw new IllegalArgumentException(
+						String.format("expected size %d should not be negative", expectedSize));
 			}
-
-			@Override
-			public boolean add(V e) {
-				throw new UnsupportedOperationException("backing set for values doesn't support 'add' operation");
+			this.expectedSize = expectedSize;
+			if (expectedSize > keys.length) {
+				keys = Arrays.copyOf(keys, expectedSize);
+				values = Arrays.copyOf(values, expectedSize);
 			}
+			return this;
+		}
 
-			@Override
-			public boolean remove(Object value) {
-				var i = iterator();
-				while (i.hasNext()) {
-					if (Objects.equals(i.next(), value)) {
-						i.remove();
-						return true;
-					}
-				}
-				return false;
+		public Builder<K, V> loadFactor(double loadFactor) {
+			if (loadFactor <= 0) {
+				throw new IllegalArgumentException(
+						String.format("load factor %10.2f should be positive value", loadFactor));
 			}
+			this.loadFactor = loadFactor;
+			return this;
+		}
 
-			@Override
-			public boolean containsAll(Collection<?> collection) {
-				for (var value : collection) {
-					if (!HashMap.this.containsValue((V) value)) {
-						return false;
-					}
-				}
-				return true;
-			}
+		public Builder<K, V> resizeMode(ResizeMode resizeMode) {
+			this.resizeMode = Objects.requireNonNull(resizeMode, "resize mode should be specified");
+			return this;
+		}
 
-			@Override
-			public boolean addAll(Collection<? extends V> c) {
-				throw new UnsupportedOperationException("backing set for values doesn't support 'addAll' operation");
-			}
+		public Builder<K, V> hashSpreading(HashSpreading hashSpreading) {
+			this.hashSpreading = Objects.requireNonNull(hashSpreading, "hash spreading should be specified");
+			return this;
+		}
 
-			@Override
-			public boolean removeAll(Collection<?> collection) {
-				boolean changed = false;
-				var i = iterator();
-				while (i.hasNext()) {
-					if (collection.contains(i.next())) {
-						i.remove();
-						changed = true;
-					}
-				}
-				return changed;
-			}
+		public Builder<K, V> sortByBucket(boolean sortByBucket) {
+			this.sortByBucket = sortByBucket;
+			return this;
+		}
 
-			@Override
-			public boolean retainAll(Collection<?> collection) {
-				boolean changed = false;
-				var i = iterator();
-				while (i.hasNext()) {
-					if (!collection.contains(i.next())) {
-						i.remove();
-						changed = true;
-					}
+		public Builder<K, V> put(K key, V value) {
+			Objects.requireNonNull(key, "key should be specified");
+			if (count == keys.length) {
+				if (count == MAX_ENTRIES) {
+					throw new IllegalStateException("builder capacity limit reached");
 				}
-				return changed;
+				final int newLength = (int) Math.min(MAX_ENTRIES, 2L * count);
+				keys = Arrays.copyOf(keys, newLength);
+				values = Arrays.copyOf(values, newLength);
 			}
+			keys[count] = key;
+			values[count] = value;
+			count++;
+			return this;
+		}
 
-			@Override
-			public void clear() {
-				HashMap.this.clear();
+		public Builder<K, V> putAll(Map<? extends K, ? extends V> map) {
+			for (var entry : map) {
+				put(entry.getKey(), entry.getValue());
 			}
+			return this;
+		}
 
-			@Override
-			public int hashCode() {
-				return Objects.hash(toArray());
+		public HashMap<K, V> build() {
+			final var map = new HashMap<K, V>(capacityFor(Math.max(expectedSize, count), loadFactor), loadFactor,
+					resizeMode, hashSpreading);
+			final int[] hashes = new int[count];
+			for (int k = 0; k < count; k++) {
+				hashes[k] = map.hash((K) keys[k]);
 			}
-
-			@Override
-			public boolean equals(Object o) {
-				if (o instanceof Collection<?> collection) {
-					return containsAll(collection) && collection.containsAll(this);
+			if (sortByBucket) {
+				final int[] order = bucketOrder(hashes, map.buckets.length);
+				for (int index : order) {
+					map.load(hashes[index], (K) keys[index], (V) values[index]);
 				}
-				return false;
-			}
-
-			@Override
-			public String toString() {
-				StringJoiner join = new StringJoiner(",", "[", "]");
-				for (var value : this) {
-					join.add(value.toString());
+			} else {
+				for (int k = 0; k < count; k++) {
+					map.load(hashes[k], (K) keys[k], (V) values[k]);
 				}
-				return join.toString();
 			}
-
-		};
-	}
-
-	static class MapEntry<K, V> implements Entry<K, V> {
-
-		private final K key;
-		private V value;
-
-		public MapEntry(K key, V value) {
-			this.key = key;
-			this.value = value;
-		}
-
-		@Override
-		public K getKey() {
-			return key;
-		}
-
-		@Override
-		public V getValue() {
-			return value;
-		}
-
-		@Override
-		public V setValue(V value) {
-			V originalValue = this.value;
-			this.value = value;
-			return originalValue;
-		}
-
-		@Override
-		public int hashCode() {
-			return Objects.hash(key);
+			return map;
 		}
 
-		@Override
-		public boolean equals(Object o) {
-			if (o instanceof MapEntry<?, ?> entry) {
-				return Objects.equals(key, entry.key);
+		private static int[] bucketOrder(int[] hashes, int capacity) {
+			final int[] starts = new int[capacity + 1];
+			for (int hash : hashes) {
+				starts[bucketIndex(hash, capacity) + 1]++;
 			}
-			return false;
+			for (int k = 0; k < capacity; k++) {
+				starts[k + 1] += starts[k];
+			}
+			final int[] order = new int[hashes.length];
+			for (int k = 0; k < hashes.length; k++) {
+				order[starts[bucketIndex(hashes[k], capacity)]++] = k;
+			}
+			return order;
 		}
 
 	}
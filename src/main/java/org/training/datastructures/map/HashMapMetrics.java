@@ -0,0 +1,32 @@
+package org.training.datastructures.map;
+
+final class HashMapMetrics {
+
+	static final int PROBE_HISTOGRAM_SIZE = 16;
+
+	private final long[] probeHistogram = new long[PROBE_HISTOGRAM_SIZE];
+	private long hits;
+	private long misses;
+	private long resizes;
+	private long resizeNanos;
+
+	void recordLookup(int probes, boolean hit) {
+		probeHistogram[Math.min(probes, PROBE_HISTOGRAM_SIZE - 1)]++;
+		if (hit) {
+			hits++;
+		} else {
+			misses++;
+		}
+	}
+
+	void recordResize(long nanos) {
+		resizes++;
+		resizeNanos += nanos;
+	}
+
+	HashMapStats snapshot(int size, int capacity, double loadFactor, int maxBucketLength) {
+		return new HashMapStats(size, capacity, loadFactor, maxBucketLength, hits, misses, resizes, resizeNanos,
+				probeHistogram);
+	}
+
+}
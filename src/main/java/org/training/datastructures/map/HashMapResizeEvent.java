@@ -0,0 +1,27 @@
+package org.training.datastructures.map;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.training.datastructures.map.HashMapResize")
+@Label("HashMap Resize")
+@Category({ "Data Structures", "HashMap" })
+@Description("Bucket table of a HashMap was reallocated")
+final class HashMapResizeEvent extends Event {
+
+	@Label("Old Capacity")
+	int oldCapacity;
+
+	@Label("New Capacity")
+	int newCapacity;
+
+	@Label("Size")
+	int size;
+
+	@Label("Resize Mode")
+	String resizeMode;
+
+}
@@ -0,0 +1,35 @@
+package org.training.datastructures.map;
+
+public record HashMapStats(int size, int capacity, double loadFactor, int maxBucketLength, long hits, long misses,
+		long resizes, long resizeNanos, long[] probeHistogram) {
+
+	public HashMapStats {
+		probeHistogram = probeHistogram.clone();
+	}
+
+	@Override
+	public long[] probeHistogram() {
+		return probeHistogram.clone();
+	}
+
+	public double load() {
+		return (double) size / capacity;
+	}
+
+	public long lookups() {
+		return hits + misses;
+	}
+
+	public double hitRatio() {
+		return lookups() == 0 ? 0 : (double) hits / lookups();
+	}
+
+	public double averageProbes() {
+		long probes = 0;
+		for (int k = 0; k < probeHistogram.length; k++) {
+			probes += k * probeHistogram[k];
+		}
+		return lookups() == 0 ? 0 : (double) probes / lookups();
+	}
+
+}
@@ -0,0 +1,21 @@
+package org.training.datastructures.map;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.training.datastructures.map.HashMapTreeify")
+@Label("HashMap Treeify")
+@Category({ "Data Structures", "HashMap" })
+@Description("Overfull HashMap bucket was converted to a balanced tree")
+final class HashMapTreeifyEvent extends Event {
+
+	@Label("Capacity")
+	int capacity;
+
+	@Label("Bucket Length")
+	int bucketLength;
+
+}
@@ -0,0 +1,22 @@
+package org.training.datastructures.map;
+
+public enum HashSpreading {
+
+	XOR_SHIFT {
+		@Override
+		public int spread(int hash) {
+			return hash ^ (hash >>> 16);
+		}
+	},
+	FIBONACCI {
+		@Override
+		public int spread(int hash) {
+			return Integer.reverse(hash * GOLDEN_RATIO);
+		}
+	};
+
+	private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+	public abstract int spread(int hash);
+
+}
@@ -0,0 +1,187 @@
+package org.training.datastructures.map;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+public class Int2ObjectHashMap<V> {
+
+	@FunctionalInterface
+	public interface EntryConsumer<V> {
+
+		void accept(int key, V value);
+
+	}
+
+	private int[] keys;
+	private Object[] values;
+	private boolean hasZeroKey;
+	private V zeroValue;
+	private final double loadFactor;
+	private int mask;
+	private int threshold;
+	private int size;
+
+	public Int2ObjectHashMap() {
+		this(PrimitiveHashing.INITIAL_CAPACITY);
+	}
+
+	public Int2ObjectHashMap(int expectedSize) {
+		this(expectedSize, PrimitiveHashing.DEFAULT_LOAD_FACTOR);
+	}
+
+	public Int2ObjectHashMap(int expectedSize, double loadFactor) {
+		PrimitiveHashing.checkArguments(expectedSize, loadFactor);
+		this.loadFactor = loadFactor;
+		allocate(PrimitiveHashing.tableSizeFor(expectedSize, loadFactor));
+	}
+
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		threshold = PrimitiveHashing.threshold(capacity, loadFactor);
+	}
+
+	int capacity() {
+		return keys.length;
+	}
+
+	private int find(int key) {
+		int index = PrimitiveHashing.mix(key) & mask;
+		while (keys[index] != 0) {
+			if (keys[index] == key) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	public V get(int key) {
+		if (key == 0) {
+			return hasZeroKey ? zeroValue : null;
+		}
+		final int index = find(key);
+		return index < 0 ? null : (V) values[index];
+	}
+
+	public boolean containsKey(int key) {
+		return key == 0 ? hasZeroKey : find(key) >= 0;
+	}
+
+	public V put(int key, V value) {
+		if (key == 0) {
+			final V originalValue = zeroValue;
+			zeroValue = value;
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				size++;
+			}
+			return originalValue;
+		}
+		int index = PrimitiveHashing.mix(key) & mask;
+		while (keys[index] != 0) {
+			if (keys[index] == key) {
+				final V originalValue = (V) values[index];
+				values[index] = value;
+				return originalValue;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[index] = key;
+		values[index] = value;
+		if (++size > threshold) {
+			resize();
+		}
+		return null;
+	}
+
+	public V remove(int key) {
+		if (key == 0) {
+			final V originalValue = zeroValue;
+			if (hasZeroKey) {
+				hasZeroKey = false;
+				zeroValue = null;
+				size--;
+			}
+			return originalValue;
+		}
+		final int index = find(key);
+		if (index < 0) {
+			return null;
+		}
+		final V originalValue = (V) values[index];
+		removeAt(index);
+		return originalValue;
+	}
+
+	private void removeAt(int gap) {
+		int next = (gap + 1) & mask;
+		while (keys[next] != 0) {
+			final int home = PrimitiveHashing.mix(keys[next]) & mask;
+			if (((next - home) & mask) >= ((next - gap) & mask)) {
+				keys[gap] = keys[next];
+				values[gap] = values[next];
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[gap] = 0;
+		values[gap] = null;
+		size--;
+	}
+
+	private void resize() {
+		if (keys.length >= PrimitiveHashing.MAXIMUM_CAPACITY) {
+			throw new IllegalStateException("map capacity limit reached");
+		}
+		final int[] oldKeys = keys;
+		final Object[] oldValues = values;
+		allocate(2 * oldKeys.length);
+		for (int k = 0; k < oldKeys.length; k++) {
+			if (oldKeys[k] != 0) {
+				int index = PrimitiveHashing.mix(oldKeys[k]) & mask;
+				while (keys[index] != 0) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = oldKeys[k];
+				values[index] = oldValues[k];
+			}
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		size = 0;
+		hasZeroKey = false;
+		zeroValue = null;
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, null);
+	}
+
+	public void forEach(EntryConsumer<? super V> action) {
+		if (hasZeroKey) {
+			action.accept(0, zeroValue);
+		}
+		for (int k = 0; k < keys.length; k++) {
+			if (keys[k] != 0) {
+				action.accept(keys[k], (V) values[k]);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner join = new StringJoiner(",", "[", "]");
+		forEach((key, value) -> join.add(key + "=" + value));
+		return join.toString();
+	}
+
+}
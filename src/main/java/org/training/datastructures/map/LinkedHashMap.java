@@ -0,0 +1,181 @@
+package org.training.datastructures.map;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+public class LinkedHashMap<K, V> extends HashMap<K, V> {
+
+	private final boolean accessOrder;
+	private LinkedEntry<K, V> head;
+	private LinkedEntry<K, V> tail;
+
+	public LinkedHashMap() {
+		this(INITIAL_CAPACITY);
+	}
+
+	public LinkedHashMap(int capacity) {
+		this(capacity, DEFAULT_LOAD_FACTOR);
+	}
+
+	public LinkedHashMap(int capacity, double loadFactor) {
+		this(capacity, loadFactor, false);
+	}
+
+	public LinkedHashMap(int capacity, double loadFactor, boolean accessOrder) {
+		super(capacity, loadFactor);
+		this.accessOrder = accessOrder;
+	}
+
+	public LinkedHashMap(Map<K, V> map) {
+		this(Math.max(1, (int) Math.ceil(map.size() / DEFAULT_LOAD_FACTOR)));
+		putAll(map);
+	}
+
+	protected boolean removeEldestEntry(Entry<K, V> eldest) {
+		return false;
+	}
+
+	private void linkLast(LinkedEntry<K, V> entry) {
+		entry.before = tail;
+		entry.after = null;
+		if (tail == null) {
+			head = entry;
+		} else {
+			tail.after = entry;
+		}
+		tail = entry;
+	}
+
+	private void unlink(LinkedEntry<K, V> entry) {
+		if (entry.before == null) {
+			head = entry.after;
+		} else {
+			entry.before.after = entry.after;
+		}
+		if (entry.after == null) {
+			tail = entry.before;
+		} else {
+			entry.after.before = entry.before;
+		}
+		entry.before = entry.after = null;
+	}
+
+	@Override
+	MapEntry<K, V> newEntry(int hash, K key, V value) {
+		var entry = new LinkedEntry<>(hash, key, value);
+		linkLast(entry);
+		return entry;
+	}
+
+	@Override
+	TreeEntry<K, V> newTreeEntry(int hash, K key, V value) {
+		var entry = super.newTreeEntry(hash, key, value);
+		linkLast(entry);
+		return entry;
+	}
+
+	@Override
+	TreeEntry<K, V> toTreeEntry(MapEntry<K, V> entry) {
+		var replacement = super.toTreeEntry(entry);
+		if (replacement != entry) {
+			var original = (LinkedEntry<K, V>) entry;
+			replacement.before = original.before;
+			replacement.after = original.after;
+			if (original.before == null) {
+				head = replacement;
+			} else {
+				original.before.after = replacement;
+			}
+			if (original.after == null) {
+				tail = replacement;
+			} else {
+				original.after.before = replacement;
+			}
+			original.before = original.after = null;
+		}
+		return replacement;
+	}
+
+	@Override
+	void afterInsert(MapEntry<K, V> entry) {
+		if (head != null && removeEldestEntry(head)) {
+			removeEntry(head.hash, head.key, true);
+		}
+	}
+
+	@Override
+	void afterAccess(MapEntry<K, V> entry) {
+		if (accessOrder && entry != tail) {
+			var linked = (LinkedEntry<K, V>) entry;
+			unlink(linked);
+			linkLast(linked);
+		}
+	}
+
+	@Override
+	void afterRemove(MapEntry<K, V> entry) {
+		unlink((LinkedEntry<K, V>) entry);
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		head = tail = null;
+	}
+
+	@Override
+	public Iterator<Entry<K, V>> iterator() {
+		return new LinkedIterator();
+	}
+
+	@Override
+	public Spliterator<Entry<K, V>> spliterator() {
+		return Spliterators.spliterator(iterator(), size(),
+				Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+	}
+
+	private final class LinkedIterator implements Iterator<Entry<K, V>> {
+
+		private LinkedEntry<K, V> nextEntry = head;
+		private LinkedEntry<K, V> lastReturned;
+
+		@Override
+		public boolean hasNext() {
+			return nextEntry != null;
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			if (nextEntry == null) {
+				throw new NoSuchElementException("no more elements in map");
+			}
+			lastReturned = nextEntry;
+			nextEntry = nextEntry.after;
+			return lastReturned;
+		}
+
+		@Override
+		public void remove() {
+			if (lastReturned == null) {
+				throw new IllegalStateException("method 'next' should be called before 'remove'");
+			}
+			removeEntry(lastReturned.hash, lastReturned.key, false);
+			lastReturned = null;
+		}
+
+	}
+
+	static class LinkedEntry<K, V> extends MapEntry<K, V> {
+
+		LinkedEntry<K, V> before;
+		LinkedEntry<K, V> after;
+
+		LinkedEntry(int hash, K key, V value) {
+			super(hash, key, value);
+		}
+
+	}
+
+}
@@ -0,0 +1,222 @@
+package org.training.datastructures.map;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+public class Long2LongHashMap {
+
+	@FunctionalInterface
+	public interface EntryConsumer {
+
+		void accept(long key, long value);
+
+	}
+
+	private long[] keys;
+	private long[] values;
+	private boolean hasZeroKey;
+	private long zeroValue;
+	private final long missingValue;
+	private final double loadFactor;
+	private int mask;
+	private int threshold;
+	private int size;
+
+	public Long2LongHashMap() {
+		this(PrimitiveHashing.INITIAL_CAPACITY);
+	}
+
+	public Long2LongHashMap(int expectedSize) {
+		this(expectedSize, PrimitiveHashing.DEFAULT_LOAD_FACTOR);
+	}
+
+	public Long2LongHashMap(int expectedSize, double loadFactor) {
+		this(expectedSize, loadFactor, 0);
+	}
+
+	public Long2LongHashMap(int expectedSize, double loadFactor, long missingValue) {
+		PrimitiveHashing.checkArguments(expectedSize, loadFactor);
+		this.loadFactor = loadFactor;
+		this.missingValue = missingValue;
+		allocate(PrimitiveHashing.tableSizeFor(expectedSize, loadFactor));
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new long[capacity];
+		mask = capacity - 1;
+		threshold = PrimitiveHashing.threshold(capacity, loadFactor);
+	}
+
+	int capacity() {
+		return keys.length;
+	}
+
+	public long missingValue() {
+		return missingValue;
+	}
+
+	private int find(long key) {
+		int index = PrimitiveHashing.mix(key) & mask;
+		while (keys[index] != 0) {
+			if (keys[index] == key) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	public long get(long key) {
+		return getOrDefault(key, missingValue);
+	}
+
+	public long getOrDefault(long key, long defaultValue) {
+		if (key == 0) {
+			return hasZeroKey ? zeroValue : defaultValue;
+		}
+		final int index = find(key);
+		return index < 0 ? defaultValue : values[index];
+	}
+
+	public boolean containsKey(long key) {
+		return key == 0 ? hasZeroKey : find(key) >= 0;
+	}
+
+	public long put(long key, long value) {
+		if (key == 0) {
+			final long originalValue = hasZeroKey ? zeroValue : missingValue;
+			zeroValue = value;
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				size++;
+			}
+			return originalValue;
+		}
+		int index = PrimitiveHashing.mix(key) & mask;
+		while (keys[index] != 0) {
+			if (keys[index] == key) {
+				final long originalValue = values[index];
+				values[index] = value;
+				return originalValue;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[index] = key;
+		values[index] = value;
+		if (++size > threshold) {
+			resize();
+		}
+		return missingValue;
+	}
+
+	public long addTo(long key, long delta) {
+		if (key == 0) {
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				zeroValue = missingValue;
+				size++;
+			}
+			return zeroValue += delta;
+		}
+		int index = PrimitiveHashing.mix(key) & mask;
+		while (keys[index] != 0) {
+			if (keys[index] == key) {
+				return values[index] += delta;
+			}
+			index = (index + 1) & mask;
+		}
+		final long value = missingValue + delta;
+		keys[index] = key;
+		values[index] = value;
+		if (++size > threshold) {
+			resize();
+		}
+		return value;
+	}
+
+	public long remove(long key) {
+		if (key == 0) {
+			if (!hasZeroKey) {
+				return missingValue;
+			}
+			hasZeroKey = false;
+			size--;
+			return zeroValue;
+		}
+		final int index = find(key);
+		if (index < 0) {
+			return missingValue;
+		}
+		final long originalValue = values[index];
+		removeAt(index);
+		return originalValue;
+	}
+
+	private void removeAt(int gap) {
+		int next = (gap + 1) & mask;
+		while (keys[next] != 0) {
+			final int home = PrimitiveHashing.mix(keys[next]) & mask;
+			if (((next - home) & mask) >= ((next - gap) & mask)) {
+				keys[gap] = keys[next];
+				values[gap] = values[next];
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[gap] = 0;
+		size--;
+	}
+
+	private void resize() {
+		if (keys.length >= PrimitiveHashing.MAXIMUM_CAPACITY) {
+			throw new IllegalStateException("map capacity limit reached");
+		}
+		final long[] oldKeys = keys;
+		final long[] oldValues = values;
+		allocate(2 * oldKeys.length);
+		for (int k = 0; k < oldKeys.length; k++) {
+			if (oldKeys[k] != 0) {
+				int index = PrimitiveHashing.mix(oldKeys[k]) & mask;
+				while (keys[index] != 0) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = oldKeys[k];
+				values[index] = oldValues[k];
+			}
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		size = 0;
+		hasZeroKey = false;
+		Arrays.fill(keys, 0);
+	}
+
+	public void forEach(EntryConsumer action) {
+		if (hasZeroKey) {
+			action.accept(0, zeroValue);
+		}
+		for (int k = 0; k < keys.length; k++) {
+			if (keys[k] != 0) {
+				action.accept(keys[k], values[k]);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner join = new StringJoiner(",", "[", "]");
+		forEach((key, value) -> join.add(key + "=" + value));
+		return join.toString();
+	}
+
+}
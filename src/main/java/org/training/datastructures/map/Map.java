@@ -2,6 +2,10 @@ package org.training.datastructures.map;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface Map<K, V> extends Iterable<Map.Entry<K, V>> {
 
@@ -29,6 +33,24 @@ public interface Map<K, V> extends Iterable<Map.Entry<K, V>> {
 
 	V remove(K key);
 
+	V getOrDefault(K key, V defaultValue);
+
+	V putIfAbsent(K key, V value);
+
+	V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+	V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction);
+
+	V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction);
+
+	default Stream<Entry<K, V>> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	default Stream<Entry<K, V>> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
 	interface Entry<K, V> {
 		
 		K getKey();
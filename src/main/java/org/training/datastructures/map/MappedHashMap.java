@@ -0,0 +1,466 @@
+package org.training.datastructures.map;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import org.training.datastructures.io.Codec;
+
+public class MappedHashMap<K, V> extends AbstractMap<K, V> implements AutoCloseable {
+
+	private static final int INITIAL_CAPACITY = 16;
+	private static final double LOAD_FACTOR = 0.75;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+	private static final int SEGMENT_BYTES = 1 << 30;
+
+	private static final int HEADER_BYTES = 64;
+	private static final int MAGIC = 0x4D484D50;
+	private static final int VERSION = 1;
+	private static final int MAGIC_OFFSET = 0;
+	private static final int VERSION_OFFSET = 4;
+	private static final int KEY_SIZE_OFFSET = 8;
+	private static final int VALUE_SIZE_OFFSET = 12;
+	private static final int CAPACITY_OFFSET = 16;
+	private static final int SIZE_OFFSET = 20;
+	private static final int STATE_OFFSET = 24;
+	private static final int CHECKSUM_OFFSET = 28;
+	private static final int CLEAN = 0;
+	private static final int DIRTY = 1;
+
+	private final Path path;
+	private final Codec<K> keyCodec;
+	private final Codec<V> valueCodec;
+	private final int keySize;
+	private final int valueSize;
+	private final int slotSize;
+	private final int segmentBytes;
+	private final ThreadLocal<ByteBuffer> keyBuffers;
+	private Table table;
+	private int threshold;
+	private int size;
+	private boolean dirty;
+	private boolean recovered;
+
+	private MappedHashMap(Path path, Codec<K> keyCodec, Codec<V> valueCodec, int segmentBytes) {
+		this.path = Objects.requireNonNull(path, "path should be specified");
+		this.keyCodec = Objects.requireNonNull(keyCodec, "key codec should be specified");
+		this.valueCodec = Objects.requireNonNull(valueCodec, "value codec should be specified");
+		if (!keyCodec.isFixedSize() || !valueCodec.isFixedSize()) {
+			throw new IllegalArgumentException("key and value codecs should have fixed size");
+		}
+		keySize = keyCodec.fixedSize();
+		valueSize = valueCodec.fixedSize();
+		slotSize = SlotTable.TAG_BYTES + keySize + valueSize;
+		if (slotSize > segmentBytes) {
+			throw new IllegalArgumentException(
+					String.format("slot size %d should not exceed segment size %d", slotSize, segmentBytes));
+		}
+		this.segmentBytes = segmentBytes;
+		keyBuffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(keySize));
+	}
+
+	public static <K, V> MappedHashMap<K, V> open(Path path, Codec<K> keyCodec, Codec<V> valueCodec)
+			throws IOException {
+		return open(path, keyCodec, valueCodec, INITIAL_CAPACITY);
+	}
+
+	public static <K, V> MappedHashMap<K, V> open(Path path, Codec<K> keyCodec, Codec<V> valueCodec, int capacity)
+			throws IOException {
+		return open(path, keyCodec, valueCodec, capacity, SEGMENT_BYTES);
+	}
+
+	static <K, V> MappedHashMap<K, V> open(Path path, Codec<K> keyCodec, Codec<V> valueCodec, int capacity,
+			int segmentBytes) throws IOException {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException(String.format("initial capacity %d should be greater 0", capacity));
+		}
+		final var map = new MappedHashMap<>(path, keyCodec, valueCodec, segmentBytes);
+		final var channel = FileChannel.open(path, READ, WRITE, CREATE);
+		try {
+			if (channel.size() == 0) {
+				map.create(channel, tableSizeFor(capacity));
+			} else {
+				map.load(channel);
+			}
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+		return map;
+	}
+
+	private static int tableSizeFor(int capacity) {
+		if (capacity >= MAXIMUM_CAPACITY) {
+			return MAXIMUM_CAPACITY;
+		}
+		return Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+	}
+
+	private void create(FileChannel channel, int capacity) throws IOException {
+		setTable(new Table(channel, capacity));
+		writeHeader(CLEAN);
+		table.header.force();
+	}
+
+	private void load(FileChannel channel) throws IOException {
+		if (channel.size() < HEADER_BYTES) {
+			throw new IllegalStateException(String.format("file of %d bytes has no header", channel.size()));
+		}
+		final var header = channel.map(MapMode.READ_ONLY, 0, HEADER_BYTES);
+		if (header.getInt(CHECKSUM_OFFSET) != checksum(header)) {
+			throw new IllegalStateException("header checksum mismatch");
+		}
+		if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+			throw new IllegalStateException(String.format("unsupported file format %x version %d",
+					header.getInt(MAGIC_OFFSET), header.getInt(VERSION_OFFSET)));
+		}
+		if (header.getInt(KEY_SIZE_OFFSET) != keySize || header.getInt(VALUE_SIZE_OFFSET) != valueSize) {
+			throw new IllegalArgumentException(String.format("codec sizes %d/%d don't match stored sizes %d/%d",
+					keySize, valueSize, header.getInt(KEY_SIZE_OFFSET), header.getInt(VALUE_SIZE_OFFSET)));
+		}
+		final int capacity = header.getInt(CAPACITY_OFFSET);
+		if (Integer.bitCount(capacity) != 1 || channel.size() < HEADER_BYTES + (long) capacity * slotSize) {
+			throw new IllegalStateException(String.format("capacity %d doesn't match file of %d bytes", capacity,
+					channel.size()));
+		}
+		setTable(new Table(channel, capacity));
+		if (header.getInt(STATE_OFFSET) == CLEAN) {
+			size = header.getInt(SIZE_OFFSET);
+		} else {
+			rewrite(capacity);
+			recovered = true;
+		}
+	}
+
+	private void setTable(Table table) {
+		this.table = table;
+		threshold = Math.min((int) (table.slots.capacity() * LOAD_FACTOR), table.slots.capacity() - 1);
+	}
+
+	private static int checksum(ByteBuffer header) {
+		final var crc = new CRC32();
+		crc.update(header.slice(0, CHECKSUM_OFFSET));
+		return (int) crc.getValue();
+	}
+
+	private void writeHeader(int state) {
+		final var header = table.header;
+		header.putInt(MAGIC_OFFSET, MAGIC);
+		header.putInt(VERSION_OFFSET, VERSION);
+		header.putInt(KEY_SIZE_OFFSET, keySize);
+		header.putInt(VALUE_SIZE_OFFSET, valueSize);
+		header.putInt(CAPACITY_OFFSET, table.slots.capacity());
+		header.putInt(SIZE_OFFSET, size);
+		header.putInt(STATE_OFFSET, state);
+		header.putInt(CHECKSUM_OFFSET, checksum(header));
+	}
+
+	private void markDirty() {
+		if (!dirty) {
+			writeHeader(DIRTY);
+			table.header.force();
+			dirty = true;
+		}
+	}
+
+	public void force() {
+		ensureOpen();
+		for (var segment : table.slots.segments()) {
+			((MappedByteBuffer) segment).force();
+		}
+		writeHeader(CLEAN);
+		table.header.force();
+		dirty = false;
+	}
+
+	boolean recovered() {
+		return recovered;
+	}
+
+	int capacity() {
+		return table.slots.capacity();
+	}
+
+	int segmentCount() {
+		return table.slots.segments().length;
+	}
+
+	private void ensureOpen() {
+		if (table == null) {
+			throw new IllegalStateException("map is closed");
+		}
+	}
+
+	private ByteBuffer encode(K key) {
+		final var keyBuffer = keyBuffers.get();
+		keyCodec.write(key, keyBuffer, 0);
+		return keyBuffer;
+	}
+
+	private K readKey(int index) {
+		return keyCodec.read(table.slots.segment(index), table.slots.keyOffset(index));
+	}
+
+	private V readValue(int index) {
+		return valueCodec.read(table.slots.segment(index), table.slots.valueOffset(index));
+	}
+
+	private void writeValue(int index, V value) {
+		valueCodec.write(value, table.slots.segment(index), table.slots.valueOffset(index));
+	}
+
+	@Override
+	public V get(K key) {
+		ensureOpen();
+		final int index = table.slots.find(encode(key));
+		return index < 0 ? null : readValue(index);
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		ensureOpen();
+		return table.slots.find(encode(key)) >= 0;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		Objects.requireNonNull(value, "mapped map doesn't support null values");
+		ensureOpen();
+		final var slots = table.slots;
+		final var keyBuffer = encode(key);
+		final int tag = slots.hash(keyBuffer);
+		final int index = slots.slotFor(tag, keyBuffer);
+		markDirty();
+		if (slots.tagAt(index) != SlotTable.EMPTY) {
+			final V originalValue = readValue(index);
+			writeValue(index, value);
+			return originalValue;
+		}
+		slots.writeKey(index, keyBuffer);
+		writeValue(index, value);
+		slots.writeTag(index, tag);
+		if (++size > threshold) {
+			resize();
+		}
+		return null;
+	}
+
+	private void resize() {
+		if (capacity() >= MAXIMUM_CAPACITY) {
+			throw new IllegalStateException("map capacity limit reached");
+		}
+		rewrite(2 * capacity());
+	}
+
+	private void rewrite(int capacity) {
+		final var oldTable = table;
+		final int oldSize = size;
+		final var temporary = path.resolveSibling(path.getFileName() + ".resize");
+		try {
+			final var channel = FileChannel.open(temporary, READ, WRITE, CREATE, TRUNCATE_EXISTING);
+			try {
+				final var newTable = new Table(channel, capacity);
+				size = copyEntries(oldTable.slots, newTable.slots);
+				setTable(newTable);
+				force();
+				Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException | RuntimeException e) {
+				setTable(oldTable);
+				size = oldSize;
+				channel.close();
+				Files.deleteIfExists(temporary);
+				throw e;
+			}
+			oldTable.channel.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static int copyEntries(SlotTable source, SlotTable target) {
+		int count = 0;
+		for (int k = 0; k < source.capacity(); k++) {
+			if (source.tagAt(k) != SlotTable.EMPTY && target.transfer(source, k)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private V removeAt(int index) {
+		markDirty();
+		final V originalValue = readValue(index);
+		table.slots.removeAt(index);
+		size--;
+		return originalValue;
+	}
+
+	@Override
+	public V remove(K key) {
+		ensureOpen();
+		final int index = table.slots.find(encode(key));
+		return index < 0 ? null : removeAt(index);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		ensureOpen();
+		markDirty();
+		table.slots.clear();
+		size = 0;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (table != null) {
+			force();
+			table.channel.close();
+			table = null;
+		}
+	}
+
+	@Override
+	public Iterator<Entry<K, V>> iterator() {
+		ensureOpen();
+		return new MapIterator();
+	}
+
+	private final class Table {
+
+		private final FileChannel channel;
+		private final MappedByteBuffer header;
+		private final SlotTable slots;
+
+		private Table(FileChannel channel, int capacity) throws IOException {
+			final int segmentSlots = SlotTable.segmentSlots(capacity, slotSize, segmentBytes);
+			this.channel = channel;
+			header = channel.map(MapMode.READ_WRITE, 0, HEADER_BYTES);
+			final var segments = new MappedByteBuffer[capacity / segmentSlots];
+			for (int k = 0; k < segments.length; k++) {
+				segments[k] = channel.map(MapMode.READ_WRITE, HEADER_BYTES + (long) k * segmentSlots * slotSize,
+						(long) segmentSlots * slotSize);
+			}
+			slots = new SlotTable(segments, capacity, keySize, slotSize);
+		}
+
+	}
+
+	private final class MapIterator implements Iterator<Entry<K, V>> {
+
+		private int cursor;
+		private int remaining;
+		private int lastIndex = -1;
+
+		private MapIterator() {
+			cursor = table.slots.firstEmpty();
+			remaining = capacity();
+			advance();
+		}
+
+		private void advance() {
+			do {
+				cursor = table.slots.previous(cursor);
+				remaining--;
+			} while (remaining > 0 && table.slots.tagAt(cursor) == SlotTable.EMPTY);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("no more elements in map");
+			}
+			ensureOpen();
+			lastIndex = cursor;
+			final var entry = new SlotEntry(readKey(cursor), readValue(cursor));
+			advance();
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			if (lastIndex < 0) {
+				throw new IllegalStateException("method 'next' should be called before 'remove'");
+			}
+			ensureOpen();
+			removeAt(lastIndex);
+			lastIndex = -1;
+		}
+
+	}
+
+	private final class SlotEntry implements Entry<K, V> {
+
+		private final K key;
+		private V value;
+
+		private SlotEntry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			Objects.requireNonNull(value, "mapped map doesn't support null values");
+			ensureOpen();
+			final int index = table.slots.find(encode(key));
+			if (index < 0) {
+				throw new IllegalStateException("entry was removed from map");
+			}
+			markDirty();
+			final V originalValue = this.value;
+			this.value = value;
+			writeValue(index, value);
+			return originalValue;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(key);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o instanceof Entry<?, ?> entry) {
+				return Objects.equals(key, entry.getKey());
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,301 @@
+package org.training.datastructures.map;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.training.datastructures.io.Codec;
+
+public class OffHeapHashMap<K, V> extends AbstractMap<K, V> implements AutoCloseable {
+
+	private static final int INITIAL_CAPACITY = 16;
+	private static final double DEFAULT_LOAD_FACTOR = 0.75;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+	private static final int SEGMENT_BYTES = 1 << 30;
+
+	private final Codec<K> keyCodec;
+	private final Codec<V> valueCodec;
+	private final int keySize;
+	private final int slotSize;
+	private final int segmentBytes;
+	private final double loadFactor;
+	private final ThreadLocal<ByteBuffer> keyBuffers;
+	private SlotTable table;
+	private int threshold;
+	private int size;
+
+	public OffHeapHashMap(Codec<K> keyCodec, Codec<V> valueCodec) {
+		this(keyCodec, valueCodec, INITIAL_CAPACITY);
+	}
+
+	public OffHeapHashMap(Codec<K> keyCodec, Codec<V> valueCodec, int capacity) {
+		this(keyCodec, valueCodec, capacity, DEFAULT_LOAD_FACTOR);
+	}
+
+	public OffHeapHashMap(Codec<K> keyCodec, Codec<V> valueCodec, int capacity, double loadFactor) {
+		this(keyCodec, valueCodec, capacity, loadFactor, SEGMENT_BYTES);
+	}
+
+	OffHeapHashMap(Codec<K> keyCodec, Codec<V> valueCodec, int capacity, double loadFactor, int segmentBytes) {
+		this.keyCodec = Objects.requireNonNull(keyCodec, "key codec should be specified");
+		this.valueCodec = Objects.requireNonNull(valueCodec, "value codec should be specified");
+		if (!keyCodec.isFixedSize() || !valueCodec.isFixedSize()) {
+			throw new IllegalArgumentException("key and value codecs should have fixed size");
+		}
+		if (capacity <= 0) {
+			throw new IllegalArgumentException(String.format("initial capacity %d should be greater 0", capacity));
+		}
+		if (loadFactor <= 0 || loadFactor >= 1) {
+			throw new IllegalArgumentException(
+					String.format("initial load factor %10.2f should be in range (0, 1)", loadFactor));
+		}
+		keySize = keyCodec.fixedSize();
+		slotSize = SlotTable.TAG_BYTES + keySize + valueCodec.fixedSize();
+		if (slotSize > segmentBytes) {
+			throw new IllegalArgumentException(
+					String.format("slot size %d should not exceed segment size %d", slotSize, segmentBytes));
+		}
+		this.segmentBytes = segmentBytes;
+		this.loadFactor = loadFactor;
+		keyBuffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(keySize));
+		table = allocate(tableSizeFor(capacity));
+	}
+
+	private static int tableSizeFor(int capacity) {
+		if (capacity >= MAXIMUM_CAPACITY) {
+			return MAXIMUM_CAPACITY;
+		}
+		return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+	}
+
+	private SlotTable allocate(int capacity) {
+		final int segmentSlots = SlotTable.segmentSlots(capacity, slotSize, segmentBytes);
+		final var segments = new ByteBuffer[capacity / segmentSlots];
+		for (int k = 0; k < segments.length; k++) {
+			segments[k] = ByteBuffer.allocateDirect(segmentSlots * slotSize);
+		}
+		threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+		return new SlotTable(segments, capacity, keySize, slotSize);
+	}
+
+	int capacity() {
+		return table.capacity();
+	}
+
+	int segmentCount() {
+		return table.segments().length;
+	}
+
+	public long offHeapBytes() {
+		return table == null ? 0 : (long) capacity() * slotSize;
+	}
+
+	private void ensureOpen() {
+		if (table == null) {
+			throw new IllegalStateException("map is closed");
+		}
+	}
+
+	private ByteBuffer encode(K key) {
+		final var keyBuffer = keyBuffers.get();
+		keyCodec.write(key, keyBuffer, 0);
+		return keyBuffer;
+	}
+
+	private K readKey(int index) {
+		return keyCodec.read(table.segment(index), table.keyOffset(index));
+	}
+
+	private V readValue(int index) {
+		return valueCodec.read(table.segment(index), table.valueOffset(index));
+	}
+
+	private void writeValue(int index, V value) {
+		valueCodec.write(value, table.segment(index), table.valueOffset(index));
+	}
+
+	@Override
+	public V get(K key) {
+		ensureOpen();
+		final int index = table.find(encode(key));
+		return index < 0 ? null : readValue(index);
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		ensureOpen();
+		return table.find(encode(key)) >= 0;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		Objects.requireNonNull(value, "off-heap map doesn't support null values");
+		ensureOpen();
+		final var keyBuffer = encode(key);
+		final int tag = table.hash(keyBuffer);
+		final int index = table.slotFor(tag, keyBuffer);
+		if (table.tagAt(index) != SlotTable.EMPTY) {
+			final V originalValue = readValue(index);
+			writeValue(index, value);
+			return originalValue;
+		}
+		table.writeKey(index, keyBuffer);
+		writeValue(index, value);
+		table.writeTag(index, tag);
+		if (++size > threshold) {
+			resize();
+		}
+		return null;
+	}
+
+	private void resize() {
+		if (capacity() >= MAXIMUM_CAPACITY) {
+			throw new IllegalStateException("map capacity limit reached");
+		}
+		final var oldTable = table;
+		final var newTable = allocate(2 * oldTable.capacity());
+		for (int k = 0; k < oldTable.capacity(); k++) {
+			if (oldTable.tagAt(k) != SlotTable.EMPTY) {
+				newTable.transfer(oldTable, k);
+			}
+		}
+		table = newTable;
+	}
+
+	private V removeAt(int index) {
+		final V originalValue = readValue(index);
+		table.removeAt(index);
+		size--;
+		return originalValue;
+	}
+
+	@Override
+	public V remove(K key) {
+		ensureOpen();
+		final int index = table.find(encode(key));
+		return index < 0 ? null : removeAt(index);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		ensureOpen();
+		table.clear();
+		size = 0;
+	}
+
+	@Override
+	public void close() {
+		table = null;
+		size = 0;
+	}
+
+	@Override
+	public Iterator<Entry<K, V>> iterator() {
+		ensureOpen();
+		return new MapIterator();
+	}
+
+	private final class MapIterator implements Iterator<Entry<K, V>> {
+
+		private int cursor;
+		private int remaining;
+		private int lastIndex = -1;
+
+		private MapIterator() {
+			cursor = table.firstEmpty();
+			remaining = capacity();
+			advance();
+		}
+
+		private void advance() {
+			do {
+				cursor = table.previous(cursor);
+				remaining--;
+			} while (remaining > 0 && table.tagAt(cursor) == SlotTable.EMPTY);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("no more elements in map");
+			}
+			ensureOpen();
+			lastIndex = cursor;
+			final var entry = new SlotEntry(readKey(cursor), readValue(cursor));
+			advance();
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			if (lastIndex < 0) {
+				throw new IllegalStateException("method 'next' should be called before 'remove'");
+			}
+			ensureOpen();
+			removeAt(lastIndex);
+			lastIndex = -1;
+		}
+
+	}
+
+	private final class SlotEntry implements Entry<K, V> {
+
+		private final K key;
+		private V value;
+
+		private SlotEntry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			Objects.requireNonNull(value, "off-heap map doesn't support null values");
+			ensureOpen();
+			final int index = table.find(encode(key));
+			if (index < 0) {
+				throw new IllegalStateException("entry was removed from map");
+			}
+			final V originalValue = this.value;
+			this.value = value;
+			writeValue(index, value);
+			return originalValue;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(key);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o instanceof Entry<?, ?> entry) {
+				return Objects.equals(key, entry.getKey());
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,301 @@
+package org.training.datastructures.map;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+public class OpenHashMap<K, V> extends AbstractMap<K, V> {
+
+	private static final int INITIAL_CAPACITY = 16;
+	private static final double DEFAULT_LOAD_FACTOR = 0.75;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private int[] hashes;
+	private Object[] keys;
+	private Object[] values;
+	private final double loadFactor;
+	private final HashSpreading hashSpreading;
+	private int mask;
+	private int threshold;
+	private int size;
+
+	public OpenHashMap() {
+		this(INITIAL_CAPACITY);
+	}
+
+	public OpenHashMap(int capacity) {
+		this(capacity, DEFAULT_LOAD_FACTOR);
+	}
+
+	public OpenHashMap(int capacity, double loadFactor) {
+		this(capacity, loadFactor, HashSpreading.FIBONACCI);
+	}
+
+	public OpenHashMap(int capacity, double loadFactor, HashSpreading hashSpreading) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException(String.format("initial capacity %d should be greater 0", capacity));
+		}
+		if (loadFactor <= 0 || loadFactor >= 1) {
+			throw new IllegalArgumentException(
+					String.format("initial load factor %10.2f should be in range (0, 1)", loadFactor));
+		}
+		this.loadFactor = loadFactor;
+		this.hashSpreading = Objects.requireNonNull(hashSpreading, "hash spreading should be specified");
+		allocate(tableSizeFor(capacity));
+	}
+
+	public OpenHashMap(Map<K, V> map) {
+		this(Math.max(1, (int) Math.ceil(map.size() / DEFAULT_LOAD_FACTOR)));
+		putAll(map);
+	}
+
+	private static int tableSizeFor(int capacity) {
+		if (capacity >= MAXIMUM_CAPACITY) {
+			return MAXIMUM_CAPACITY;
+		}
+		return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+	}
+
+	private void allocate(int capacity) {
+		hashes = new int[capacity];
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+	}
+
+	int capacity() {
+		return keys.length;
+	}
+
+	private int hash(Object key) {
+		return hashSpreading.spread(key.hashCode());
+	}
+
+	private int probeDistance(int hash, int index) {
+		return (index - (hash & mask)) & mask;
+	}
+
+	private int find(Object key) {
+		final int hash = hash(key);
+		int index = hash & mask;
+		for (int distance = 0;; distance++) {
+			final Object slotKey = keys[index];
+			if (slotKey == null || probeDistance(hashes[index], index) < distance) {
+				return -1;
+			}
+			if (hashes[index] == hash && Objects.equals(slotKey, key)) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	@Override
+	public V put(K key, V value) {
+		final int hash = hash(key);
+		int index = hash & mask;
+		int distance = 0;
+		while (keys[index] != null && probeDistance(hashes[index], index) >= distance) {
+			if (hashes[index] == hash && Objects.equals(keys[index], key)) {
+				final V originalValue = (V) values[index];
+				values[index] = value;
+				return originalValue;
+			}
+			index = (index + 1) & mask;
+			distance++;
+		}
+		insert(index, distance, hash, key, value);
+		if (++size > threshold) {
+			resize();
+		}
+		return null;
+	}
+
+	private void insert(int index, int distance, int hash, Object key, Object value) {
+		while (keys[index] != null) {
+			final int slotDistance = probeDistance(hashes[index], index);
+			if (slotDistance < distance) {
+				final int displacedHash = hashes[index];
+				final Object displacedKey = keys[index];
+				final Object displacedValue = values[index];
+				hashes[index] = hash;
+				keys[index] = key;
+				values[index] = value;
+				hash = displacedHash;
+				key = displacedKey;
+				value = displacedValue;
+				distance = slotDistance;
+			}
+			index = (index + 1) & mask;
+			distance++;
+		}
+		hashes[index] = hash;
+		keys[index] = key;
+		values[index] = value;
+	}
+
+	private void resize() {
+		if (capacity() >= MAXIMUM_CAPACITY) {
+			throw new IllegalStateException("map capacity limit reached");
+		}
+		final int[] oldHashes = hashes;
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		allocate(2 * oldKeys.length);
+		for (int k = 0; k < oldKeys.length; k++) {
+			if (oldKeys[k] != null) {
+				insert(oldHashes[k] & mask, 0, oldHashes[k], oldKeys[k], oldValues[k]);
+			}
+		}
+	}
+
+	private V removeAt(int index) {
+		final V originalValue = (V) values[index];
+		int next = (index + 1) & mask;
+		while (keys[next] != null && probeDistance(hashes[next], next) > 0) {
+			hashes[index] = hashes[next];
+			keys[index] = keys[next];
+			values[index] = values[next];
+			index = next;
+			next = (next + 1) & mask;
+		}
+		keys[index] = null;
+		values[index] = null;
+		size--;
+		return originalValue;
+	}
+
+	@Override
+	public V get(K key) {
+		final int index = find(key);
+		return index < 0 ? null : (V) values[index];
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return find(key) >= 0;
+	}
+
+	@Override
+	public V remove(K key) {
+		final int index = find(key);
+		return index < 0 ? null : removeAt(index);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		Arrays.fill(keys, null);
+		Arrays.fill(values, null);
+	}
+
+	@Override
+	public Iterator<Entry<K, V>> iterator() {
+		return new MapIterator();
+	}
+
+	private final class MapIterator implements Iterator<Entry<K, V>> {
+
+		private int cursor;
+		private int remaining;
+		private int lastIndex = -1;
+
+		private MapIterator() {
+			int start = 0;
+			while (keys[start] != null) {
+				start++;
+			}
+			cursor = start;
+			remaining = keys.length;
+			advance();
+		}
+
+		private void advance() {
+			do {
+				cursor = (cursor - 1) & mask;
+				remaining--;
+			} while (remaining > 0 && keys[cursor] == null);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("no more elements in map");
+			}
+			lastIndex = cursor;
+			final var entry = new SlotEntry((K) keys[cursor], (V) values[cursor]);
+			advance();
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			if (lastIndex < 0) {
+				throw new IllegalStateException("method 'next' should be called before 'remove'");
+			}
+			removeAt(lastIndex);
+			lastIndex = -1;
+		}
+
+	}
+
+	private final class SlotEntry implements Entry<K, V> {
+
+		private final K key;
+		private V value;
+
+		private SlotEntry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			final int index = find(key);
+			if (index < 0) {
+				throw new IllegalStateException("entry was removed from map");
+			}
+			V originalValue = this.value;
+			this.value = value;
+			values[index] = value;
+			return originalValue;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(key);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o instanceof Entry<?, ?> entry) {
+				return Objects.equals(key, entry.getKey());
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,548 @@
+package org.training.datastructures.map;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+	private static final int BITS = 5;
+	private static final int MASK = (1 << BITS) - 1;
+	private static final int HASH_BITS = Integer.SIZE;
+	private static final Object NOT_FOUND = new Object();
+	private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+	private final Node root;
+	private final int size;
+
+	private PersistentHashMap(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	public static <K, V> PersistentHashMap<K, V> empty() {
+		return (PersistentHashMap<K, V>) EMPTY;
+	}
+
+	public static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+		PersistentHashMap<K, V> result = empty();
+		for (var entry : map) {
+			result = result.with(entry.getKey(), entry.getValue());
+		}
+		return result;
+	}
+
+	private static int hash(Object key) {
+		return HashSpreading.XOR_SHIFT.spread(key.hashCode());
+	}
+
+	private static int mask(int hash, int shift) {
+		return (hash >>> shift) & MASK;
+	}
+
+	private static int bitpos(int mask) {
+		return 1 << mask;
+	}
+
+	public PersistentHashMap<K, V> with(K key, V value) {
+		final var change = new Change();
+		final var newRoot = root.updated(key, value, hash(key), 0, change);
+		if (newRoot == root) {
+			return this;
+		}
+		return new PersistentHashMap<>(newRoot, change.replaced ? size : size + 1);
+	}
+
+	public PersistentHashMap<K, V> without(K key) {
+		final var change = new Change();
+		final var newRoot = root.removed(key, hash(key), 0, change);
+		if (!change.removed) {
+			return this;
+		}
+		return new PersistentHashMap<>(newRoot, size - 1);
+	}
+
+	@Override
+	public V get(K key) {
+		final Object value = root.find(key, hash(key), 0);
+		return value == NOT_FOUND ? null : (V) value;
+	}
+
+	@Override
+	public V getOrDefault(K key, V defaultValue) {
+		final Object value = root.find(key, hash(key), 0);
+		return value == NOT_FOUND ? defaultValue : (V) value;
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return root.find(key, hash(key), 0) != NOT_FOUND;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	int depth() {
+		return root.depth();
+	}
+
+	private static UnsupportedOperationException immutable() {
+		return new UnsupportedOperationException("persistent map is immutable, use 'with' and 'without'");
+	}
+
+	@Override
+	public V put(K key, V value) {
+		throw immutable();
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> m) {
+		throw immutable();
+	}
+
+	@Override
+	public V remove(K key) {
+		throw immutable();
+	}
+
+	@Override
+	public void clear() {
+		throw immutable();
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		throw immutable();
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		throw immutable();
+	}
+
+	@Override
+	public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		throw immutable();
+	}
+
+	@Override
+	public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		throw immutable();
+	}
+
+	@Override
+	public Iterator<Entry<K, V>> iterator() {
+		return new TrieIterator();
+	}
+
+	private static final class Change {
+		private boolean replaced;
+		private boolean removed;
+	}
+
+	private abstract static class Node {
+
+		abstract Object find(Object key, int hash, int shift);
+
+		abstract Node updated(Object key, Object value, int hash, int shift, Change change);
+
+		abstract Node removed(Object key, int hash, int shift, Change change);
+
+		abstract int payloadArity();
+
+		abstract int nodeArity();
+
+		abstract Object keyAt(int index);
+
+		abstract Object valueAt(int index);
+
+		abstract Node nodeAt(int index);
+
+		boolean isSingleton() {
+			return payloadArity() == 1 && nodeArity() == 0;
+		}
+
+		int depth() {
+			int depth = 0;
+			for (int k = 0; k < nodeArity(); k++) {
+				depth = Math.max(depth, nodeAt(k).depth());
+			}
+			return depth + 1;
+		}
+
+	}
+
+	private static final class BitmapNode extends Node {
+
+		private static final BitmapNode EMPTY = new BitmapNode(0, 0, new Object[0]);
+
+		private final int dataMap;
+		private final int nodeMap;
+		private final Object[] content;
+
+		private BitmapNode(int dataMap, int nodeMap, Object[] content) {
+			this.dataMap = dataMap;
+			this.nodeMap = nodeMap;
+			this.content = content;
+		}
+
+		private static Node mergeTwo(Object key0, Object value0, int hash0, Object key1, Object value1, int hash1,
+				int shift) {
+			if (shift >= HASH_BITS) {
+				return new CollisionNode(hash0, new Object[] { key0, value0, key1, value1 });
+			}
+			final int mask0 = mask(hash0, shift);
+			final int mask1 = mask(hash1, shift);
+			if (mask0 != mask1) {
+				final Object[] content = mask0 < mask1 ? new Object[] { key0, value0, key1, value1 }
+						: new Object[] { key1, value1, key0, value0 };
+				return new BitmapNode(bitpos(mask0) | bitpos(mask1), 0, content);
+			}
+			final var node = mergeTwo(key0, value0, hash0, key1, value1, hash1, shift + BITS);
+			return new BitmapNode(0, bitpos(mask0), new Object[] { node });
+		}
+
+		private int dataIndex(int bit) {
+			return Integer.bitCount(dataMap & (bit - 1));
+		}
+
+		private int nodeIndex(int bit) {
+			return Integer.bitCount(nodeMap & (bit - 1));
+		}
+
+		private Node nodeFor(int bit) {
+			return (Node) content[content.length - 1 - nodeIndex(bit)];
+		}
+
+		@Override
+		Object find(Object key, int hash, int shift) {
+			final int bit = bitpos(mask(hash, shift));
+			if ((dataMap & bit) != 0) {
+				final int index = dataIndex(bit);
+				return Objects.equals(content[2 * index], key) ? content[2 * index + 1] : NOT_FOUND;
+			}
+			if ((nodeMap & bit) != 0) {
+				return nodeFor(bit).find(key, hash, shift + BITS);
+			}
+			return NOT_FOUND;
+		}
+
+		@Override
+		Node updated(Object key, Object value, int hash, int shift, Change change) {
+			final int bit = bitpos(mask(hash, shift));
+			if ((dataMap & bit) != 0) {
+				final int index = dataIndex(bit);
+				final Object currentKey = content[2 * index];
+				if (Objects.equals(currentKey, key)) {
+					change.replaced = true;
+					if (content[2 * index + 1] == value) {
+						return this;
+					}
+					final Object[] newContent = content.clone();
+					newContent[2 * index + 1] = value;
+					return new BitmapNode(dataMap, nodeMap, newContent);
+				}
+				final var node = mergeTwo(currentKey, content[2 * index + 1], hash(currentKey), key, value, hash,
+						shift + BITS);
+				return copyAndMigrateToNode(bit, node);
+			}
+			if ((nodeMap & bit) != 0) {
+				final var node = nodeFor(bit);
+				final var newNode = node.updated(key, value, hash, shift + BITS, change);
+				return newNode == node ? this : copyAndSetNode(bit, newNode);
+			}
+			return copyAndInsertValue(bit, key, value);
+		}
+
+		@Override
+		Node removed(Object key, int hash, int shift, Change change) {
+			final int bit = bitpos(mask(hash, shift));
+			if ((dataMap & bit) != 0) {
+				final int index = dataIndex(bit);
+				if (!Objects.equals(content[2 * index], key)) {
+					return this;
+				}
+				change.removed = true;
+				if (payloadArity() == 2 && nodeArity() == 0) {
+					final int remaining = 1 - index;
+					final int newDataMap = shift == 0 ? dataMap ^ bit : bitpos(mask(hash(content[2 * remaining]), 0));
+					return new BitmapNode(newDataMap, 0,
+							new Object[] { content[2 * remaining], content[2 * remaining + 1] });
+				}
+				return copyAndRemoveValue(bit);
+			}
+			if ((nodeMap & bit) != 0) {
+				final var node = nodeFor(bit);
+				final var newNode = node.removed(key, hash, shift + BITS, change);
+				if (!change.removed) {
+					return this;
+				}
+				if (newNode.isSingleton()) {
+					if (payloadArity() == 0 && nodeArity() == 1) {
+						return newNode;
+					}
+					return copyAndMigrateToInline(bit, newNode);
+				}
+				return copyAndSetNode(bit, newNode);
+			}
+			return this;
+		}
+
+		private Node copyAndSetNode(int bit, Node node) {
+			final Object[] newContent = content.clone();
+			newContent[content.length - 1 - nodeIndex(bit)] = node;
+			return new BitmapNode(dataMap, nodeMap, newContent);
+		}
+
+		private Node copyAndInsertValue(int bit, Object key, Object value) {
+			final int index = 2 * dataIndex(bit);
+			final Object[] newContent = new Object[content.length + 2];
+			System.arraycopy(content, 0, newContent, 0, index);
+			newContent[index] = key;
+			newContent[index + 1] = value;
+			System.arraycopy(content, index, newContent, index + 2, content.length - index);
+			return new BitmapNode(dataMap | bit, nodeMap, newContent);
+		}
+
+		private Node copyAndRemoveValue(int bit) {
+			final int index = 2 * dataIndex(bit);
+			final Object[] newContent = new Object[content.length - 2];
+			System.arraycopy(content, 0, newContent, 0, index);
+			System.arraycopy(content, index + 2, newContent, index, content.length - index - 2);
+			return new BitmapNode(dataMap ^ bit, nodeMap, newContent);
+		}
+
+		private Node copyAndMigrateToNode(int bit, Node node) {
+			final int oldIndex = 2 * dataIndex(bit);
+			final int newIndex = content.length - 2 - nodeIndex(bit);
+			final Object[] newContent = new Object[content.length - 1];
+			System.arraycopy(content, 0, newContent, 0, oldIndex);
+			System.arraycopy(content, oldIndex + 2, newContent, oldIndex, newIndex - oldIndex);
+			newContent[newIndex] = node;
+			System.arraycopy(content, newIndex + 2, newContent, newIndex + 1, content.length - newIndex - 2);
+			return new BitmapNode(dataMap ^ bit, nodeMap | bit, newContent);
+		}
+
+		private Node copyAndMigrateToInline(int bit, Node node) {
+			final int oldIndex = content.length - 1 - nodeIndex(bit);
+			final int newIndex = 2 * dataIndex(bit);
+			final Object[] newContent = new Object[content.length + 1];
+			System.arraycopy(content, 0, newContent, 0, newIndex);
+			newContent[newIndex] = node.keyAt(0);
+			newContent[newIndex + 1] = node.valueAt(0);
+			System.arraycopy(content, newIndex, newContent, newIndex + 2, oldIndex - newIndex);
+			System.arraycopy(content, oldIndex + 1, newContent, oldIndex + 2, content.length - oldIndex - 1);
+			return new BitmapNode(dataMap | bit, nodeMap ^ bit, newContent);
+		}
+
+		@Override
+		int payloadArity() {
+			return Integer.bitCount(dataMap);
+		}
+
+		@Override
+		int nodeArity() {
+			return Integer.bitCount(nodeMap);
+		}
+
+		@Override
+		Object keyAt(int index) {
+			return content[2 * index];
+		}
+
+		@Override
+		Object valueAt(int index) {
+			return content[2 * index + 1];
+		}
+
+		@Override
+		Node nodeAt(int index) {
+			return (Node) content[content.length - 1 - index];
+		}
+
+	}
+
+	private static final class CollisionNode extends Node {
+
+		private final int hash;
+		private final Object[] content;
+
+		private CollisionNode(int hash, Object[] content) {
+			this.hash = hash;
+			this.content = content;
+		}
+
+		private int indexOf(Object key) {
+			for (int k = 0; k < content.length; k += 2) {
+				if (Objects.equals(content[k], key)) {
+					return k;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		Object find(Object key, int hash, int shift) {
+			final int index = indexOf(key);
+			return index < 0 ? NOT_FOUND : content[index + 1];
+		}
+
+		@Override
+		Node updated(Object key, Object value, int hash, int shift, Change change) {
+			final int index = indexOf(key);
+			if (index >= 0) {
+				change.replaced = true;
+				if (content[index + 1] == value) {
+					return this;
+				}
+				final Object[] newContent = content.clone();
+				newContent[index + 1] = value;
+				return new CollisionNode(this.hash, newContent);
+			}
+			final Object[] newContent = Arrays.copyOf(content, content.length + 2);
+			newContent[content.length] = key;
+			newContent[content.length + 1] = value;
+			return new CollisionNode(this.hash, newContent);
+		}
+
+		@Override
+		Node removed(Object key, int hash, int shift, Change change) {
+			final int index = indexOf(key);
+			if (index < 0) {
+				return this;
+			}
+			change.removed = true;
+			if (content.length == 4) {
+				final int remaining = 2 - index;
+				return new BitmapNode(bitpos(mask(this.hash, 0)), 0,
+						new Object[] { content[remaining], content[remaining + 1] });
+			}
+			final Object[] newContent = new Object[content.length - 2];
+			System.arraycopy(content, 0, newContent, 0, index);
+			System.arraycopy(content, index + 2, newContent, index, content.length - index - 2);
+			return new CollisionNode(this.hash, newContent);
+		}
+
+		@Override
+		int payloadArity() {
+			return content.length / 2;
+		}
+
+		@Override
+		int nodeArity() {
+			return 0;
+		}
+
+		@Override
+		Object keyAt(int index) {
+			return content[2 * index];
+		}
+
+		@Override
+		Object valueAt(int index) {
+			return content[2 * index + 1];
+		}
+
+		@Override
+		Node nodeAt(int index) {
+			throw new IndexOutOfBoundsException(String.format("collision node has no child %d", index));
+		}
+
+	}
+
+	private final class TrieIterator implements Iterator<Entry<K, V>> {
+
+		private final Node[] nodes = new Node[HASH_BITS / BITS + 2];
+		private final int[] nodeCursors = new int[nodes.length];
+		private int depth;
+		private Node current;
+		private int payloadCursor;
+
+		private TrieIterator() {
+			nodes[0] = root;
+			current = root;
+			advance();
+		}
+
+		private void advance() {
+			while (payloadCursor >= current.payloadArity()) {
+				if (nodeCursors[depth] < nodes[depth].nodeArity()) {
+					final var child = nodes[depth].nodeAt(nodeCursors[depth]++);
+					depth++;
+					nodes[depth] = child;
+					nodeCursors[depth] = 0;
+					current = child;
+					payloadCursor = 0;
+				} else if (depth > 0) {
+					nodes[depth--] = null;
+				} else {
+					current = null;
+					return;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return current != null;
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			if (current == null) {
+				throw new NoSuchElementException("no more elements in map");
+			}
+			final var entry = new ImmutableEntry<>((K) current.keyAt(payloadCursor), (V) current.valueAt(payloadCursor));
+			payloadCursor++;
+			advance();
+			return entry;
+		}
+
+	}
+
+	private static final class ImmutableEntry<K, V> implements Entry<K, V> {
+
+		private final K key;
+		private final V value;
+
+		private ImmutableEntry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			throw immutable();
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(key);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o instanceof Entry<?, ?> entry) {
+				return Objects.equals(key, entry.getKey());
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,47 @@
+package org.training.datastructures.map;
+
+final class PrimitiveHashing {
+
+	static final int INITIAL_CAPACITY = 16;
+	static final double DEFAULT_LOAD_FACTOR = 0.75;
+	static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private static final int INT_PHI = 0x9E3779B9;
+	private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+	private PrimitiveHashing() {
+	}
+
+	static int mix(int key) {
+		final int h = key * INT_PHI;
+		return h ^ (h >>> 16);
+	}
+
+	static int mix(long key) {
+		final long h = key * LONG_PHI;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	static int tableSizeFor(int expectedSize, double loadFactor) {
+		final long required = (long) Math.ceil(expectedSize / loadFactor) + 1;
+		if (required >= MAXIMUM_CAPACITY) {
+			return MAXIMUM_CAPACITY;
+		}
+		return Math.max(2, Integer.highestOneBit((int) required - 1) << 1);
+	}
+
+	static int threshold(int capacity, double loadFactor) {
+		return Math.min((int) (capacity * loadFactor), capacity - 1);
+	}
+
+	static void checkArguments(int capacity, double loadFactor) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException(String.format("initial capacity %d should not be negative", capacity));
+		}
+		if (loadFactor <= 0 || loadFactor >= 1) {
+			throw new IllegalArgumentException(
+					String.format("initial load factor %10.2f should be in range (0, 1)", loadFactor));
+		}
+	}
+
+}
@@ -0,0 +1,160 @@
+package org.training.datastructures.map;
+
+import java.nio.ByteBuffer;
+
+final class SlotTable {
+
+	static final int TAG_BYTES = Integer.BYTES;
+	static final int EMPTY = 0;
+	private static final int OCCUPIED = 0x80000000;
+
+	private final ByteBuffer[] segments;
+	private final int keySize;
+	private final int slotSize;
+	private final int segmentShift;
+	private final int segmentMask;
+	private final int mask;
+
+	SlotTable(ByteBuffer[] segments, int capacity, int keySize, int slotSize) {
+		this.segments = segments;
+		this.keySize = keySize;
+		this.slotSize = slotSize;
+		final int segmentSlots = capacity / segments.length;
+		segmentShift = Integer.numberOfTrailingZeros(segmentSlots);
+		segmentMask = segmentSlots - 1;
+		mask = capacity - 1;
+	}
+
+	static int segmentSlots(int capacity, int slotSize, int segmentBytes) {
+		return Math.min(capacity, Integer.highestOneBit(segmentBytes / slotSize));
+	}
+
+	int capacity() {
+		return mask + 1;
+	}
+
+	ByteBuffer[] segments() {
+		return segments;
+	}
+
+	ByteBuffer segment(int index) {
+		return segments[index >>> segmentShift];
+	}
+
+	int offset(int index) {
+		return (index & segmentMask) * slotSize;
+	}
+
+	int keyOffset(int index) {
+		return offset(index) + TAG_BYTES;
+	}
+
+	int valueOffset(int index) {
+		return offset(index) + TAG_BYTES + keySize;
+	}
+
+	int tagAt(int index) {
+		return segment(index).getInt(offset(index));
+	}
+
+	int hash(ByteBuffer keyBuffer) {
+		long h = keySize;
+		int k = 0;
+		for (; k + Long.BYTES <= keySize; k += Long.BYTES) {
+			h = (h ^ keyBuffer.getLong(k)) * 0x9E3779B97F4A7C15L;
+		}
+		for (; k < keySize; k++) {
+			h = (h ^ keyBuffer.get(k)) * 0x9E3779B97F4A7C15L;
+		}
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		return (int) h | OCCUPIED;
+	}
+
+	private boolean keyEquals(int index, ByteBuffer keyBuffer, int keyOffset) {
+		final var segment = segment(index);
+		final int slotKeyOffset = keyOffset(index);
+		int k = 0;
+		for (; k + Long.BYTES <= keySize; k += Long.BYTES) {
+			if (segment.getLong(slotKeyOffset + k) != keyBuffer.getLong(keyOffset + k)) {
+				return false;
+			}
+		}
+		for (; k < keySize; k++) {
+			if (segment.get(slotKeyOffset + k) != keyBuffer.get(keyOffset + k)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int probe(int tag, ByteBuffer keyBuffer, int keyOffset) {
+		int index = tag & mask;
+		int slotTag;
+		while ((slotTag = tagAt(index)) != EMPTY && (slotTag != tag || !keyEquals(index, keyBuffer, keyOffset))) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	int slotFor(int tag, ByteBuffer keyBuffer) {
+		return probe(tag, keyBuffer, 0);
+	}
+
+	int find(ByteBuffer keyBuffer) {
+		final int index = probe(hash(keyBuffer), keyBuffer, 0);
+		return tagAt(index) == EMPTY ? -1 : index;
+	}
+
+	void writeKey(int index, ByteBuffer keyBuffer) {
+		segment(index).put(keyOffset(index), keyBuffer, 0, keySize);
+	}
+
+	void writeTag(int index, int tag) {
+		segment(index).putInt(offset(index), tag);
+	}
+
+	boolean transfer(SlotTable source, int sourceIndex) {
+		final int tag = source.tagAt(sourceIndex);
+		final int index = probe(tag, source.segment(sourceIndex), source.keyOffset(sourceIndex));
+		if (tagAt(index) != EMPTY) {
+			return false;
+		}
+		segment(index).put(offset(index), source.segment(sourceIndex), source.offset(sourceIndex), slotSize);
+		return true;
+	}
+
+	void removeAt(int gap) {
+		int next = (gap + 1) & mask;
+		int tag;
+		while ((tag = tagAt(next)) != EMPTY) {
+			final int home = tag & mask;
+			if (((next - home) & mask) >= ((next - gap) & mask)) {
+				segment(gap).put(offset(gap), segment(next), offset(next), slotSize);
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		writeTag(gap, EMPTY);
+	}
+
+	void clear() {
+		for (int index = 0; index < capacity(); index++) {
+			writeTag(index, EMPTY);
+		}
+	}
+
+	int firstEmpty() {
+		int index = 0;
+		while (index < capacity() && tagAt(index) != EMPTY) {
+			index++;
+		}
+		return index;
+	}
+
+	int previous(int index) {
+		return (index - 1) & mask;
+	}
+
+}
@@ -0,0 +1,72 @@
+package org.training.datastructures.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CodecTest {
+
+	private static <T> T roundTrip(Codec<T> codec, T value) {
+		final var buffer = ByteBuffer.allocate(codec.sizeOf(value) + 3);
+		buffer.position(3);
+		codec.write(value, buffer);
+		assertEquals(codec.sizeOf(value) + 3, buffer.position());
+		buffer.flip().position(3);
+		final T result = codec.read(buffer);
+		assertFalse(buffer.hasRemaining());
+		return result;
+	}
+
+	@Test
+	@DisplayName("fixed size codecs write and read values at buffer position")
+	void testFixedSizeCodecs() {
+		assertEquals(Integer.BYTES, Codec.INT.fixedSize());
+		assertEquals(Long.BYTES, Codec.LONG.sizeOf(42L));
+		assertTrue(Codec.DOUBLE.isFixedSize());
+		assertEquals(-7, roundTrip(Codec.INT, -7));
+		assertEquals(Long.MIN_VALUE, roundTrip(Codec.LONG, Long.MIN_VALUE));
+		assertEquals(Math.PI, roundTrip(Codec.DOUBLE, Math.PI));
+	}
+
+	@Test
+	@DisplayName("absolute read and write leave buffer position untouched")
+	void testAbsoluteAccess() {
+		final var buffer = ByteBuffer.allocate(32);
+		buffer.position(5);
+		Codec.LONG.write(42L, buffer, 8);
+		Codec.INT.write(-1, buffer, 16);
+		Codec.STRING.write("abc", buffer, 20);
+		assertEquals(5, buffer.position());
+		assertEquals(42L, Codec.LONG.read(buffer, 8));
+		assertEquals(-1, Codec.INT.read(buffer, 16));
+		assertEquals("abc", Codec.STRING.read(buffer, 20));
+		assertEquals(5, buffer.position());
+		assertThrows(IndexOutOfBoundsException.class, () -> Codec.LONG.read(buffer, 28));
+	}
+
+	@Test
+	@DisplayName("string codec writes length prefixed utf-8 bytes")
+	void testStringCodec() {
+		assertFalse(Codec.STRING.isFixedSize());
+		assertEquals(Codec.VARIABLE_SIZE, Codec.STRING.fixedSize());
+		assertEquals(Integer.BYTES, Codec.STRING.sizeOf(""));
+		assertEquals(Integer.BYTES + 1 + 2 + 3 + 4, Codec.STRING.sizeOf("aé€😀"));
+		assertEquals(Integer.BYTES + 1, Codec.STRING.sizeOf("\ud83d"));
+		for (var value : new String[] { "", "hello", "aé€😀" }) {
+			assertEquals(value, roundTrip(Codec.STRING, value));
+		}
+	}
+
+	@Test
+	@DisplayName("string codec rejects negative length and reports truncated bytes as underflow")
+	void testStringCodecCorrupted() {
+		assertThrows(IllegalStateException.class, () -> Codec.STRING.read(ByteBuffer.allocate(8).putInt(-1).flip()));
+		assertThrows(BufferUnderflowException.class,
+				() -> Codec.STRING.read(ByteBuffer.allocate(8).putInt(100).flip()));
+	}
+
+}
@@ -0,0 +1,122 @@
+package org.training.datastructures.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnapshotTest {
+
+	private static byte[] write(SnapshotKind kind, String... values) throws IOException {
+		final var output = new ByteArrayOutputStream();
+		final var writer = new SnapshotWriter(Channels.newChannel(output), kind, values.length);
+		for (var value : values) {
+			writer.write(value, Codec.STRING);
+		}
+		writer.finish();
+		return output.toByteArray();
+	}
+
+	private static SnapshotReader reader(byte[] bytes, SnapshotKind kind) throws IOException {
+		return new SnapshotReader(Channels.newChannel(new ByteArrayInputStream(bytes)), kind);
+	}
+
+	@Test
+	@DisplayName("records written through channel are read back in order")
+	void testRoundTrip() throws IOException {
+		final var output = new ByteArrayOutputStream();
+		final var writer = new SnapshotWriter(Channels.newChannel(output), SnapshotKind.MAP, 20_000);
+		for (int k = 0; k < 20_000; k++) {
+			writer.write((long) k, Codec.LONG);
+			writer.write("value" + k, Codec.STRING);
+		}
+		writer.finish();
+		assertThrows(IllegalStateException.class, writer::finish);
+		var reader = reader(output.toByteArray(), SnapshotKind.MAP);
+		assertEquals(20_000, reader.count());
+		for (int k = 0; k < 20_000; k++) {
+			assertEquals(k, reader.read(Codec.LONG));
+			assertEquals("value" + k, reader.read(Codec.STRING));
+		}
+		reader.finish();
+	}
+
+	@Test
+	@DisplayName("records larger than the channel buffer are written and read")
+	void testLargeRecords() throws IOException {
+		final var large = "x".repeat(3 * SnapshotWriter.BUFFER_BYTES);
+		var reader = reader(write(SnapshotKind.LIST, "a", large, "b"), SnapshotKind.LIST);
+		assertEquals("a", reader.read(Codec.STRING));
+		assertEquals(large, reader.read(Codec.STRING));
+		assertEquals("b", reader.read(Codec.STRING));
+		reader.finish();
+	}
+
+	@Test
+	@DisplayName("corrupted, truncated and mismatched snapshots are rejected")
+	void testCorruption() throws IOException {
+		final byte[] bytes = write(SnapshotKind.LIST, "alpha", "beta");
+		assertThrows(IllegalStateException.class, () -> reader(bytes, SnapshotKind.MAP));
+		final byte[] corrupted = bytes.clone();
+		corrupted[20]++;
+		var reader = reader(corrupted, SnapshotKind.LIST);
+		reader.read(Codec.STRING);
+		reader.read(Codec.STRING);
+		var exception = assertThrows(IllegalStateException.class, reader::finish);
+		assertEquals("snapshot checksum mismatch", exception.getMessage());
+		final byte[] truncated = java.util.Arrays.copyOf(bytes, 24);
+		var truncatedReader = reader(truncated, SnapshotKind.LIST);
+		assertThrows(EOFException.class, () -> truncatedReader.read(Codec.STRING));
+		final byte[] foreign = bytes.clone();
+		foreign[0] = 0;
+		assertThrows(IllegalStateException.class, () -> reader(foreign, SnapshotKind.LIST));
+		assertThrows(EOFException.class, () -> reader(new byte[3], SnapshotKind.LIST));
+	}
+
+	@Test
+	@DisplayName("writer rejects null values and negative counts")
+	void testWriterFail() {
+		final var channel = Channels.newChannel(new ByteArrayOutputStream());
+		assertThrows(IllegalArgumentException.class, () -> new SnapshotWriter(channel, SnapshotKind.LIST, -1));
+		var writer = new SnapshotWriter(channel, SnapshotKind.LIST, 1);
+		assertThrows(NullPointerException.class, () -> writer.write(null, Codec.INT));
+	}
+
+	@Test
+	@DisplayName("expected count is bounded by bytes left in seekable channel")
+	void testExpectedCount() throws IOException {
+		var file = Files.createTempFile("snapshot", ".bin");
+		try {
+			try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				final var writer = new SnapshotWriter(channel, SnapshotKind.LIST, Integer.MAX_VALUE);
+				for (long k = 0; k < 10; k++) {
+					writer.write(k, Codec.LONG);
+				}
+				writer.finish();
+			}
+			try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				var reader = new SnapshotReader(channel, SnapshotKind.LIST);
+				assertEquals(Integer.MAX_VALUE, reader.count());
+				assertEquals(10, reader.expectedCount(Codec.LONG.minSize()));
+				assertEquals(20, reader.expectedCount(Codec.INT.minSize()));
+				assertEquals(1 << 16, reader.expectedCount(0));
+			}
+			var reader = reader(Files.readAllBytes(file), SnapshotKind.LIST);
+			assertEquals(1 << 16, reader.expectedCount(Codec.LONG.minSize()));
+			reader = reader(write(SnapshotKind.LIST, "alpha", "beta"), SnapshotKind.LIST);
+			assertEquals(2, reader.expectedCount(Codec.STRING.minSize()));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+}
@@ -0,0 +1,156 @@
+package org.training.datastructures.list;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ArrayDequeTest {
+
+	@Test
+	@DisplayName("testing default constructor")
+	void testArrayDeque() {
+		var deque = new ArrayDeque<String>();
+		assertEquals(0, deque.size());
+		assertTrue(deque.isEmpty());
+		assertEquals(16, deque.capacity());
+		assertNull(deque.peek());
+		assertNull(deque.pollFirst());
+		assertNull(deque.pollLast());
+	}
+
+	@Test
+	@DisplayName("capacity is rounded up to power of two and must be positive")
+	void testCapacity() {
+		assertEquals(1, new ArrayDeque<String>(1).capacity());
+		assertEquals(16, new ArrayDeque<String>(10).capacity());
+		assertThrows(IllegalArgumentException.class, () -> new ArrayDeque<String>(0));
+	}
+
+	@Test
+	@DisplayName("testing varargs constructor")
+	void testArrayDequeEArray() {
+		var deque = new ArrayDeque<>("A", "B", "C");
+		assertEquals(3, deque.size());
+		assertArrayEquals(new Object[] { "A", "B", "C" }, deque.toArray());
+		assertEquals("[A,B,C]", deque.toString());
+	}
+
+	@Test
+	@DisplayName("elements added and polled at both ends wrap around buffer")
+	void testBothEnds() {
+		var deque = new ArrayDeque<Integer>(4);
+		deque.addLast(2);
+		deque.addFirst(1);
+		deque.addFirst(0);
+		deque.addLast(3);
+		assertEquals(4, deque.capacity());
+		assertArrayEquals(new Object[] { 0, 1, 2, 3 }, deque.toArray());
+		assertEquals(0, deque.peek());
+		assertEquals(3, deque.peekLast());
+		deque.addLast(4);
+		assertEquals(8, deque.capacity());
+		assertArrayEquals(new Object[] { 0, 1, 2, 3, 4 }, deque.toArray());
+		assertEquals(0, deque.pollFirst());
+		assertEquals(4, deque.pollLast());
+		assertEquals(1, deque.get(0));
+		assertEquals(3, deque.get(2));
+		assertEquals(3, deque.size());
+	}
+
+	@Test
+	@DisplayName("queue usage keeps capacity bounded")
+	void testQueue() {
+		var deque = new ArrayDeque<Integer>(8);
+		for (int k = 0; k < 10_000; k++) {
+			deque.addLast(k);
+			if (k >= 5) {
+				assertEquals(k - 5, deque.pollFirst());
+			}
+		}
+		assertEquals(5, deque.size());
+		assertEquals(8, deque.capacity());
+		deque.clear();
+		assertTrue(deque.isEmpty());
+		assertNull(deque.peekLast());
+	}
+
+	@Test
+	@DisplayName("indexed access fails outside of deque bounds")
+	void testIndexFail() {
+		var deque = new ArrayDeque<>("A", "B");
+		assertThrows(IndexOutOfBoundsException.class, () -> deque.get(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> deque.set("K", -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> deque.remove(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> deque.add("K", 3));
+	}
+
+	@Test
+	@DisplayName("list iterator walks, adds and removes in place")
+	void testListIterator() {
+		var deque = new ArrayDeque<>("A", "C");
+		var i = deque.listIterator();
+		assertThrows(IllegalStateException.class, i::remove);
+		assertEquals("A", i.next());
+		i.add("B");
+		assertEquals("C", i.next());
+		i.set("D");
+		assertFalse(i.hasNext());
+		assertThrows(NoSuchElementException.class, i::next);
+		assertEquals("D", i.previous());
+		assertEquals("B", i.previous());
+		i.remove();
+		assertEquals("[A,D]", deque.toString());
+		assertTrue(deque.removeIf("A"::equals));
+		assertEquals("[D]", deque.toString());
+	}
+
+	@Test
+	@DisplayName("random operations behave like java.util.ArrayList")
+	void testRandomOperations() {
+		var random = new Random(42);
+		var deque = new ArrayDeque<Integer>(1);
+		var expected = new java.util.ArrayList<Integer>();
+		for (int k = 0; k < 50_000; k++) {
+			final int size = expected.size();
+			final int index = size == 0 ? 0 : random.nextInt(size);
+			switch (random.nextInt(8)) {
+			case 0 -> {
+				deque.addFirst(k);
+				expected.add(0, k);
+			}
+			case 1 -> {
+				deque.addLast(k);
+				expected.add(k);
+			}
+			case 2 -> assertEquals(expected.isEmpty() ? null : expected.remove(0), deque.pollFirst());
+			case 3 -> assertEquals(expected.isEmpty() ? null : expected.remove(size - 1), deque.pollLast());
+			case 4 -> {
+				deque.add(k, index);
+				expected.add(index, k);
+			}
+			case 5 -> {
+				if (size > 0) {
+					assertEquals(expected.remove(index), deque.remove(index));
+				}
+			}
+			case 6 -> {
+				if (size > 0) {
+					assertEquals(expected.set(index, -k), deque.set(-k, index));
+				}
+			}
+			default -> {
+				if (size > 0) {
+					assertEquals(expected.get(index), deque.get(index));
+				}
+			}
+			}
+			assertEquals(expected.size(), deque.size());
+		}
+		assertArrayEquals(expected.toArray(), deque.toArray());
+	}
+
+}
@@ -9,8 +9,21 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+import org.training.datastructures.io.Codec;
+import org.training.datastructures.io.SnapshotKind;
+import org.training.datastructures.io.SnapshotWriter;
 
 class ArrayListTest {
 
@@ -44,7 +57,7 @@ class ArrayListTest {
 		final var data = new String[] { "A", "B", "C", "D", "E", "F" };
 		final var list = new ArrayList<>(data);
 		assertEquals(data.length, list.size());
-		assertEquals(list.getNewCapacity(data.length), list.capacity());
+		assertEquals(data.length, list.capacity());
 		assertTrue(Arrays.equals(data, list.toArray()));
 	}
 
@@ -57,10 +70,10 @@ class ArrayListTest {
 		assertEquals(1, list.capacity());
 		list.add("B");
 		assertEquals(2, list.size());
-		assertEquals(3, list.capacity());
+		assertEquals(5, list.capacity());
 		list.add("C");
 		assertEquals(3, list.size());
-		assertEquals(3, list.capacity());
+		assertEquals(5, list.capacity());
 		assertTrue(Arrays.equals(new String[] { "A", "B", "C" }, list.toArray()));
 		list.add(null);
 		assertEquals(4, list.size());
@@ -247,4 +260,192 @@ class ArrayListTest {
 		assertEquals("[A,B,C]", list.toString());
 	}
 
+	@Test
+	@DisplayName("bulk add inserts source elements at given position with single grow")
+	void testAddAll() {
+		var list = new ArrayList<>(2);
+		list.add("A");
+		list.add("E");
+		list.addAll(new ArrayList<>("B", "C", "D"), 1);
+		assertEquals(5, list.size());
+		assertEquals(6, list.capacity());
+		assertTrue(Arrays.equals(new String[] { "A", "B", "C", "D", "E" }, list.toArray()));
+		list.addAll(new LinkedList<>("F", "G"));
+		assertEquals(10, list.capacity());
+		assertTrue(Arrays.equals(new String[] { "A", "B", "C", "D", "E", "F", "G" }, list.toArray()));
+		list.addAll(list, 0);
+		assertEquals(14, list.size());
+		assertEquals("[A,B,C,D,E,F,G,A,B,C,D,E,F,G]", list.toString());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(new ArrayList<>("X"), 15));
+	}
+
+	@Test
+	@DisplayName("remove range of elements")
+	void testRemoveRange() {
+		var list = new ArrayList<>("A", "B", "C", "D", "E");
+		list.removeRange(1, 3);
+		assertEquals(3, list.size());
+		assertTrue(Arrays.equals(new String[] { "A", "D", "E" }, list.toArray()));
+		list.removeRange(1, 1);
+		assertEquals(3, list.size());
+		list.removeRange(0, 3);
+		assertTrue(list.isEmpty());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(0, 1));
+	}
+
+	@Test
+	@DisplayName("remove elements matching predicate and replace all elements")
+	void testRemoveIfReplaceAll() {
+		var list = new ArrayList<>(1, 2, 3, 4, 5, 6);
+		assertTrue(list.removeIf(x -> x % 2 == 0));
+		assertFalse(list.removeIf(x -> x > 10));
+		assertTrue(Arrays.equals(new Integer[] { 1, 3, 5 }, list.toArray()));
+		list.replaceAll(x -> x * 10);
+		assertTrue(Arrays.equals(new Integer[] { 10, 30, 50 }, list.toArray()));
+	}
+
+	@Test
+	@DisplayName("spliterator is sized and splits array range in halves")
+	void testSpliterator() {
+		var list = new ArrayList<Integer>();
+		for (int k = 0; k < 1000; k++) {
+			list.add(k);
+		}
+		var spliterator = list.spliterator();
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+		assertEquals(1000, spliterator.getExactSizeIfKnown());
+		var prefix = spliterator.trySplit();
+		assertEquals(500, prefix.estimateSize());
+		assertEquals(500, spliterator.estimateSize());
+		assertTrue(prefix.tryAdvance(x -> assertEquals(0, x)));
+		assertTrue(spliterator.tryAdvance(x -> assertEquals(500, x)));
+	}
+
+	@Test
+	@DisplayName("sequential and parallel streams visit every element in order")
+	void testStream() {
+		var list = new ArrayList<Integer>();
+		for (int k = 0; k < 100_000; k++) {
+			list.add(k);
+		}
+		assertEquals(4_999_950_000L, list.stream().mapToLong(Integer::longValue).sum());
+		assertEquals(4_999_950_000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+		assertEquals(java.util.List.of(0, 1, 2), list.parallelStream().limit(3).toList());
+	}
+
+	@Test
+	@DisplayName("geometric growth policy applies factor, minimum and maximum increments")
+	void testGrowthPolicy() {
+		var policy = GrowthPolicy.geometric(2, 100);
+		assertEquals(4, policy.newCapacity(0, 1));
+		assertEquals(20, policy.newCapacity(10, 11));
+		assertEquals(100, policy.newCapacity(50, 51));
+		assertEquals(1100, policy.newCapacity(1000, 1001));
+		assertEquals(5000, policy.newCapacity(1000, 5000));
+		assertEquals(GrowthPolicy.MAX_ARRAY_SIZE, policy.newCapacity(GrowthPolicy.MAX_ARRAY_SIZE - 1, GrowthPolicy.MAX_ARRAY_SIZE));
+		assertThrows(IllegalStateException.class, () -> policy.newCapacity(10, Integer.MAX_VALUE));
+		assertThrows(IllegalStateException.class, () -> policy.newCapacity(10, -1));
+		assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.geometric(1));
+		assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.geometric(2, 0));
+	}
+
+	@Test
+	@DisplayName("list grows according to supplied growth policy")
+	void testArrayListGrowthPolicy() {
+		var list = new ArrayList<Integer>(1, GrowthPolicy.geometric(2, 8));
+		for (int k = 0; k < 20; k++) {
+			list.add(k);
+		}
+		assertEquals(26, list.capacity());
+		assertThrows(NullPointerException.class, () -> new ArrayList<Integer>(1, null));
+	}
+
+	@Test
+	@DisplayName("ensure capacity grows once and trim to size releases slack")
+	void testEnsureCapacityTrimToSize() {
+		var list = new ArrayList<Integer>();
+		list.ensureCapacity(5);
+		assertEquals(ArrayList.INITIAL_CAPACITY, list.capacity());
+		list.ensureCapacity(1000);
+		assertEquals(1000, list.capacity());
+		for (int k = 0; k < 1000; k++) {
+			list.add(k);
+		}
+		assertEquals(1000, list.capacity());
+		list.removeRange(10, 1000);
+		list.trimToSize();
+		assertEquals(10, list.capacity());
+		assertEquals(9, list.get(9));
+		list.add(10);
+		assertEquals(11, list.size());
+		assertEquals(15, list.capacity());
+	}
+
+	@Test
+	@DisplayName("clear keeps capacity and list can be refilled")
+	void testClearLiveRange() {
+		var list = new ArrayList<>("A", "B", "C");
+		list.ensureCapacity(100);
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertEquals(100, list.capacity());
+		list.add("D");
+		assertEquals("[D]", list.toString());
+	}
+
+	@Test
+	@DisplayName("snapshot restores elements into exactly sized list")
+	void testSnapshot() throws IOException {
+		var list = new ArrayList<String>();
+		for (int k = 0; k < 1000; k++) {
+			list.add("item" + k);
+		}
+		var output = new ByteArrayOutputStream();
+		list.writeSnapshot(Channels.newChannel(output), Codec.STRING);
+		var restored = ArrayList.readSnapshot(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+				Codec.STRING);
+		assertEquals(1000, restored.size());
+		assertEquals(1000, restored.capacity());
+		assertEquals(list.toString(), restored.toString());
+		restored.add("more");
+		assertEquals("more", restored.get(1000));
+
+		output.reset();
+		new ArrayList<Integer>().writeSnapshot(Channels.newChannel(output), Codec.INT);
+		var empty = ArrayList.readSnapshot(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+				Codec.INT);
+		assertTrue(empty.isEmpty());
+		var withNull = new ArrayList<Integer>(1, null, 3);
+		assertThrows(NullPointerException.class, () -> withNull.writeSnapshot(Channels.newChannel(output), Codec.INT));
+
+		output.reset();
+		var writer = new SnapshotWriter(Channels.newChannel(output), SnapshotKind.LIST, Integer.MAX_VALUE);
+		writer.write(1L, Codec.LONG);
+		writer.finish();
+		assertThrows(EOFException.class, () -> ArrayList.readSnapshot(
+				Channels.newChannel(new ByteArrayInputStream(output.toByteArray())), Codec.LONG));
+	}
+
+	@Test
+	@DisplayName("snapshot restored from file allocates its array once")
+	void testSnapshotFromFile() throws IOException {
+		var list = new ArrayList<Long>();
+		for (long k = 0; k < 100_000; k++) {
+			list.add(k);
+		}
+		var snapshot = Files.createTempFile("arraylist", ".snapshot");
+		try {
+			try (var channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+				list.writeSnapshot(channel, Codec.LONG);
+			}
+			try (var channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+				var restored = ArrayList.readSnapshot(channel, Codec.LONG);
+				assertEquals(100_000, restored.size());
+				assertEquals(100_000, restored.capacity());
+				assertEquals(list.toString(), restored.toString());
+			}
+		} finally {
+			Files.deleteIfExists(snapshot);
+		}
+	}
 }
@@ -0,0 +1,117 @@
+package org.training.datastructures.list;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLinkedQueueTest {
+
+	private static final int PRODUCERS = 4;
+	private static final int CONSUMERS = 4;
+	private static final int PER_PRODUCER = 100_000;
+
+	@Test
+	@DisplayName("testing default constructor")
+	void testConcurrentLinkedQueue() {
+		var queue = new ConcurrentLinkedQueue<String>();
+		assertEquals(0, queue.size());
+		assertTrue(queue.isEmpty());
+		assertNull(queue.peek());
+		assertNull(queue.poll());
+		assertFalse(queue.iterator().hasNext());
+		assertThrows(NoSuchElementException.class, () -> queue.iterator().next());
+	}
+
+	@Test
+	@DisplayName("elements are polled in insertion order")
+	void testFifoOrder() {
+		var queue = new ConcurrentLinkedQueue<>("A", "B", "C");
+		assertEquals(3, queue.size());
+		assertEquals("[A,B,C]", queue.toString());
+		assertEquals("A", queue.peek());
+		assertEquals("A", queue.poll());
+		queue.offer("D");
+		assertEquals("[B,C,D]", queue.toString());
+		assertEquals("B", queue.poll());
+		assertEquals("C", queue.poll());
+		assertEquals("D", queue.poll());
+		assertNull(queue.poll());
+		assertTrue(queue.isEmpty());
+		queue.offer("E");
+		assertEquals("E", queue.poll());
+	}
+
+	@Test
+	@DisplayName("null elements are rejected")
+	void testNullElement() {
+		var queue = new ConcurrentLinkedQueue<String>();
+		assertThrows(NullPointerException.class, () -> queue.offer(null));
+		assertTrue(queue.isEmpty());
+	}
+
+	@Test
+	@DisplayName("concurrent producers and consumers transfer every element exactly once in per-producer order")
+	void testConcurrentProducersAndConsumers() throws Exception {
+		var queue = new ConcurrentLinkedQueue<Long>();
+		var consumed = new AtomicInteger();
+		var seen = new boolean[PRODUCERS * PER_PRODUCER];
+		ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+		try {
+			var start = new CountDownLatch(1);
+			var futures = new java.util.ArrayList<Future<?>>();
+			for (int p = 0; p < PRODUCERS; p++) {
+				final long producer = p;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int k = 0; k < PER_PRODUCER; k++) {
+						queue.offer(producer << 32 | k);
+					}
+					return null;
+				}));
+			}
+			for (int c = 0; c < CONSUMERS; c++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					var last = new int[PRODUCERS];
+					java.util.Arrays.fill(last, -1);
+					while (consumed.get() < PRODUCERS * PER_PRODUCER) {
+						final Long value = queue.poll();
+						if (value == null) {
+							Thread.yield();
+							continue;
+						}
+						final int producer = (int) (value >>> 32);
+						final int sequence = (int) (long) value;
+						assertTrue(sequence > last[producer]);
+						last[producer] = sequence;
+						synchronized (seen) {
+							assertFalse(seen[producer * PER_PRODUCER + sequence]);
+							seen[producer * PER_PRODUCER + sequence] = true;
+						}
+						consumed.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (var future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(PRODUCERS * PER_PRODUCER, consumed.get());
+		assertTrue(queue.isEmpty());
+		assertNull(queue.poll());
+	}
+
+}
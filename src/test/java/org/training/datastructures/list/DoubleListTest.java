@@ -0,0 +1,114 @@
+package org.training.datastructures.list;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DoubleListTest {
+
+	@Test
+	@DisplayName("default and capacity constructors")
+	void testDoubleList() {
+		var list = new DoubleList();
+		assertEquals(0, list.size());
+		assertTrue(list.isEmpty());
+		assertEquals(DoubleList.INITIAL_CAPACITY, list.capacity());
+		assertEquals(50, new DoubleList(50).capacity());
+		assertThrows(IllegalArgumentException.class, () -> new DoubleList(0));
+	}
+
+	@Test
+	@DisplayName("growth follows shared growth policy with minimum increment")
+	void testGrowth() {
+		var list = new DoubleList(1);
+		list.add(1);
+		list.add(2);
+		assertEquals(5, list.capacity());
+		for (int k = 0; k < 4; k++) {
+			list.add(k);
+		}
+		assertEquals(ArrayList.DEFAULT_GROWTH_POLICY.newCapacity(5, 6), list.capacity());
+	}
+
+	@Test
+	@DisplayName("factory method copies values")
+	void testOf() {
+		var list = DoubleList.of(1.5, 2.5, 3.5);
+		assertEquals(3, list.size());
+		assertArrayEquals(new double[] { 1.5, 2.5, 3.5 }, list.toArray());
+		assertEquals(0, DoubleList.of().size());
+	}
+
+	@Test
+	@DisplayName("add to tail and to index grows backing array")
+	void testAdd() {
+		var list = new DoubleList(1);
+		list.add(1.5);
+		list.add(3.5);
+		list.add(2.5, 1);
+		list.add(4.5, 0);
+		assertEquals(4, list.size());
+		assertArrayEquals(new double[] { 4.5, 1.5, 2.5, 3.5 }, list.toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.add(1.5, 6));
+	}
+
+	@Test
+	@DisplayName("get, set and remove by index")
+	void testGetSetRemove() {
+		var list = DoubleList.of(1.5, 2.5, 3.5);
+		assertEquals(2.5, list.get(1));
+		assertEquals(2.5, list.set(4.5, 1));
+		assertEquals(4.5, list.get(1));
+		assertEquals(1.5, list.remove(0));
+		assertArrayEquals(new double[] { 4.5, 3.5 }, list.toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+	}
+
+	@Test
+	@DisplayName("search by value")
+	void testIndexOf() {
+		var list = DoubleList.of(1.5, 2.5, 1.5, 3.5);
+		assertTrue(list.contains(3.5));
+		assertFalse(list.contains(4.5));
+		assertEquals(0, list.indexOf(1.5));
+		assertEquals(2, list.indexOf(1.5, 1));
+		assertEquals(2, list.lastIndexOf(1.5));
+		assertEquals(0, list.lastIndexOf(1.5, 1));
+		assertEquals(-1, list.indexOf(4.5));
+	}
+
+	@Test
+	@DisplayName("clear and unboxed iteration")
+	void testIteratorAndClear() {
+		var list = DoubleList.of(1.5, 2.5, 3.5);
+		var i = list.iterator();
+		assertEquals(1.5, i.nextDouble());
+		assertEquals(2.5, i.nextDouble());
+		assertEquals(3.5, i.nextDouble());
+		assertFalse(i.hasNext());
+		assertThrows(NoSuchElementException.class, i::nextDouble);
+		assertEquals("[" + 1.5 + "," + 2.5 + "," + 3.5 + "]", list.toString());
+
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertFalse(list.iterator().hasNext());
+	}
+
+	@Test
+	@DisplayName("search matches NaN and distinguishes signed zeros like boxed doubles")
+	void testIndexOfSpecialValues() {
+		var list = DoubleList.of(0.0, Double.NaN, -0.0);
+		assertEquals(1, list.indexOf(Double.NaN));
+		assertEquals(0, list.indexOf(0.0));
+		assertEquals(2, list.indexOf(-0.0));
+	}
+
+}
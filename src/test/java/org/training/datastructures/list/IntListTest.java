@@ -0,0 +1,105 @@
+package org.training.datastructures.list;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IntListTest {
+
+	@Test
+	@DisplayName("default and capacity constructors")
+	void testIntList() {
+		var list = new IntList();
+		assertEquals(0, list.size());
+		assertTrue(list.isEmpty());
+		assertEquals(IntList.INITIAL_CAPACITY, list.capacity());
+		assertEquals(50, new IntList(50).capacity());
+		assertThrows(IllegalArgumentException.class, () -> new IntList(0));
+	}
+
+	@Test
+	@DisplayName("growth follows shared growth policy with minimum increment")
+	void testGrowth() {
+		var list = new IntList(1);
+		list.add(1);
+		list.add(2);
+		assertEquals(5, list.capacity());
+		for (int k = 0; k < 4; k++) {
+			list.add(k);
+		}
+		assertEquals(ArrayList.DEFAULT_GROWTH_POLICY.newCapacity(5, 6), list.capacity());
+	}
+
+	@Test
+	@DisplayName("factory method copies values")
+	void testOf() {
+		var list = IntList.of(1, 2, 3);
+		assertEquals(3, list.size());
+		assertArrayEquals(new int[] { 1, 2, 3 }, list.toArray());
+		assertEquals(0, IntList.of().size());
+	}
+
+	@Test
+	@DisplayName("add to tail and to index grows backing array")
+	void testAdd() {
+		var list = new IntList(1);
+		list.add(1);
+		list.add(3);
+		list.add(2, 1);
+		list.add(4, 0);
+		assertEquals(4, list.size());
+		assertArrayEquals(new int[] { 4, 1, 2, 3 }, list.toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 6));
+	}
+
+	@Test
+	@DisplayName("get, set and remove by index")
+	void testGetSetRemove() {
+		var list = IntList.of(1, 2, 3);
+		assertEquals(2, list.get(1));
+		assertEquals(2, list.set(4, 1));
+		assertEquals(4, list.get(1));
+		assertEquals(1, list.remove(0));
+		assertArrayEquals(new int[] { 4, 3 }, list.toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+	}
+
+	@Test
+	@DisplayName("search by value")
+	void testIndexOf() {
+		var list = IntList.of(1, 2, 1, 3);
+		assertTrue(list.contains(3));
+		assertFalse(list.contains(4));
+		assertEquals(0, list.indexOf(1));
+		assertEquals(2, list.indexOf(1, 1));
+		assertEquals(2, list.lastIndexOf(1));
+		assertEquals(0, list.lastIndexOf(1, 1));
+		assertEquals(-1, list.indexOf(4));
+	}
+
+	@Test
+	@DisplayName("clear and unboxed iteration")
+	void testIteratorAndClear() {
+		var list = IntList.of(1, 2, 3);
+		var i = list.iterator();
+		assertEquals(1, i.nextInt());
+		assertEquals(2, i.nextInt());
+		assertEquals(3, i.nextInt());
+		assertFalse(i.hasNext());
+		assertThrows(NoSuchElementException.class, i::nextInt);
+		assertEquals("[" + 1 + "," + 2 + "," + 3 + "]", list.toString());
+
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertFalse(list.iterator().hasNext());
+	}
+
+}
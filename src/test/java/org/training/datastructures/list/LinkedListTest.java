@@ -1,10 +1,17 @@
 package org.training.datastructures.list;
 
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.training.datastructures.io.Codec;
 
 class LinkedListTest {
 
@@ -294,4 +301,175 @@ class LinkedListTest {
 		assertTrue(list.isEmpty());
 	}
 
+	@Test
+	@DisplayName("bulk add splices source elements at given position")
+	void testAddAll() {
+		var list = new LinkedList<String>();
+		list.addAll(new ArrayList<>("A", "E"));
+		list.addAll(new LinkedList<>("B", "C", "D"), 1);
+		assertArrayEquals(new Object[] { "A", "B", "C", "D", "E" }, list.toArray());
+		list.addAll(new LinkedList<>("Z"), 0);
+		list.addAll(new LinkedList<>());
+		assertArrayEquals(new Object[] { "Z", "A", "B", "C", "D", "E" }, list.toArray());
+		list.addAll(list, list.size());
+		assertEquals(12, list.size());
+		assertEquals("E", list.get(11));
+		var i = list.listIterator(list.size());
+		assertEquals("E", i.previous());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(new LinkedList<>("X"), -1));
+	}
+
+	@Test
+	@DisplayName("remove range of nodes")
+	void testRemoveRange() {
+		var list = new LinkedList<>("A", "B", "C", "D", "E");
+		list.removeRange(1, 3);
+		assertArrayEquals(new Object[] { "A", "D", "E" }, list.toArray());
+		list.removeRange(2, 3);
+		assertArrayEquals(new Object[] { "A", "D" }, list.toArray());
+		list.removeRange(0, 1);
+		assertArrayEquals(new Object[] { "D" }, list.toArray());
+		list.add("F");
+		assertEquals("[D,F]", list.toString());
+		list.removeRange(0, 2);
+		assertTrue(list.isEmpty());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(0, 1));
+	}
+
+	@Test
+	@DisplayName("remove nodes matching predicate and replace all elements")
+	void testRemoveIfReplaceAll() {
+		var list = new LinkedList<>(1, 2, 3, 4, 5, 6);
+		assertTrue(list.removeIf(x -> x % 2 == 1));
+		assertFalse(list.removeIf(x -> x > 10));
+		assertArrayEquals(new Object[] { 2, 4, 6 }, list.toArray());
+		list.replaceAll(x -> x + 1);
+		assertArrayEquals(new Object[] { 3, 5, 7 }, list.toArray());
+		assertTrue(list.removeIf(x -> true));
+		assertTrue(list.isEmpty());
+		list.add(1);
+		assertEquals("[1]", list.toString());
+	}
+
+	@Test
+	@DisplayName("spliterator splits off growing batches")
+	void testSpliterator() {
+		var list = new LinkedList<Integer>();
+		for (int k = 0; k < 5000; k++) {
+			list.add(k);
+		}
+		var spliterator = list.spliterator();
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+		assertEquals(5000, spliterator.getExactSizeIfKnown());
+		var first = spliterator.trySplit();
+		assertEquals(1024, first.estimateSize());
+		var second = spliterator.trySplit();
+		assertEquals(2048, second.estimateSize());
+		assertEquals(1928, spliterator.estimateSize());
+		assertTrue(second.tryAdvance(x -> assertEquals(1024, x)));
+		assertTrue(spliterator.tryAdvance(x -> assertEquals(3072, x)));
+	}
+
+	@Test
+	@DisplayName("sequential and parallel streams visit every element in order")
+	void testStream() {
+		var list = new LinkedList<Integer>();
+		for (int k = 0; k < 100_000; k++) {
+			list.add(k);
+		}
+		assertEquals(4_999_950_000L, list.stream().mapToLong(Integer::longValue).sum());
+		assertEquals(4_999_950_000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+		assertEquals(java.util.List.of(0, 1, 2), list.parallelStream().limit(3).toList());
+	}
+
+	@Test
+	@DisplayName("indexed access stays consistent with structural changes through every path")
+	void testIndexedAccessRandomOperations() {
+		var random = new Random(42);
+		var list = new LinkedList<Integer>();
+		var expected = new java.util.ArrayList<Integer>();
+		for (int k = 0; k < 50_000; k++) {
+			final int size = expected.size();
+			final int index = size == 0 ? 0 : random.nextInt(size);
+			switch (random.nextInt(7)) {
+			case 0, 1 -> {
+				list.add(k, index);
+				expected.add(index, k);
+			}
+			case 2 -> {
+				if (size > 0) {
+					assertEquals(expected.remove(index), list.remove(index));
+				}
+			}
+			case 3 -> {
+				if (size > 0) {
+					assertEquals(expected.set(index, -k), list.set(-k, index));
+				}
+			}
+			case 4 -> {
+				var i = list.listIterator(index);
+				i.add(k);
+				expected.add(index, k);
+			}
+			case 5 -> {
+				if (size > 0) {
+					var i = list.listIterator(index);
+					i.next();
+					i.remove();
+					expected.remove(index);
+				}
+			}
+			default -> {
+				if (size > 0) {
+					assertEquals(expected.get(index), list.get(index));
+					assertEquals(expected.get(size - 1 - index), list.get(size - 1 - index));
+				}
+			}
+			}
+			assertEquals(expected.size(), list.size());
+		}
+		for (int k = 0; k < expected.size(); k++) {
+			assertEquals(expected.get(k), list.get(k));
+		}
+		assertArrayEquals(expected.toArray(), list.toArray());
+	}
+
+	@Test
+	@DisplayName("sequential indexed loop removes elements in place")
+	void testIndexedLoop() {
+		var list = new LinkedList<Integer>();
+		for (int k = 0; k < 100_000; k++) {
+			list.add(k);
+		}
+		long sum = 0;
+		for (int k = 0; k < list.size(); k++) {
+			sum += list.get(k);
+		}
+		assertEquals(4_999_950_000L, sum);
+		for (int k = list.size() - 1; k >= 0; k -= 2) {
+			list.remove(k);
+		}
+		assertEquals(50_000, list.size());
+		for (int k = 0; k < list.size(); k++) {
+			assertEquals(2 * k, list.get(k));
+		}
+	}
+
+	@Test
+	@DisplayName("snapshot of linked list restores elements in order")
+	void testSnapshot() throws IOException {
+		var list = new LinkedList<Long>();
+		for (long k = 0; k < 10_000; k++) {
+			list.add(k * k);
+		}
+		var output = new ByteArrayOutputStream();
+		list.writeSnapshot(Channels.newChannel(output), Codec.LONG);
+		assertEquals(16 + 10_000 * Long.BYTES + 4, output.size());
+		var restored = LinkedList.readSnapshot(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+				Codec.LONG);
+		assertEquals(list.size(), restored.size());
+		for (int k = 0; k < 10_000; k++) {
+			assertEquals(list.get(k), restored.get(k));
+		}
+	}
 }
@@ -0,0 +1,105 @@
+package org.training.datastructures.list;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongListTest {
+
+	@Test
+	@DisplayName("default and capacity constructors")
+	void testLongList() {
+		var list = new LongList();
+		assertEquals(0, list.size());
+		assertTrue(list.isEmpty());
+		assertEquals(LongList.INITIAL_CAPACITY, list.capacity());
+		assertEquals(50, new LongList(50).capacity());
+		assertThrows(IllegalArgumentException.class, () -> new LongList(0));
+	}
+
+	@Test
+	@DisplayName("growth follows shared growth policy with minimum increment")
+	void testGrowth() {
+		var list = new LongList(1);
+		list.add(1);
+		list.add(2);
+		assertEquals(5, list.capacity());
+		for (int k = 0; k < 4; k++) {
+			list.add(k);
+		}
+		assertEquals(ArrayList.DEFAULT_GROWTH_POLICY.newCapacity(5, 6), list.capacity());
+	}
+
+	@Test
+	@DisplayName("factory method copies values")
+	void testOf() {
+		var list = LongList.of(1L, 2L, 3L);
+		assertEquals(3, list.size());
+		assertArrayEquals(new long[] { 1L, 2L, 3L }, list.toArray());
+		assertEquals(0, LongList.of().size());
+	}
+
+	@Test
+	@DisplayName("add to tail and to index grows backing array")
+	void testAdd() {
+		var list = new LongList(1);
+		list.add(1L);
+		list.add(3L);
+		list.add(2L, 1);
+		list.add(4L, 0);
+		assertEquals(4, list.size());
+		assertArrayEquals(new long[] { 4L, 1L, 2L, 3L }, list.toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.add(1L, 6));
+	}
+
+	@Test
+	@DisplayName("get, set and remove by index")
+	void testGetSetRemove() {
+		var list = LongList.of(1L, 2L, 3L);
+		assertEquals(2L, list.get(1));
+		assertEquals(2L, list.set(4L, 1));
+		assertEquals(4L, list.get(1));
+		assertEquals(1L, list.remove(0));
+		assertArrayEquals(new long[] { 4L, 3L }, list.toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+	}
+
+	@Test
+	@DisplayName("search by value")
+	void testIndexOf() {
+		var list = LongList.of(1L, 2L, 1L, 3L);
+		assertTrue(list.contains(3L));
+		assertFalse(list.contains(4L));
+		assertEquals(0, list.indexOf(1L));
+		assertEquals(2, list.indexOf(1L, 1));
+		assertEquals(2, list.lastIndexOf(1L));
+		assertEquals(0, list.lastIndexOf(1L, 1));
+		assertEquals(-1, list.indexOf(4L));
+	}
+
+	@Test
+	@DisplayName("clear and unboxed iteration")
+	void testIteratorAndClear() {
+		var list = LongList.of(1L, 2L, 3L);
+		var i = list.iterator();
+		assertEquals(1L, i.nextLong());
+		assertEquals(2L, i.nextLong());
+		assertEquals(3L, i.nextLong());
+		assertFalse(i.hasNext());
+		assertThrows(NoSuchElementException.class, i::nextLong);
+		assertEquals("[" + 1L + "," + 2L + "," + 3L + "]", list.toString());
+
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertFalse(list.iterator().hasNext());
+	}
+
+}
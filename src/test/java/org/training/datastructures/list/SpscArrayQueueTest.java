@@ -0,0 +1,82 @@
+package org.training.datastructures.list;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpscArrayQueueTest {
+
+	private static final int ELEMENTS = 1_000_000;
+
+	@Test
+	@DisplayName("capacity is rounded up to power of two and must be positive")
+	void testCapacity() {
+		assertEquals(1, new SpscArrayQueue<String>(1).capacity());
+		assertEquals(16, new SpscArrayQueue<String>(10).capacity());
+		assertThrows(IllegalArgumentException.class, () -> new SpscArrayQueue<String>(0));
+		assertThrows(IllegalArgumentException.class, () -> new SpscArrayQueue<String>(Integer.MAX_VALUE));
+	}
+
+	@Test
+	@DisplayName("offer fails when queue is full and elements wrap around buffer")
+	void testBounded() {
+		var queue = new SpscArrayQueue<Integer>(4);
+		assertTrue(queue.isEmpty());
+		assertNull(queue.peek());
+		assertNull(queue.poll());
+		for (int k = 0; k < 4; k++) {
+			assertTrue(queue.offer(k));
+		}
+		assertFalse(queue.offer(4));
+		assertEquals(4, queue.size());
+		assertEquals(0, queue.peek());
+		assertEquals(0, queue.poll());
+		assertTrue(queue.offer(4));
+		for (int k = 1; k <= 4; k++) {
+			assertEquals(k, queue.poll());
+		}
+		assertNull(queue.poll());
+		assertEquals(0, queue.size());
+		assertThrows(NullPointerException.class, () -> queue.offer(null));
+	}
+
+	@Test
+	@DisplayName("single producer and single consumer transfer all elements in order")
+	void testProducerConsumer() throws Exception {
+		var queue = new SpscArrayQueue<Integer>(64);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<?> producer = executor.submit(() -> {
+				for (int k = 0; k < ELEMENTS; k++) {
+					while (!queue.offer(k)) {
+						Thread.yield();
+					}
+				}
+			});
+			Future<Long> consumer = executor.submit(() -> {
+				long sum = 0;
+				for (int k = 0; k < ELEMENTS; k++) {
+					Integer value;
+					while ((value = queue.poll()) == null) {
+						Thread.yield();
+					}
+					assertEquals(k, value);
+					sum += value;
+				}
+				return sum;
+			});
+			assertEquals((long) ELEMENTS * (ELEMENTS - 1) / 2, consumer.get(60, TimeUnit.SECONDS));
+			producer.get(60, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+		assertTrue(queue.isEmpty());
+	}
+
+}
@@ -0,0 +1,186 @@
+package org.training.datastructures.list;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UnrolledLinkedListTest {
+
+	@Test
+	@DisplayName("testing default constructor")
+	void testUnrolledLinkedList() {
+		var list = new UnrolledLinkedList<String>();
+		assertEquals(0, list.size());
+		assertTrue(list.isEmpty());
+		assertArrayEquals(new Object[] {}, list.toArray());
+		assertEquals(0, list.nodeCount());
+	}
+
+	@Test
+	@DisplayName("node capacity below 2 is rejected")
+	void testUnrolledLinkedListFail() {
+		assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<String>(1));
+	}
+
+	@Test
+	@DisplayName("testing varargs constructor")
+	void testUnrolledLinkedListEArray() {
+		final var data = new String[] { "A", "B", "C", "D", "E", "F" };
+		final var list = new UnrolledLinkedList<>(data);
+		assertEquals(data.length, list.size());
+		assertArrayEquals(data, list.toArray());
+		assertEquals("[A,B,C,D,E,F]", list.toString());
+	}
+
+	@Test
+	@DisplayName("elements are packed into array nodes that split when full")
+	void testNodeSplitting() {
+		var list = new UnrolledLinkedList<Integer>(4);
+		for (int k = 0; k < 16; k++) {
+			list.add(k);
+		}
+		assertEquals(16, list.size());
+		assertTrue(list.nodeCount() <= 8);
+		for (int k = 0; k < 16; k++) {
+			assertEquals(k, list.get(k));
+		}
+		list.add(-1, 0);
+		list.add(-2, 9);
+		assertEquals(-1, list.get(0));
+		assertEquals(-2, list.get(9));
+		assertEquals(15, list.get(17));
+	}
+
+	@Test
+	@DisplayName("removal merges underfilled nodes")
+	void testNodeMerging() {
+		var list = new UnrolledLinkedList<Integer>(4);
+		for (int k = 0; k < 100; k++) {
+			list.add(k);
+		}
+		for (int k = 0; k < 90; k++) {
+			list.remove(k % list.size());
+		}
+		assertEquals(10, list.size());
+		assertTrue(list.nodeCount() <= 6);
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertEquals(0, list.nodeCount());
+	}
+
+	@Test
+	@DisplayName("get, set and remove at invalid index fail")
+	void testIndexFail() {
+		var list = new UnrolledLinkedList<>("A", "B", "C");
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.set("K", -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.remove(3));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.add("K", 4));
+	}
+
+	@Test
+	@DisplayName("list iterator walks both directions and modifies in place")
+	void testListIterator() {
+		var list = new UnrolledLinkedList<String>(2);
+		var i = list.listIterator();
+		assertThrows(IllegalStateException.class, i::remove);
+		i.add("A");
+		i.add("C");
+		assertEquals("C", i.previous());
+		i.add("B");
+		assertEquals("[A,B,C]", list.toString());
+		assertEquals("C", i.next());
+		assertFalse(i.hasNext());
+		assertThrows(NoSuchElementException.class, i::next);
+		assertEquals("C", i.previous());
+		assertEquals("B", i.previous());
+		i.set("Z");
+		i.remove();
+		assertEquals(1, i.nextIndex());
+		assertEquals("A", i.previous());
+		i.remove();
+		assertFalse(i.hasPrevious());
+		assertEquals("C", i.next());
+		i.remove();
+		assertTrue(list.isEmpty());
+		i.add("D");
+		assertEquals("[D]", list.toString());
+	}
+
+	@Test
+	@DisplayName("bulk operations and streams work through iterator defaults")
+	void testBulkOperations() {
+		var list = new UnrolledLinkedList<Integer>(8);
+		for (int k = 0; k < 1000; k++) {
+			list.add(k);
+		}
+		assertTrue(list.removeIf(x -> x % 3 == 0));
+		assertEquals(666, list.size());
+		list.replaceAll(x -> -x);
+		assertEquals(-1, list.get(0));
+		list.removeRange(0, 600);
+		assertEquals(66, list.size());
+		list.addAll(new ArrayList<>(1, 2, 3), 0);
+		assertEquals(69, list.size());
+		assertEquals(3, list.get(2));
+		assertEquals(list.size(), list.parallelStream().count());
+	}
+
+	@Test
+	@DisplayName("random operations behave like java.util.ArrayList")
+	void testRandomOperations() {
+		var random = new Random(42);
+		for (int capacity : new int[] { 2, 3, 4, 16 }) {
+			var list = new UnrolledLinkedList<Integer>(capacity);
+			var expected = new java.util.ArrayList<Integer>();
+			for (int k = 0; k < 20_000; k++) {
+				final int size = expected.size();
+				final int index = size == 0 ? 0 : random.nextInt(size + 1);
+				switch (random.nextInt(6)) {
+				case 0, 1 -> {
+					list.add(k, index);
+					expected.add(index, k);
+				}
+				case 2 -> {
+					if (index < size) {
+						assertEquals(expected.remove(index), list.remove(index));
+					}
+				}
+				case 3 -> {
+					if (index < size) {
+						assertEquals(expected.set(index, -k), list.set(-k, index));
+					}
+				}
+				case 4 -> {
+					var i = list.listIterator(index);
+					if (i.hasPrevious() && random.nextBoolean()) {
+						i.previous();
+						i.remove();
+						expected.remove(index - 1);
+					} else if (i.hasNext()) {
+						i.next();
+						i.remove();
+						expected.remove(index);
+					}
+				}
+				default -> {
+					if (index < size) {
+						assertEquals(expected.get(index), list.get(index));
+					}
+				}
+				}
+				assertEquals(expected.size(), list.size());
+			}
+			assertArrayEquals(expected.toArray(), list.toArray());
+			var i = list.listIterator(list.size());
+			for (int k = expected.size() - 1; k >= 0; k--) {
+				assertEquals(expected.get(k), i.previous());
+			}
+		}
+	}
+
+}
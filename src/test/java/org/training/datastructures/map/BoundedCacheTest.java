@@ -0,0 +1,290 @@
+package org.training.datastructures.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.training.datastructures.map.BoundedCache.EvictionPolicy;
+
+class BoundedCacheTest {
+
+	private record CollidingKey(int id) implements Comparable<CollidingKey> {
+
+		@Override
+		public int hashCode() {
+			return 42;
+		}
+
+		@Override
+		public int compareTo(CollidingKey other) {
+			return Integer.compare(id, other.id);
+		}
+
+	}
+
+	@Test
+	@DisplayName("builder rejects invalid limits and requires a bound")
+	void testBuilderFail() {
+		assertThrows(IllegalArgumentException.class, () -> BoundedCache.builder().maximumSize(0));
+		assertThrows(IllegalArgumentException.class, () -> BoundedCache.builder().maximumWeight(-1));
+		assertThrows(NullPointerException.class, () -> BoundedCache.builder().weigher(null));
+		assertThrows(IllegalStateException.class, () -> BoundedCache.builder().build());
+	}
+
+	@Test
+	@DisplayName("least recently used entry is evicted first")
+	void testLruEviction() {
+		var evicted = new java.util.ArrayList<String>();
+		var cache = BoundedCache.<String, Integer>builder()
+				.maximumSize(3)
+				.evictionListener((key, value) -> evicted.add(key + "=" + value))
+				.build();
+		cache.put("A", 1);
+		cache.put("B", 2);
+		cache.put("C", 3);
+		assertEquals(1, cache.get("A"));
+		cache.put("D", 4);
+		assertEquals(3, cache.size());
+		assertFalse(cache.containsKey("B"));
+		assertEquals(java.util.List.of("B=2"), evicted);
+		assertEquals(Set.of("A", "C", "D"), cache.keySet());
+		assertEquals(1, cache.evictionCount());
+		assertEquals(1, cache.hitCount());
+		assertNull(cache.get("B"));
+		assertEquals(1, cache.missCount());
+	}
+
+	@Test
+	@DisplayName("replacing value refreshes entry and returns original value")
+	void testPutReplace() {
+		var cache = BoundedCache.<String, Integer>builder().maximumSize(2).build();
+		assertNull(cache.put("A", 1));
+		assertNull(cache.put("B", 2));
+		assertEquals(1, cache.put("A", 10));
+		cache.put("C", 3);
+		assertEquals(10, cache.get("A"));
+		assertFalse(cache.containsKey("B"));
+		assertEquals(3, cache.remove("C"));
+		assertNull(cache.remove("C"));
+		assertEquals(1, cache.size());
+		cache.clear();
+		assertTrue(cache.isEmpty());
+		assertEquals(0, cache.weightedSize());
+	}
+
+	@Test
+	@DisplayName("maximum weight bounds total weight of entries")
+	void testMaximumWeight() {
+		var evicted = new java.util.ArrayList<String>();
+		var cache = BoundedCache.<String, String>builder()
+				.maximumWeight(10)
+				.weigher((key, value) -> value.length())
+				.evictionListener((key, value) -> evicted.add(key))
+				.build();
+		cache.put("A", "aaaa");
+		cache.put("B", "bbbb");
+		assertEquals(8, cache.weightedSize());
+		cache.put("C", "cccc");
+		assertEquals(java.util.List.of("A"), evicted);
+		assertEquals(8, cache.weightedSize());
+		cache.put("B", "bbbbbbbb");
+		assertEquals(java.util.List.of("A", "C"), evicted);
+		assertEquals(8, cache.weightedSize());
+		cache.put("D", "ddddddddddddddd");
+		assertFalse(cache.containsKey("D"));
+		assertEquals(8, cache.weightedSize());
+		var entry = cache.iterator().next();
+		assertThrows(IllegalArgumentException.class, () -> entry.setValue("xxxxxxxxxxxxxxx"));
+		assertEquals(8, cache.weightedSize());
+		entry.setValue("x");
+		assertEquals(1, cache.weightedSize());
+		assertThrows(IllegalArgumentException.class,
+				() -> BoundedCache.<String, String>builder().maximumSize(1).weigher((key, value) -> -1).build().put("A", "a"));
+	}
+
+	@Test
+	@DisplayName("both size and weight limits apply")
+	void testSizeAndWeight() {
+		var cache = BoundedCache.<Integer, Integer>builder()
+				.maximumSize(5)
+				.maximumWeight(100)
+				.weigher((key, value) -> value)
+				.build();
+		for (int k = 0; k < 10; k++) {
+			cache.put(k, 1);
+		}
+		assertEquals(5, cache.size());
+		cache.put(100, 98);
+		assertEquals(3, cache.size());
+		assertEquals(100, cache.weightedSize());
+		assertEquals(98, cache.get(100));
+	}
+
+	@Test
+	@DisplayName("iterator yields entries, supports removal and write-through setValue")
+	void testIterator() {
+		var cache = BoundedCache.<Integer, Integer>builder().maximumSize(100).build();
+		for (int k = 0; k < 10; k++) {
+			cache.put(k, k);
+		}
+		var i = cache.iterator();
+		assertThrows(IllegalStateException.class, i::remove);
+		int visited = 0;
+		while (i.hasNext()) {
+			var entry = i.next();
+			if (entry.getKey() % 2 == 0) {
+				i.remove();
+			} else {
+				entry.setValue(-entry.getKey());
+			}
+			visited++;
+		}
+		assertEquals(10, visited);
+		assertThrows(NoSuchElementException.class, i::next);
+		assertEquals(5, cache.size());
+		assertEquals(-3, cache.get(3));
+	}
+
+	@Test
+	@DisplayName("window tiny lfu keeps frequently used entries through a scan")
+	void testTinyLfuScanResistance() {
+		var lru = BoundedCache.<Integer, Integer>builder().maximumSize(100).build();
+		var tinyLfu = BoundedCache.<Integer, Integer>builder()
+				.maximumSize(100)
+				.evictionPolicy(EvictionPolicy.WINDOW_TINY_LFU)
+				.build();
+		for (var cache : java.util.List.of(lru, tinyLfu)) {
+			for (int round = 0; round < 10; round++) {
+				for (int k = 0; k < 50; k++) {
+					if (cache.get(k) == null) {
+						cache.put(k, k);
+					}
+				}
+			}
+			for (int k = 1000; k < 1200; k++) {
+				cache.put(k, k);
+			}
+			assertEquals(100, cache.size());
+		}
+		int lruHot = 0;
+		int tinyLfuHot = 0;
+		for (int k = 0; k < 50; k++) {
+			lruHot += lru.containsKey(k) ? 1 : 0;
+			tinyLfuHot += tinyLfu.containsKey(k) ? 1 : 0;
+		}
+		assertEquals(0, lruHot);
+		assertTrue(tinyLfuHot >= 45);
+	}
+
+	@Test
+	@DisplayName("weight bounded window tiny lfu sizes frequency sketch from held entries")
+	void testTinyLfuMaximumWeight() {
+		var cache = BoundedCache.<Integer, Integer>builder()
+				.maximumWeight(1000)
+				.weigher((key, value) -> value)
+				.evictionPolicy(EvictionPolicy.WINDOW_TINY_LFU)
+				.build();
+		assertEquals(16, cache.sketchCapacity());
+		var random = new Random(42);
+		for (int k = 0; k < 10_000; k++) {
+			cache.put(random.nextInt(2_000), 1 + random.nextInt(20));
+			assertTrue(cache.weightedSize() <= 1000);
+		}
+		assertTrue(cache.size() <= 1000);
+		assertTrue(cache.sketchCapacity() <= 1024);
+	}
+
+	@Test
+	@DisplayName("random skewed workload keeps size bound and agrees with listener")
+	void testRandomOperations() {
+		for (var policy : EvictionPolicy.values()) {
+			var random = new Random(42);
+			var resident = new java.util.HashSet<Integer>();
+			var cache = BoundedCache.<Integer, Integer>builder()
+					.maximumSize(200)
+					.evictionPolicy(policy)
+					.evictionListener((key, value) -> assertTrue(resident.remove(key)))
+					.build();
+			for (int k = 0; k < 100_000; k++) {
+				int key = (int) Math.abs(random.nextGaussian() * 300);
+				if (random.nextInt(10) == 0) {
+					cache.remove(key);
+					resident.remove(key);
+				} else if (cache.get(key) == null) {
+					cache.put(key, key);
+					if (cache.containsKey(key)) {
+						resident.add(key);
+					}
+				}
+				assertTrue(cache.size() <= 200);
+			}
+			assertEquals(resident.size(), cache.size());
+			assertEquals(resident, cache.keySet());
+		}
+	}
+
+	@Test
+	@DisplayName("entries keep their recency order when their bucket is treeified")
+	void testTreeifiedBucket() {
+		var evicted = new java.util.ArrayList<Integer>();
+		var cache = BoundedCache.<CollidingKey, Integer>builder()
+				.maximumSize(50)
+				.evictionListener((key, value) -> evicted.add(key.id()))
+				.build();
+		for (int k = 0; k < 60; k++) {
+			cache.put(new CollidingKey(k), k);
+		}
+		assertEquals(java.util.List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), evicted);
+		assertEquals(10, cache.get(new CollidingKey(10)));
+		cache.put(new CollidingKey(60), 60);
+		assertEquals(11, evicted.get(10));
+		assertEquals(50, cache.size());
+		assertEquals(50, cache.weightedSize());
+		var keys = new java.util.ArrayList<Integer>();
+		for (var entry : cache) {
+			keys.add(entry.getKey().id());
+		}
+		assertEquals(12, keys.get(0));
+		assertEquals(java.util.List.of(59, 10, 60), keys.subList(47, 50));
+		assertEquals(30, cache.remove(new CollidingKey(30)));
+		assertEquals(49, cache.size());
+		assertEquals(49, cache.weightedSize());
+	}
+
+	@Test
+	@DisplayName("window tiny lfu promotes reused entries to protected region")
+	void testTinyLfuProtectedRegion() {
+		var cache = BoundedCache.<Integer, Integer>builder()
+				.maximumSize(100)
+				.evictionPolicy(EvictionPolicy.WINDOW_TINY_LFU)
+				.build();
+		for (int k = 0; k < 100; k++) {
+			cache.put(k, k);
+		}
+		assertFalse(cache.isProtected(0));
+		assertEquals(0, cache.get(0));
+		assertTrue(cache.isProtected(0));
+		for (int k = 1; k <= 90; k++) {
+			cache.get(k);
+		}
+		int protectedCount = 0;
+		for (int k = 0; k < 100; k++) {
+			protectedCount += cache.isProtected(k) ? 1 : 0;
+		}
+		assertEquals(79, protectedCount);
+		assertFalse(cache.isProtected(0));
+		assertTrue(cache.containsKey(0));
+		for (int k = 1_000; k < 2_000; k++) {
+			cache.put(k, k);
+		}
+		assertEquals(100, cache.size());
+		for (int k = 12; k <= 90; k++) {
+			assertTrue(cache.containsKey(k));
+		}
+	}
+
+}
@@ -0,0 +1,279 @@
+package org.training.datastructures.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentHashMapTest {
+
+	private static final int THREADS = 8;
+
+	private static void runConcurrently(int threads, ThreadTask task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			var start = new CountDownLatch(1);
+			var futures = new java.util.ArrayList<Future<?>>();
+			for (int t = 0; t < threads; t++) {
+				final int thread = t;
+				futures.add(executor.submit(() -> {
+					start.await();
+					task.run(thread);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (var future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@FunctionalInterface
+	private interface ThreadTask {
+		void run(int thread) throws Exception;
+	}
+
+	@Test
+	@DisplayName("create empty map with default constructor")
+	void testConcurrentHashMap() {
+		var map = new ConcurrentHashMap<String, Integer>();
+		assertEquals(0, map.size());
+		assertTrue(map.isEmpty());
+		assertEquals(16, map.capacity());
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentHashMap<String, Integer>(0));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentHashMap<String, Integer>(16, -1));
+	}
+
+	@Test
+	@DisplayName("single-threaded put, get, remove and clear")
+	void testBasicOperations() {
+		var map = new ConcurrentHashMap<String, Integer>(1);
+		assertNull(map.put("1", 1));
+		assertNull(map.put("2", 2));
+		assertNull(map.put("3", 3));
+		assertEquals(1, map.put("1", 10));
+		assertEquals(3, map.size());
+		assertEquals(10, map.get("1"));
+		assertTrue(map.containsKey("2"));
+		assertFalse(map.containsKey("4"));
+		assertEquals(Set.of("1", "2", "3"), map.keySet());
+
+		assertEquals(2, map.remove("2"));
+		assertNull(map.remove("2"));
+		assertEquals(2, map.size());
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get("1"));
+	}
+
+	@Test
+	@DisplayName("null values are rejected")
+	void testNullValue() {
+		var map = new ConcurrentHashMap<String, Integer>();
+		assertThrows(NullPointerException.class, () -> map.put("1", null));
+	}
+
+	@Test
+	@DisplayName("iterator yields every entry, supports removal and write-through setValue")
+	void testIterator() {
+		var map = new ConcurrentHashMap<Integer, Integer>();
+		for (int k = 0; k < 100; k++) {
+			map.put(k, k);
+		}
+		var i = map.iterator();
+		assertThrows(IllegalStateException.class, i::remove);
+		int visited = 0;
+		while (i.hasNext()) {
+			var entry = i.next();
+			if (entry.getKey() % 2 == 0) {
+				i.remove();
+			} else {
+				entry.setValue(-entry.getKey());
+			}
+			visited++;
+		}
+		assertEquals(100, visited);
+		assertThrows(NoSuchElementException.class, i::next);
+		assertEquals(50, map.size());
+		assertEquals(-1, map.get(1));
+		assertNull(map.get(2));
+	}
+
+	@Test
+	@DisplayName("compute methods follow map contract and reject null values")
+	void testComputeMethods() {
+		var map = new ConcurrentHashMap<String, Integer>();
+		assertEquals(-1, map.getOrDefault("A", -1));
+		assertNull(map.putIfAbsent("A", 1));
+		assertEquals(1, map.putIfAbsent("A", 2));
+		assertEquals(1, map.computeIfAbsent("A", key -> 10));
+		assertEquals(2, map.computeIfAbsent("B", key -> 2));
+		assertNull(map.computeIfAbsent("C", key -> null));
+		assertEquals(11, map.compute("A", (key, value) -> value + 10));
+		assertNull(map.compute("A", (key, value) -> null));
+		assertEquals(1, map.merge("B", -1, Integer::sum));
+		assertNull(map.merge("B", 1, (value, other) -> null));
+		assertEquals(5, map.merge("B", 5, Integer::sum));
+		assertEquals(Set.of("B"), map.keySet());
+		assertEquals(1, map.size());
+		assertThrows(NullPointerException.class, () -> map.putIfAbsent("D", null));
+		assertThrows(NullPointerException.class, () -> map.merge("D", null, Integer::sum));
+		assertThrows(IllegalStateException.class, () -> map.compute("E", (key, value) -> {
+			throw new IllegalStateException();
+		}));
+		assertNull(map.putIfAbsent("E", 1));
+		assertEquals(2, map.size());
+	}
+
+	@Test
+	@DisplayName("recursive update of reserved bin from compute is rejected")
+	void testRecursiveCompute() {
+		var map = new ConcurrentHashMap<Integer, Integer>();
+		assertEquals(16, map.capacity());
+		assertThrows(IllegalStateException.class, () -> map.compute(1, (key, value) -> {
+			map.put(17, 17);
+			return 1;
+		}));
+		assertThrows(IllegalStateException.class, () -> map.computeIfAbsent(1, key -> map.computeIfAbsent(1, any -> 2)));
+		assertThrows(IllegalStateException.class, () -> map.compute(1, (key, value) -> map.remove(17)));
+		assertEquals(0, map.size());
+		assertTrue(map.isEmpty());
+		assertNull(map.get(17));
+		assertNull(map.put(1, 1));
+		assertNull(map.put(17, 17));
+		assertEquals(2, map.size());
+	}
+
+	@Test
+	@DisplayName("concurrent merges on shared keys lose no increments")
+	void testConcurrentMerge() throws Exception {
+		final int keys = 100;
+		final int perThread = 50_000;
+		var map = new ConcurrentHashMap<Integer, Integer>(1);
+		runConcurrently(THREADS, thread -> {
+			for (int k = 0; k < perThread; k++) {
+				map.merge(k % keys, 1, Integer::sum);
+			}
+		});
+		assertEquals(keys, map.size());
+		for (int k = 0; k < keys; k++) {
+			assertEquals(THREADS * perThread / keys, map.get(k));
+		}
+	}
+
+	@Test
+	@DisplayName("concurrent computeIfAbsent applies mapping function once per key")
+	void testConcurrentComputeIfAbsent() throws Exception {
+		final int keys = 20_000;
+		var calls = new AtomicInteger();
+		var map = new ConcurrentHashMap<Integer, Integer>(1);
+		runConcurrently(THREADS, thread -> {
+			for (int k = 0; k < keys; k++) {
+				assertEquals(k, map.computeIfAbsent(k, key -> {
+					calls.incrementAndGet();
+					return key;
+				}));
+			}
+		});
+		assertEquals(keys, calls.get());
+		assertEquals(keys, map.size());
+		int visited = 0;
+		for (var entry : map) {
+			assertEquals(entry.getKey(), entry.getValue());
+			visited++;
+		}
+		assertEquals(keys, visited);
+	}
+
+	@Test
+	@DisplayName("concurrent inserts of disjoint keys are all visible and counted")
+	void testConcurrentPut() throws Exception {
+		final int perThread = 20_000;
+		var map = new ConcurrentHashMap<Integer, Integer>(1);
+		runConcurrently(THREADS, thread -> {
+			for (int k = 0; k < perThread; k++) {
+				int key = thread * perThread + k;
+				assertNull(map.put(key, key));
+			}
+		});
+		assertEquals(THREADS * perThread, map.size());
+		for (int k = 0; k < THREADS * perThread; k++) {
+			assertEquals(k, map.get(k));
+		}
+		int visited = 0;
+		for (var entry : map) {
+			assertEquals(entry.getKey(), entry.getValue());
+			visited++;
+		}
+		assertEquals(THREADS * perThread, visited);
+	}
+
+	@Test
+	@DisplayName("concurrent put and remove on shared keys keep size consistent")
+	void testConcurrentPutRemove() throws Exception {
+		final int keys = 1_000;
+		var map = new ConcurrentHashMap<Integer, Integer>(4);
+		runConcurrently(THREADS, thread -> {
+			var random = new java.util.Random(thread);
+			for (int k = 0; k < 50_000; k++) {
+				int key = random.nextInt(keys);
+				if (random.nextBoolean()) {
+					map.put(key, thread);
+				} else {
+					map.remove(key);
+				}
+			}
+		});
+		int present = 0;
+		for (int k = 0; k < keys; k++) {
+			if (map.containsKey(k)) {
+				present++;
+			}
+		}
+		assertEquals(present, map.size());
+	}
+
+	@Test
+	@DisplayName("readers always find stable keys while writers force repeated resizing")
+	void testReadDuringResize() throws Exception {
+		final int stableKeys = 1_000;
+		var map = new ConcurrentHashMap<Integer, Integer>(1);
+		for (int k = 0; k < stableKeys; k++) {
+			map.put(k, k);
+		}
+		var failed = new AtomicBoolean();
+		runConcurrently(THREADS, thread -> {
+			if (thread % 2 == 0) {
+				for (int k = 0; k < 50_000; k++) {
+					map.put(stableKeys + thread * 50_000 + k, k);
+				}
+			} else {
+				for (int round = 0; round < 50; round++) {
+					for (int k = 0; k < stableKeys; k++) {
+						Integer value = map.get(k);
+						if (value == null || value != k) {
+							failed.set(true);
+						}
+					}
+				}
+			}
+		});
+		assertFalse(failed.get());
+		assertEquals(stableKeys + THREADS / 2 * 50_000, map.size());
+	}
+
+}
@@ -1,16 +1,57 @@
 package org.training.datastructures.map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.training.datastructures.map.HashMap.MapEntry;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.Set;
+import java.util.Spliterator;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.training.datastructures.io.Codec;
+import org.training.datastructures.io.SnapshotKind;
+import org.training.datastructures.io.SnapshotWriter;
 
 class HashMapTest {
 
+	private record CollidingKey(int id) implements Comparable<CollidingKey> {
+
+		@Override
+		public int hashCode() {
+			return 42;
+		}
+
+		@Override
+		public int compareTo(CollidingKey other) {
+			return Integer.compare(id, other.id);
+		}
+
+	}
+
+	private record IncomparableCollidingKey(int id) {
+
+		@Override
+		public int hashCode() {
+			return id % 2;
+		}
+
+	}
+
 	@Test
 	@DisplayName("check if toString converts map to string correctly")
 	void testToString() {
@@ -337,4 +378,746 @@ class HashMapTest {
 		assertThrows(IllegalStateException.class, () -> i.remove());
 	}
 
+	@Test
+	@DisplayName("check if lookups allocate nothing and put allocates only the stored entry")
+	void testHotPathAllocations() {
+		var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+		final int keyCount = 1000;
+		final int rounds = 100;
+		var keys = new String[keyCount];
+		var values = new Integer[keyCount];
+		for (int k = 0; k < keyCount; k++) {
+			keys[k] = "key" + k;
+			values[k] = k + 1000;
+			keys[k].hashCode();
+		}
+		var map = new HashMap<String, Integer>(4 * keyCount);
+		for (int round = 0; round < rounds; round++) {
+			for (int k = 0; k < keyCount; k++) {
+				map.put(keys[k], values[k]);
+				map.get(keys[k]);
+				map.containsKey(keys[k]);
+				map.remove(keys[k]);
+			}
+		}
+		for (int k = 0; k < keyCount; k++) {
+			map.put(keys[k], values[k]);
+		}
+
+		long before = threadBean.getCurrentThreadAllocatedBytes();
+		for (int round = 0; round < rounds; round++) {
+			for (int k = 0; k < keyCount; k++) {
+				map.get(keys[k]);
+				map.containsKey(keys[k]);
+				map.put(keys[k], values[k]);
+			}
+		}
+		long readAllocations = threadBean.getCurrentThreadAllocatedBytes() - before;
+		assertTrue(readAllocations < rounds * keyCount, "lookups allocated " + readAllocations + " bytes");
+
+		before = threadBean.getCurrentThreadAllocatedBytes();
+		for (int round = 0; round < rounds; round++) {
+			for (int k = 0; k < keyCount; k++) {
+				map.remove(keys[k]);
+			}
+			for (int k = 0; k < keyCount; k++) {
+				map.put(keys[k], values[k]);
+			}
+		}
+		long insertAllocations = threadBean.getCurrentThreadAllocatedBytes() - before;
+		assertTrue(insertAllocations < 40L * rounds * keyCount, "inserts allocated " + insertAllocations + " bytes");
+	}
+
+	@Test
+	@DisplayName("check if incremental resize keeps old table alive and migrates it gradually")
+	void testIncrementalResize() {
+		var map = new HashMap<Integer, Integer>(16, 0.75, HashMap.ResizeMode.INCREMENTAL);
+		for (int k = 0; k < 13; k++) {
+			map.put(k, k);
+		}
+		assertTrue(map.isMigrating());
+		for (int k = 0; k < 13; k++) {
+			assertEquals(k, map.get(k));
+		}
+		assertEquals(13, map.size());
+		int visited = 0;
+		for (var entry : map) {
+			assertEquals(entry.getKey(), entry.getValue());
+			visited++;
+		}
+		assertEquals(13, visited);
+
+		map.put(13, 13);
+		map.put(14, 14);
+		map.put(15, 15);
+		map.put(16, 16);
+		assertFalse(map.isMigrating());
+		assertEquals(17, map.size());
+	}
+
+	@Test
+	@DisplayName("check if eager resize migrates whole table at once")
+	void testEagerResize() {
+		var map = new HashMap<Integer, Integer>(16, 0.75, HashMap.ResizeMode.EAGER);
+		for (int k = 0; k < 13; k++) {
+			map.put(k, k);
+		}
+		assertFalse(map.isMigrating());
+	}
+
+	@Test
+	@DisplayName("check if incremental resize behaves like java.util.HashMap under random operations")
+	void testIncrementalResizeRandomOperations() {
+		var random = new Random(7);
+		var map = new HashMap<Integer, Integer>(1, 0.75, HashMap.ResizeMode.INCREMENTAL);
+		var expected = new java.util.HashMap<Integer, Integer>();
+		for (int k = 0; k < 100_000; k++) {
+			int key = random.nextInt(10_000);
+			switch (random.nextInt(3)) {
+			case 0 -> assertEquals(expected.remove(key), map.remove(key));
+			case 1 -> assertEquals(expected.get(key), map.get(key));
+			default -> assertEquals(expected.put(key, k), map.put(key, k));
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		int visited = 0;
+		for (var entry : map) {
+			assertEquals(expected.get(entry.getKey()), entry.getValue());
+			visited++;
+		}
+		assertEquals(expected.size(), visited);
+	}
+
+	@Test
+	@DisplayName("check if overfull bucket turns into tree and back into list when it shrinks")
+	void testTreeifyAndUntreeify() {
+		var map = new HashMap<CollidingKey, Integer>(64);
+		for (int k = 0; k < 8; k++) {
+			map.put(new CollidingKey(k), k);
+		}
+		assertFalse(map.isTreeBucket(new CollidingKey(0)));
+		map.put(new CollidingKey(8), 8);
+		assertTrue(map.isTreeBucket(new CollidingKey(0)));
+		for (int k = 0; k < 9; k++) {
+			assertEquals(k, map.get(new CollidingKey(k)));
+		}
+		assertNull(map.get(new CollidingKey(9)));
+
+		map.remove(new CollidingKey(0));
+		map.remove(new CollidingKey(1));
+		assertTrue(map.isTreeBucket(new CollidingKey(0)));
+		map.remove(new CollidingKey(2));
+		assertFalse(map.isTreeBucket(new CollidingKey(0)));
+		for (int k = 3; k < 9; k++) {
+			assertEquals(k, map.get(new CollidingKey(k)));
+		}
+		assertEquals(6, map.size());
+	}
+
+	@Test
+	@DisplayName("check if small table keeps colliding keys in list")
+	void testNoTreeifyInSmallTable() {
+		var map = new HashMap<CollidingKey, Integer>(16);
+		for (int k = 0; k < 10; k++) {
+			map.put(new CollidingKey(k), k);
+		}
+		assertFalse(map.isTreeBucket(new CollidingKey(0)));
+	}
+
+	@Test
+	@DisplayName("check if tree buckets survive resizing, iteration and removal through iterator")
+	void testTreeBucketsUnderResizeAndIteration() {
+		var map = new HashMap<CollidingKey, Integer>(1, 0.75, HashMap.ResizeMode.INCREMENTAL);
+		for (int k = 0; k < 5_000; k++) {
+			map.put(new CollidingKey(k), k);
+		}
+		assertEquals(5_000, map.size());
+		assertTrue(map.isTreeBucket(new CollidingKey(0)));
+		for (int k = 0; k < 5_000; k++) {
+			assertEquals(k, map.get(new CollidingKey(k)));
+		}
+		var i = map.iterator();
+		int visited = 0;
+		while (i.hasNext()) {
+			var entry = i.next();
+			assertEquals(entry.getKey().id(), entry.getValue());
+			if (entry.getValue() % 2 == 0) {
+				i.remove();
+			}
+			visited++;
+		}
+		assertEquals(5_000, visited);
+		assertEquals(2_500, map.size());
+		for (int k = 0; k < 5_000; k++) {
+			assertEquals(k % 2 == 0 ? null : k, map.get(new CollidingKey(k)));
+		}
+	}
+
+	@Test
+	@DisplayName("check if colliding keys without natural order behave like java.util.HashMap")
+	void testIncomparableCollisionsRandomOperations() {
+		var random = new Random(3);
+		var map = new HashMap<IncomparableCollidingKey, Integer>(64);
+		var expected = new java.util.HashMap<IncomparableCollidingKey, Integer>();
+		for (int k = 0; k < 20_000; k++) {
+			var key = new IncomparableCollidingKey(random.nextInt(300));
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key), map.remove(key));
+			} else {
+				assertEquals(expected.put(key, k), map.put(key, k));
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		for (var entry : expected.entrySet()) {
+			assertEquals(entry.getValue(), map.get(entry.getKey()));
+		}
+	}
+
+	@Test
+	@DisplayName("check if getOrDefault, putIfAbsent, computeIfAbsent, compute and merge follow map contract")
+	void testComputeMethods() {
+		var map = new HashMap<String, Integer>();
+		assertEquals(-1, map.getOrDefault("A", -1));
+		assertNull(map.putIfAbsent("A", 1));
+		assertEquals(1, map.putIfAbsent("A", 2));
+		assertEquals(1, map.getOrDefault("A", -1));
+		map.put("N", null);
+		assertNull(map.getOrDefault("N", -1));
+		assertNull(map.putIfAbsent("N", 5));
+		assertEquals(5, map.get("N"));
+
+		assertEquals(1, map.computeIfAbsent("A", key -> 10));
+		assertEquals(2, map.computeIfAbsent("B", key -> 2));
+		assertNull(map.computeIfAbsent("C", key -> null));
+		assertFalse(map.containsKey("C"));
+
+		assertEquals(11, map.compute("A", (key, value) -> value + 10));
+		assertEquals(3, map.compute("C", (key, value) -> value == null ? 3 : value));
+		assertNull(map.compute("C", (key, value) -> null));
+		assertFalse(map.containsKey("C"));
+		assertNull(map.compute("D", (key, value) -> null));
+
+		assertEquals(1, map.merge("E", 1, Integer::sum));
+		assertEquals(3, map.merge("E", 2, Integer::sum));
+		assertNull(map.merge("E", 1, (value, other) -> null));
+		assertFalse(map.containsKey("E"));
+		assertEquals(Set.of("A", "B", "N"), map.keySet());
+		assertEquals(3, map.size());
+		assertThrows(NullPointerException.class, () -> map.merge("A", null, Integer::sum));
+		assertThrows(NullPointerException.class, () -> map.compute("A", null));
+	}
+
+	@Test
+	@DisplayName("check if merge counts words")
+	void testMergeWordCount() {
+		var map = new HashMap<String, Integer>();
+		for (var word : "to be or not to be that is the question to".split(" ")) {
+			map.merge(word, 1, Integer::sum);
+		}
+		assertEquals(3, map.get("to"));
+		assertEquals(2, map.get("be"));
+		assertEquals(1, map.get("question"));
+		assertEquals(8, map.size());
+	}
+
+	@Test
+	@DisplayName("check if compute methods behave like java.util.HashMap across resizing and tree buckets")
+	void testComputeRandomOperations() {
+		var random = new Random(11);
+		var map = new HashMap<IncomparableCollidingKey, Integer>(1, 0.75, HashMap.ResizeMode.INCREMENTAL);
+		var expected = new java.util.HashMap<IncomparableCollidingKey, Integer>();
+		var integers = new HashMap<Integer, Integer>(1, 0.75, HashMap.ResizeMode.INCREMENTAL);
+		var expectedIntegers = new java.util.HashMap<Integer, Integer>();
+		for (int k = 0; k < 100_000; k++) {
+			var key = new IncomparableCollidingKey(random.nextInt(200));
+			int integer = random.nextInt(5_000);
+			final int value = k;
+			switch (random.nextInt(6)) {
+			case 0 -> {
+				assertEquals(expected.putIfAbsent(key, value), map.putIfAbsent(key, value));
+				assertEquals(expectedIntegers.putIfAbsent(integer, value), integers.putIfAbsent(integer, value));
+			}
+			case 1 -> {
+				assertEquals(expected.computeIfAbsent(key, any -> value), map.computeIfAbsent(key, any -> value));
+				assertEquals(expectedIntegers.computeIfAbsent(integer, any -> value),
+						integers.computeIfAbsent(integer, any -> value));
+			}
+			case 2 -> {
+				assertEquals(expected.compute(key, (any, old) -> old == null || old % 3 != 0 ? value : null),
+						map.compute(key, (any, old) -> old == null || old % 3 != 0 ? value : null));
+				assertEquals(expectedIntegers.compute(integer, (any, old) -> old == null || old % 3 != 0 ? value : null),
+						integers.compute(integer, (any, old) -> old == null || old % 3 != 0 ? value : null));
+			}
+			case 3 -> {
+				assertEquals(expected.merge(key, value, (old, any) -> old % 2 == 0 ? null : old + any),
+						map.merge(key, value, (old, any) -> old % 2 == 0 ? null : old + any));
+				assertEquals(expectedIntegers.merge(integer, value, (old, any) -> old % 2 == 0 ? null : old + any),
+						integers.merge(integer, value, (old, any) -> old % 2 == 0 ? null : old + any));
+			}
+			case 4 -> {
+				assertEquals(expected.getOrDefault(key, -1), map.getOrDefault(key, -1));
+				assertEquals(expectedIntegers.getOrDefault(integer, -1), integers.getOrDefault(integer, -1));
+			}
+			default -> {
+				assertEquals(expected.remove(key), map.remove(key));
+				assertEquals(expectedIntegers.remove(integer), integers.remove(integer));
+			}
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		assertEquals(expectedIntegers.size(), integers.size());
+		for (var entry : map) {
+			assertEquals(expected.get(entry.getKey()), entry.getValue());
+		}
+		for (var entry : integers) {
+			assertEquals(expectedIntegers.get(entry.getKey()), entry.getValue());
+		}
+	}
+
+	@Test
+	@DisplayName("check if compute methods grow overfull bucket into tree")
+	void testComputeTreeify() {
+		var map = new HashMap<CollidingKey, Integer>(64);
+		for (int k = 0; k < 8; k++) {
+			map.merge(new CollidingKey(k), k, Integer::sum);
+		}
+		assertFalse(map.isTreeBucket(new CollidingKey(0)));
+		map.computeIfAbsent(new CollidingKey(8), CollidingKey::id);
+		assertTrue(map.isTreeBucket(new CollidingKey(0)));
+		map.putIfAbsent(new CollidingKey(9), 9);
+		for (int k = 0; k < 10; k++) {
+			assertEquals(k, map.get(new CollidingKey(k)));
+		}
+		assertEquals(10, map.size());
+	}
+
+	@Test
+	@DisplayName("check if table capacity is rounded up to power of two")
+	void testCapacityRounding() {
+		assertEquals(1, new HashMap<String, Integer>(1).capacity());
+		assertEquals(16, new HashMap<String, Integer>(10).capacity());
+		assertEquals(64, new HashMap<String, Integer>(64).capacity());
+		assertEquals(16, new HashMap<String, Integer>().capacity());
+	}
+
+	@Test
+	@DisplayName("check if Fibonacci spreading distributes low-entropy keys evenly")
+	void testFibonacciSpreadingOnLowEntropyKeys() {
+		final int keyCount = 4096;
+		var xorShiftMap = new HashMap<Integer, Integer>(2 * keyCount, 0.75, HashMap.ResizeMode.EAGER,
+				HashSpreading.XOR_SHIFT);
+		var fibonacciMap = new HashMap<Integer, Integer>(2 * keyCount, 0.75, HashMap.ResizeMode.EAGER,
+				HashSpreading.FIBONACCI);
+		for (int k = 0; k < keyCount; k++) {
+			xorShiftMap.put(k << 20, k);
+			fibonacciMap.put(k << 20, k);
+		}
+		assertEquals(8192, fibonacciMap.capacity());
+		assertTrue(xorShiftMap.maxBucketLength() >= 8);
+		assertTrue(fibonacciMap.maxBucketLength() <= 2);
+		for (int k = 0; k < keyCount; k++) {
+			assertEquals(k, fibonacciMap.get(k << 20));
+		}
+	}
+
+	@Test
+	@DisplayName("spliterator splits bucket ranges and visits every entry once")
+	void testSpliterator() {
+		var map = new HashMap<Integer, Integer>();
+		for (int k = 0; k < 1000; k++) {
+			map.put(k, k);
+		}
+		var spliterator = map.spliterator();
+		assertEquals(1000, spliterator.getExactSizeIfKnown());
+		var suffix = spliterator.trySplit();
+		assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+		assertEquals(500, suffix.estimateSize());
+		var keys = new java.util.HashSet<Integer>();
+		spliterator.forEachRemaining(entry -> assertTrue(keys.add(entry.getKey())));
+		suffix.forEachRemaining(entry -> assertTrue(keys.add(entry.getKey())));
+		assertEquals(1000, keys.size());
+	}
+
+	@Test
+	@DisplayName("parallel stream covers new and old tables during incremental resize and tree buckets")
+	void testParallelStream() {
+		var map = new HashMap<Integer, Integer>(1, 0.75, HashMap.ResizeMode.INCREMENTAL);
+		for (int k = 0; k < 100_000; k++) {
+			map.put(k, k);
+		}
+		for (int k = 0; k < 20; k++) {
+			map.put(-k - 1, 0);
+		}
+		long expected = 4_999_950_000L;
+		assertEquals(expected, map.stream().mapToLong(Map.Entry::getValue).sum());
+		assertEquals(expected, map.parallelStream().mapToLong(Map.Entry::getValue).sum());
+		assertEquals(map.size(), map.parallelStream().count());
+
+		var colliding = new HashMap<CollidingKey, Integer>();
+		for (int k = 0; k < 100; k++) {
+			colliding.put(new CollidingKey(k), k);
+		}
+		assertEquals(4950, colliding.parallelStream().mapToInt(Map.Entry::getValue).sum());
+	}
+
+	@Test
+	@DisplayName("stats report structure only while metrics are disabled")
+	void testStatsDisabled() {
+		var map = new HashMap<Integer, Integer>(16);
+		for (int k = 0; k < 10; k++) {
+			map.put(k, k);
+			map.get(k);
+		}
+		var stats = map.stats();
+		assertEquals(10, stats.size());
+		assertEquals(16, stats.capacity());
+		assertEquals(0.75, stats.loadFactor());
+		assertEquals(10 / 16.0, stats.load());
+		assertEquals(1, stats.maxBucketLength());
+		assertEquals(0, stats.lookups());
+		assertEquals(0, stats.resizes());
+		assertEquals(0, stats.hitRatio());
+		assertArrayEquals(new long[16], stats.probeHistogram());
+	}
+
+	@Test
+	@DisplayName("enabled metrics count hits, misses, probes and resizes")
+	void testStatsEnabled() {
+		var map = new HashMap<Integer, Integer>(1);
+		map.enableMetrics();
+		for (int k = 0; k < 100; k++) {
+			map.put(k, k);
+		}
+		for (int k = 0; k < 200; k++) {
+			map.get(k);
+		}
+		var stats = map.stats();
+		assertEquals(100, stats.hits());
+		assertEquals(100, stats.misses());
+		assertEquals(0.5, stats.hitRatio());
+		assertEquals(8, stats.resizes());
+		assertTrue(stats.resizeNanos() > 0);
+		assertEquals(200, Arrays.stream(stats.probeHistogram()).sum());
+		assertTrue(stats.averageProbes() <= 2);
+
+		map.disableMetrics();
+		map.get(0);
+		assertEquals(0, map.stats().lookups());
+	}
+
+	@Test
+	@DisplayName("containsKey is recorded as lookup with probes counted in a single pass")
+	void testStatsContainsKey() {
+		var map = new HashMap<CollidingKey, Integer>(16);
+		map.enableMetrics();
+		for (int k = 0; k < 4; k++) {
+			map.put(new CollidingKey(k), k);
+		}
+		assertTrue(map.containsKey(new CollidingKey(3)));
+		assertTrue(map.containsKey(new CollidingKey(0)));
+		assertFalse(map.containsKey(new CollidingKey(4)));
+		var stats = map.stats();
+		assertEquals(2, stats.hits());
+		assertEquals(1, stats.misses());
+		assertEquals(1, stats.probeHistogram()[1]);
+		assertEquals(2, stats.probeHistogram()[4]);
+	}
+
+	@Test
+	@DisplayName("colliding keys show up as long probe sequences")
+	void testStatsCollisions() {
+		var map = new HashMap<CollidingKey, Integer>(16);
+		map.enableMetrics();
+		for (int k = 0; k < 6; k++) {
+			map.put(new CollidingKey(k), k);
+		}
+		map.get(new CollidingKey(0));
+		map.get(new CollidingKey(6));
+		var stats = map.stats();
+		assertEquals(6, stats.maxBucketLength());
+		assertEquals(2, stats.probeHistogram()[6]);
+		assertEquals(6, stats.averageProbes());
+	}
+
+	@Test
+	@DisplayName("resize and treeify are reported as flight recorder events")
+	void testFlightRecorderEvents() throws Exception {
+		var file = Files.createTempFile("hashmap", ".jfr");
+		try (var recording = new Recording()) {
+			recording.enable(HashMapResizeEvent.class);
+			recording.enable(HashMapTreeifyEvent.class);
+			recording.start();
+			var map = new HashMap<CollidingKey, Integer>(64);
+			for (int k = 0; k < 64; k++) {
+				map.put(new CollidingKey(k), k);
+			}
+			recording.stop();
+			recording.dump(file);
+			var events = RecordingFile.readAllEvents(file);
+			var resizes = events.stream()
+					.filter(e -> e.getEventType().getName().equals("org.training.datastructures.map.HashMapResize"))
+					.toList();
+			assertEquals(1, resizes.size());
+			assertEquals(64, resizes.get(0).getInt("oldCapacity"));
+			assertEquals(128, resizes.get(0).getInt("newCapacity"));
+			assertEquals("EAGER", resizes.get(0).getString("resizeMode"));
+			assertTrue(events.stream()
+					.anyMatch(e -> e.getEventType().getName().equals("org.training.datastructures.map.HashMapTreeify")));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	@DisplayName("check if snapshot restores entries into presized table without resizing")
+	void testSnapshot() throws Exception {
+		var map = new HashMap<String, Long>(1, 0.75, HashMap.ResizeMode.INCREMENTAL);
+		for (long k = 0; k < 10_000; k++) {
+			map.put("key" + k, k);
+		}
+		var output = new ByteArrayOutputStream();
+		map.writeSnapshot(Channels.newChannel(output), Codec.STRING, Codec.LONG);
+		var restored = HashMap.readSnapshot(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+				Codec.STRING, Codec.LONG);
+		assertEquals(map, restored);
+		assertEquals(16_384, restored.stats().capacity());
+		assertFalse(restored.isMigrating());
+		restored.enableMetrics();
+		for (long k = 0; k < 10_000; k++) {
+			assertEquals(k, restored.get("key" + k));
+		}
+		assertEquals(0, restored.stats().resizes());
+		assertEquals(10_000, restored.stats().hits());
+	}
+
+	@Test
+	@DisplayName("snapshot with repeated keys or corrupted count doesn't inflate map")
+	void testSnapshotUntrustedCount() throws Exception {
+		var output = new ByteArrayOutputStream();
+		var writer = new SnapshotWriter(Channels.newChannel(output), SnapshotKind.MAP, 3);
+		for (var key : new String[] { "A", "B", "A" }) {
+			writer.write(key, Codec.STRING);
+			writer.write((long) key.charAt(0), Codec.LONG);
+		}
+		writer.finish();
+		var restored = HashMap.readSnapshot(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+				Codec.STRING, Codec.LONG);
+		assertEquals(2, restored.size());
+		assertEquals(2, restored.entrySet().size());
+		assertEquals(65L, restored.get("A"));
+
+		var corrupted = new ByteArrayOutputStream();
+		writer = new SnapshotWriter(Channels.newChannel(corrupted), SnapshotKind.MAP, Integer.MAX_VALUE);
+		writer.write(1L, Codec.LONG);
+		writer.write(1L, Codec.LONG);
+		writer.finish();
+		assertThrows(EOFException.class, () -> HashMap.readSnapshot(
+				Channels.newChannel(new ByteArrayInputStream(corrupted.toByteArray())), Codec.LONG, Codec.LONG));
+	}
+
+	@Test
+	@DisplayName("check if snapshot larger than unverified presize is restored from file without resizing")
+	void testSnapshotFromFile() throws Exception {
+		var map = new HashMap<Long, Long>();
+		for (long k = 0; k < 100_000; k++) {
+			map.put(k, -k);
+		}
+		var snapshot = Files.createTempFile("hashmap", ".snapshot");
+		var recordingFile = Files.createTempFile("hashmap", ".jfr");
+		try (var recording = new Recording()) {
+			try (var channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+				map.writeSnapshot(channel, Codec.LONG, Codec.LONG);
+			}
+			recording.enable(HashMapResizeEvent.class);
+			recording.start();
+			HashMap<Long, Long> restored;
+			try (var channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+				restored = HashMap.readSnapshot(channel, Codec.LONG, Codec.LONG);
+			}
+			recording.stop();
+			recording.dump(recordingFile);
+			assertEquals(map, restored);
+			assertEquals(262_144, restored.capacity());
+			assertTrue(RecordingFile.readAllEvents(recordingFile).stream()
+					.noneMatch(e -> e.getEventType().getName().equals("org.training.datastructures.map.HashMapResize")));
+		} finally {
+			Files.deleteIfExists(snapshot);
+			Files.deleteIfExists(recordingFile);
+		}
+	}
+
+	@Test
+	@DisplayName("check if snapshot restores colliding keys into tree buckets")
+	void testSnapshotTreeBuckets() throws Exception {
+		var collidingCodec = new Codec<CollidingKey>() {
+
+			@Override
+			public int fixedSize() {
+				return Integer.BYTES;
+			}
+
+			@Override
+			public void write(CollidingKey value, java.nio.ByteBuffer buffer) {
+				buffer.putInt(value.id());
+			}
+
+			@Override
+			public CollidingKey read(java.nio.ByteBuffer buffer) {
+				return new CollidingKey(buffer.getInt());
+			}
+
+		};
+		var colliding = new HashMap<CollidingKey, Integer>(64);
+		for (int k = 0; k < 100; k++) {
+			colliding.put(new CollidingKey(k), k);
+		}
+		var output = new ByteArrayOutputStream();
+		colliding.writeSnapshot(Channels.newChannel(output), collidingCodec, Codec.INT);
+		var restored = HashMap.readSnapshot(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+				collidingCodec, Codec.INT);
+		assertTrue(restored.isTreeBucket(new CollidingKey(0)));
+		assertEquals(colliding, restored);
+		assertEquals(100, restored.size());
+		restored.remove(new CollidingKey(3));
+		assertNull(restored.get(new CollidingKey(3)));
+		assertEquals(99, restored.size());
+	}
+
+	@Test
+	@DisplayName("check if builder sizes table once and later entries replace earlier ones")
+	void testBuilder() {
+		for (boolean sortByBucket : new boolean[] { false, true }) {
+			var builder = HashMap.<Integer, String>builder().expectedSize(1_000).sortByBucket(sortByBucket);
+			for (int k = 0; k < 1_000; k++) {
+				builder.put(k, "value" + k);
+			}
+			builder.put(7, "replaced").put(1_000, null);
+			var map = builder.build();
+			assertEquals(1_001, map.size());
+			assertEquals(2_048, map.capacity());
+			assertEquals("replaced", map.get(7));
+			assertNull(map.get(1_000));
+			assertTrue(map.containsKey(1_000));
+			for (int k = 0; k < 1_000; k++) {
+				if (k != 7) {
+					assertEquals("value" + k, map.get(k));
+				}
+			}
+			map.put(2_000, "grown");
+			assertEquals(1_002, map.size());
+		}
+	}
+
+	@Test
+	@DisplayName("check if builder applies options and rejects invalid ones")
+	void testBuilderOptions() {
+		assertThrows(IllegalArgumentException.class, () -> HashMap.builder().expectedSize(-1));
+		assertThrows(IllegalArgumentException.class, () -> HashMap.builder().loadFactor(0));
+		assertThrows(NullPointerException.class, () -> HashMap.builder().resizeMode(null));
+		assertThrows(NullPointerException.class, () -> HashMap.<String, Integer>builder().put(null, 1));
+		assertEquals(1, HashMap.builder().build().capacity());
+		var source = new HashMap<Integer, Integer>();
+		source.put(1, 1);
+		source.put(2, 2);
+		var map = HashMap.<Integer, Integer>builder()
+				.loadFactor(0.5)
+				.resizeMode(HashMap.ResizeMode.INCREMENTAL)
+				.hashSpreading(HashSpreading.FIBONACCI)
+				.putAll(source)
+				.build();
+		assertEquals(4, map.capacity());
+		assertEquals(0.5, map.stats().loadFactor());
+		for (int k = 3; k < 10; k++) {
+			map.put(k, k);
+		}
+		assertTrue(map.isMigrating());
+	}
+
+	@Test
+	@DisplayName("check if builder treeifies colliding keys in sorted and unsorted order")
+	void testBuilderTreeBuckets() {
+		for (boolean sortByBucket : new boolean[] { false, true }) {
+			var builder = HashMap.<CollidingKey, Integer>builder().sortByBucket(sortByBucket);
+			for (int k = 0; k < 100; k++) {
+				builder.put(new CollidingKey(k), k);
+			}
+			builder.put(new CollidingKey(50), -50);
+			var map = builder.build();
+			assertTrue(map.isTreeBucket(new CollidingKey(0)));
+			assertEquals(100, map.size());
+			assertEquals(-50, map.get(new CollidingKey(50)));
+			assertEquals(99, map.get(new CollidingKey(99)));
+		}
+	}
+
+	@Test
+	@DisplayName("check if copy constructor and putAll presize table before inserting")
+	void testPresizedCopy() {
+		var source = new HashMap<Integer, Integer>();
+		for (int k = 0; k < 1_000; k++) {
+			source.put(k, k);
+		}
+		var copy = new HashMap<>(source);
+		assertEquals(2_048, copy.capacity());
+		assertEquals(source, copy);
+
+		var map = new HashMap<Integer, Integer>();
+		map.enableMetrics();
+		map.put(-1, -1);
+		map.putAll(source);
+		assertEquals(1, map.stats().resizes());
+		assertEquals(2_048, map.capacity());
+		assertEquals(1_001, map.size());
+
+		map.ensureCapacity(100);
+		assertEquals(2_048, map.capacity());
+		map.ensureCapacity(10_000);
+		assertEquals(16_384, map.capacity());
+		assertEquals(2, map.stats().resizes());
+		for (int k = -1; k < 1_000; k++) {
+			assertEquals(k, map.get(k));
+		}
+	}
+
+	@Test
+	@DisplayName("check if putAll on incremental map presizes without migrating whole table at once")
+	void testIncrementalPutAll() {
+		var map = new HashMap<Integer, Integer>(1_024, 0.75, HashMap.ResizeMode.INCREMENTAL);
+		for (int k = 0; k < 700; k++) {
+			map.put(k, k);
+		}
+		assertFalse(map.isMigrating());
+		var source = new HashMap<Integer, Integer>();
+		for (int k = 700; k < 800; k++) {
+			source.put(k, k);
+		}
+		map.putAll(source);
+		assertEquals(2_048, map.capacity());
+		assertTrue(map.isMigrating());
+		assertEquals(800, map.size());
+		for (int k = 0; k < 800; k++) {
+			assertEquals(k, map.get(k));
+		}
+		for (int k = 800; k < 1_000; k++) {
+			map.put(k, k);
+		}
+		assertFalse(map.isMigrating());
+		assertEquals(1_000, map.size());
+	}
+
+	@Test
+	@DisplayName("check if put and putIfAbsent link entries and treeify buckets the same way")
+	void testPutLinksLikePutIfAbsent() {
+		var put = new HashMap<CollidingKey, Integer>(64);
+		var putIfAbsent = new HashMap<CollidingKey, Integer>(64);
+		for (int k = 0; k < 12; k++) {
+			put.put(new CollidingKey(k), k);
+			putIfAbsent.putIfAbsent(new CollidingKey(k), k);
+			assertEquals(put.isTreeBucket(new CollidingKey(0)), putIfAbsent.isTreeBucket(new CollidingKey(0)));
+			assertEquals(put.keySet().toString(), putIfAbsent.keySet().toString());
+		}
+		assertTrue(put.isTreeBucket(new CollidingKey(0)));
+	}
+
 }
@@ -0,0 +1,95 @@
+package org.training.datastructures.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class Int2ObjectHashMapTest {
+
+	@Test
+	@DisplayName("create empty map sized for expected number of entries")
+	void testInt2ObjectHashMap() {
+		var map = new Int2ObjectHashMap<String>();
+		assertEquals(0, map.size());
+		assertTrue(map.isEmpty());
+		assertEquals(32, map.capacity());
+		assertEquals(256, new Int2ObjectHashMap<String>(100).capacity());
+		assertThrows(IllegalArgumentException.class, () -> new Int2ObjectHashMap<String>(-1));
+		assertThrows(IllegalArgumentException.class, () -> new Int2ObjectHashMap<String>(16, 1));
+	}
+
+	@Test
+	@DisplayName("put, get and remove by primitive key")
+	void testPutGetRemove() {
+		var map = new Int2ObjectHashMap<String>();
+		assertNull(map.put(1, "1"));
+		assertNull(map.put(-7, "-7"));
+		assertEquals("1", map.put(1, "one"));
+		assertEquals(2, map.size());
+		assertEquals("one", map.get(1));
+		assertEquals("-7", map.get(-7));
+		assertNull(map.get(2));
+		assertTrue(map.containsKey(-7));
+		assertFalse(map.containsKey(2));
+		assertEquals("-7", map.remove(-7));
+		assertNull(map.remove(-7));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	@DisplayName("zero key is stored outside the table")
+	void testZeroKey() {
+		var map = new Int2ObjectHashMap<String>();
+		assertFalse(map.containsKey(0));
+		assertNull(map.put(0, "zero"));
+		assertTrue(map.containsKey(0));
+		assertEquals("zero", map.get(0));
+		assertEquals(1, map.size());
+		assertEquals("[0=zero]", map.toString());
+		assertEquals("zero", map.remove(0));
+		assertFalse(map.containsKey(0));
+		assertTrue(map.isEmpty());
+	}
+
+	@Test
+	@DisplayName("clear wipes map and forEach visits every entry")
+	void testClearAndForEach() {
+		var map = new Int2ObjectHashMap<Integer>();
+		for (int k = 0; k < 100; k++) {
+			map.put(k, k);
+		}
+		int[] sum = new int[1];
+		map.forEach((key, value) -> {
+			assertEquals(key, (long) value);
+			sum[0] += value;
+		});
+		assertEquals(4950, sum[0]);
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(5));
+	}
+
+	@Test
+	@DisplayName("random operations behave like java.util.HashMap")
+	void testRandomOperations() {
+		var random = new Random(11);
+		var map = new Int2ObjectHashMap<Integer>(0);
+		var expected = new java.util.HashMap<Integer, Integer>();
+		for (int k = 0; k < 100_000; k++) {
+			int key = (int) (random.nextInt(4_000) - 2_000);
+			if (random.nextBoolean()) {
+				assertEquals(expected.put(key, k), map.put(key, k));
+			} else {
+				assertEquals(expected.remove(key), map.remove(key));
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		for (var entry : expected.entrySet()) {
+			assertEquals(entry.getValue(), map.get(entry.getKey()));
+		}
+	}
+
+}
@@ -0,0 +1,177 @@
+package org.training.datastructures.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LinkedHashMapTest {
+
+	private record CollidingKey(int id) implements Comparable<CollidingKey> {
+
+		@Override
+		public int hashCode() {
+			return 42;
+		}
+
+		@Override
+		public int compareTo(CollidingKey other) {
+			return Integer.compare(id, other.id);
+		}
+
+	}
+
+	private static <K, V> java.util.List<K> keys(Map<K, V> map) {
+		var keys = new java.util.ArrayList<K>();
+		for (var entry : map) {
+			keys.add(entry.getKey());
+		}
+		return keys;
+	}
+
+	@Test
+	@DisplayName("iteration follows insertion order")
+	void testInsertionOrder() {
+		var map = new LinkedHashMap<String, Integer>();
+		map.put("C", 3);
+		map.put("A", 1);
+		map.put("B", 2);
+		assertEquals(java.util.List.of("C", "A", "B"), keys(map));
+		map.put("A", 10);
+		map.get("C");
+		assertEquals(java.util.List.of("C", "A", "B"), keys(map));
+		map.remove("A");
+		map.put("A", 1);
+		assertEquals(java.util.List.of("C", "B", "A"), keys(map));
+		assertEquals("[C=3,B=2,A=1]", map.toString());
+	}
+
+	@Test
+	@DisplayName("access order moves read and replaced entries to the end")
+	void testAccessOrder() {
+		var map = new LinkedHashMap<String, Integer>(16, 0.75, true);
+		map.put("A", 1);
+		map.put("B", 2);
+		map.put("C", 3);
+		map.get("A");
+		assertEquals(java.util.List.of("B", "C", "A"), keys(map));
+		map.put("B", 20);
+		assertEquals(java.util.List.of("C", "A", "B"), keys(map));
+		map.get("D");
+		map.containsKey("C");
+		assertEquals(java.util.List.of("C", "A", "B"), keys(map));
+	}
+
+	@Test
+	@DisplayName("remove eldest entry turns access-ordered map into lru cache")
+	void testRemoveEldestEntry() {
+		var map = new LinkedHashMap<Integer, Integer>(16, 0.75, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Entry<Integer, Integer> eldest) {
+				return size() > 3;
+			}
+
+		};
+		for (int k = 0; k < 4; k++) {
+			map.put(k, k);
+			map.get(0);
+		}
+		assertEquals(3, map.size());
+		assertEquals(java.util.List.of(2, 3, 0), keys(map));
+		assertFalse(map.containsKey(1));
+	}
+
+	@Test
+	@DisplayName("order survives treeified buckets and incremental resizing")
+	void testOrderAcrossTreeifyAndResize() {
+		var colliding = new LinkedHashMap<CollidingKey, Integer>(64);
+		var expected = new java.util.ArrayList<CollidingKey>();
+		for (int k = 20; k > 0; k--) {
+			colliding.put(new CollidingKey(k), k);
+			expected.add(new CollidingKey(k));
+		}
+		assertTrue(colliding.isTreeBucket(new CollidingKey(1)));
+		assertEquals(expected, keys(colliding));
+		for (int k = 20; k > 12; k--) {
+			colliding.remove(new CollidingKey(k));
+			expected.remove(new CollidingKey(k));
+		}
+		assertEquals(expected, keys(colliding));
+
+		var map = new LinkedHashMap<Integer, Integer>(1);
+		var order = new java.util.ArrayList<Integer>();
+		var random = new Random(42);
+		for (int k = 0; k < 10_000; k++) {
+			int key = random.nextInt();
+			if (map.put(key, k) == null) {
+				order.add(key);
+			}
+		}
+		assertEquals(order, keys(map));
+	}
+
+	@Test
+	@DisplayName("iterator removal and clear keep links consistent")
+	void testIteratorRemoveAndClear() {
+		var map = new LinkedHashMap<Integer, Integer>();
+		for (int k = 0; k < 10; k++) {
+			map.put(k, k);
+		}
+		var i = map.iterator();
+		assertThrows(IllegalStateException.class, i::remove);
+		while (i.hasNext()) {
+			if (i.next().getKey() % 3 != 0) {
+				i.remove();
+			}
+		}
+		assertThrows(NoSuchElementException.class, i::next);
+		assertEquals(java.util.List.of(0, 3, 6, 9), keys(map));
+		assertEquals(4, map.size());
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertFalse(map.iterator().hasNext());
+		map.put(5, 5);
+		assertEquals(java.util.List.of(5), keys(map));
+	}
+
+	@Test
+	@DisplayName("copy constructor keeps source order and equals hash map with same entries")
+	void testCopyAndStream() {
+		var source = new LinkedHashMap<String, Integer>();
+		source.put("B", 2);
+		source.put("A", 1);
+		var copy = new LinkedHashMap<>(source);
+		assertEquals(java.util.List.of("B", "A"), keys(copy));
+		var hashMap = new HashMap<String, Integer>();
+		hashMap.put("A", 1);
+		hashMap.put("B", 2);
+		assertEquals(hashMap, copy);
+		assertEquals(java.util.List.of("B", "A"), copy.parallelStream().map(Map.Entry::getKey).toList());
+	}
+
+	@Test
+	@DisplayName("random operations including merge and computeIfAbsent keep order of java.util.LinkedHashMap")
+	void testRandomOperations() {
+		var random = new Random(42);
+		var map = new LinkedHashMap<Integer, Integer>(1, 0.75, true);
+		var expected = new java.util.LinkedHashMap<Integer, Integer>(1, 0.75f, true);
+		for (int k = 0; k < 100_000; k++) {
+			int key = random.nextInt(2_000);
+			final int value = k;
+			switch (random.nextInt(5)) {
+			case 0 -> assertEquals(expected.put(key, k), map.put(key, k));
+			case 1 -> assertEquals(expected.remove(key), map.remove(key));
+			case 2 -> assertEquals(expected.merge(key, value, (old, any) -> old % 4 == 0 ? null : any),
+					map.merge(key, value, (old, any) -> old % 4 == 0 ? null : any));
+			case 3 -> assertEquals(expected.computeIfAbsent(key, any -> value), map.computeIfAbsent(key, any -> value));
+			default -> assertEquals(expected.get(key), map.get(key));
+			}
+		}
+		assertEquals(new java.util.ArrayList<>(expected.keySet()), keys(map));
+	}
+
+}
@@ -0,0 +1,98 @@
+package org.training.datastructures.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class Long2LongHashMapTest {
+
+	@Test
+	@DisplayName("absent keys report configured missing value")
+	void testMissingValue() {
+		var map = new Long2LongHashMap(16, 0.5, -1);
+		assertEquals(-1, map.missingValue());
+		assertEquals(-1, map.get(42));
+		assertEquals(-1, map.get(0));
+		assertEquals(7, map.getOrDefault(42, 7));
+		assertEquals(-1, map.put(42, 1));
+		assertEquals(1, map.put(42, 2));
+		assertEquals(2, map.remove(42));
+		assertEquals(-1, map.remove(42));
+		assertTrue(map.isEmpty());
+	}
+
+	@Test
+	@DisplayName("zero key is stored outside the table")
+	void testZeroKey() {
+		var map = new Long2LongHashMap();
+		assertEquals(0, map.put(0, 5));
+		assertTrue(map.containsKey(0));
+		assertEquals(5, map.get(0));
+		assertEquals(1, map.size());
+		assertEquals(5, map.remove(0));
+		assertFalse(map.containsKey(0));
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	@DisplayName("addTo accumulates counters starting from missing value")
+	void testAddTo() {
+		var map = new Long2LongHashMap();
+		for (long k = 0; k < 1000; k++) {
+			map.addTo(k % 10, 1);
+		}
+		assertEquals(10, map.size());
+		for (long k = 0; k < 10; k++) {
+			assertEquals(100, map.get(k));
+		}
+		assertEquals(105, map.addTo(3, 5));
+
+		var single = new Long2LongHashMap();
+		single.addTo(0, 100);
+		assertEquals("[0=100]", single.toString());
+	}
+
+	@Test
+	@DisplayName("forEach visits every entry and clear wipes map")
+	void testForEachAndClear() {
+		var map = new Long2LongHashMap(0);
+		for (long k = -50; k < 50; k++) {
+			map.put(k, k * 2);
+		}
+		long[] sum = new long[1];
+		map.forEach((key, value) -> {
+			assertEquals(key * 2, value);
+			sum[0] += value;
+		});
+		assertEquals(-100, sum[0]);
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertFalse(map.containsKey(1));
+	}
+
+	@Test
+	@DisplayName("random operations behave like java.util.HashMap")
+	void testRandomOperations() {
+		var random = new Random(13);
+		var map = new Long2LongHashMap(0, 0.75, Long.MIN_VALUE);
+		var expected = new java.util.HashMap<Long, Long>();
+		for (int k = 0; k < 100_000; k++) {
+			long key = random.nextInt(4_000) * 1_000_000_007L;
+			if (random.nextBoolean()) {
+				Long previous = expected.put(key, (long) k);
+				assertEquals(previous == null ? Long.MIN_VALUE : previous, map.put(key, k));
+			} else {
+				Long previous = expected.remove(key);
+				assertEquals(previous == null ? Long.MIN_VALUE : previous, map.remove(key));
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		for (var entry : expected.entrySet()) {
+			assertEquals(entry.getValue(), map.get(entry.getKey()));
+		}
+	}
+
+}
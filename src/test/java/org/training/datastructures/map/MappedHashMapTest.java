@@ -0,0 +1,266 @@
+package org.training.datastructures.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.training.datastructures.io.Codec;
+
+class MappedHashMapTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("open rejects variable size codecs and invalid capacity")
+	void testOpenFail() {
+		var path = directory.resolve("map.bin");
+		assertThrows(IllegalArgumentException.class, () -> MappedHashMap.open(path, Codec.STRING, Codec.INT));
+		assertThrows(IllegalArgumentException.class, () -> MappedHashMap.open(path, Codec.INT, Codec.INT, 0));
+		assertFalse(Files.exists(path));
+	}
+
+	@Test
+	@DisplayName("entries survive close and reopen without rebuilding")
+	void testReopen() throws IOException {
+		var path = directory.resolve("map.bin");
+		try (var map = MappedHashMap.open(path, Codec.LONG, Codec.DOUBLE)) {
+			assertNull(map.put(1L, 1.5));
+			assertNull(map.put(2L, 2.5));
+			assertEquals(1.5, map.put(1L, 10.5));
+			assertEquals(2.5, map.remove(2L));
+			assertNull(map.put(3L, 3.5));
+		}
+		try (var map = MappedHashMap.open(path, Codec.LONG, Codec.DOUBLE)) {
+			assertFalse(map.recovered());
+			assertEquals(2, map.size());
+			assertEquals(10.5, map.get(1L));
+			assertNull(map.get(2L));
+			assertEquals(3.5, map.get(3L));
+			assertTrue(map.containsKey(3L));
+		}
+	}
+
+	@Test
+	@DisplayName("growing table is rewritten into temporary file and atomically replaces original")
+	void testResize() throws IOException {
+		var path = directory.resolve("map.bin");
+		try (var map = MappedHashMap.open(path, Codec.INT, Codec.INT, 1, 12 * 64)) {
+			for (int k = 0; k < 10_000; k++) {
+				map.put(k, -k);
+			}
+			assertEquals(16_384, map.capacity());
+			assertEquals(256, map.segmentCount());
+		}
+		assertEquals(64 + 16_384L * 12, Files.size(path));
+		assertFalse(Files.exists(directory.resolve("map.bin.resize")));
+		try (var map = MappedHashMap.open(path, Codec.INT, Codec.INT)) {
+			assertEquals(10_000, map.size());
+			for (int k = 0; k < 10_000; k++) {
+				assertEquals(-k, map.get(k));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("map abandoned without force is recovered from its dirty header")
+	void testRecovery() throws IOException {
+		var path = directory.resolve("map.bin");
+		var abandoned = MappedHashMap.open(path, Codec.INT, Codec.LONG, 64);
+		abandoned.put(1, 1L);
+		abandoned.force();
+		abandoned.put(2, 2L);
+		abandoned.put(3, 3L);
+		abandoned.remove(1);
+		try (var map = MappedHashMap.open(path, Codec.INT, Codec.LONG)) {
+			assertTrue(map.recovered());
+			assertEquals(2, map.size());
+			assertEquals(2L, map.get(2));
+			assertEquals(3L, map.get(3));
+			assertNull(map.get(1));
+		}
+		try (var map = MappedHashMap.open(path, Codec.INT, Codec.LONG)) {
+			assertFalse(map.recovered());
+			assertEquals(2, map.size());
+		}
+	}
+
+	@Test
+	@DisplayName("torn removal leaving a key in two slots is rebuilt on recovery")
+	void testTornRemoveRecovery() throws IOException {
+		final int headerBytes = 64;
+		final int slotSize = Integer.BYTES + Integer.BYTES + Long.BYTES;
+		var path = directory.resolve("map.bin");
+		var abandoned = MappedHashMap.open(path, Codec.INT, Codec.LONG, 16);
+		for (int k = 1; k <= 5; k++) {
+			abandoned.put(k, (long) k);
+		}
+		try (var channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			var slots = ByteBuffer.allocate(abandoned.capacity() * slotSize);
+			channel.read(slots, headerBytes);
+			int removed = -1;
+			int shifted = -1;
+			for (int index = 0; index < abandoned.capacity(); index++) {
+				if (slots.getInt(index * slotSize) != 0) {
+					final int key = slots.getInt(index * slotSize + Integer.BYTES);
+					if (key == 1) {
+						removed = index;
+					} else if (key == 2) {
+						shifted = index;
+					}
+				}
+			}
+			channel.write(slots.slice(shifted * slotSize, slotSize), headerBytes + (long) removed * slotSize);
+		}
+		try (var map = MappedHashMap.open(path, Codec.INT, Codec.LONG)) {
+			assertTrue(map.recovered());
+			assertEquals(4, map.size());
+			assertNull(map.get(1));
+			assertEquals(2L, map.get(2));
+			int visited = 0;
+			for (var entry : map) {
+				assertEquals(entry.getKey().longValue(), entry.getValue());
+				visited++;
+			}
+			assertEquals(4, visited);
+			assertEquals(2L, map.remove(2));
+			assertNull(map.get(2));
+			assertEquals(3, map.size());
+		}
+		try (var map = MappedHashMap.open(path, Codec.INT, Codec.LONG)) {
+			assertFalse(map.recovered());
+			assertEquals(3, map.size());
+			assertNull(map.get(2));
+		}
+	}
+
+	@Test
+	@DisplayName("corrupted header and mismatched codecs are rejected")
+	void testCorruptedHeader() throws IOException {
+		var path = directory.resolve("map.bin");
+		try (var map = MappedHashMap.open(path, Codec.INT, Codec.INT)) {
+			map.put(1, 1);
+		}
+		assertThrows(IllegalArgumentException.class, () -> MappedHashMap.open(path, Codec.LONG, Codec.INT));
+		try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] { 42 }), 20);
+		}
+		var exception = assertThrows(IllegalStateException.class, () -> MappedHashMap.open(path, Codec.INT, Codec.INT));
+		assertEquals("header checksum mismatch", exception.getMessage());
+		var truncated = directory.resolve("truncated.bin");
+		Files.write(truncated, new byte[10]);
+		assertThrows(IllegalStateException.class, () -> MappedHashMap.open(truncated, Codec.INT, Codec.INT));
+	}
+
+	@Test
+	@DisplayName("iterator supports removal and write-through and closed map rejects access")
+	void testIteratorAndClose() throws IOException {
+		var path = directory.resolve("map.bin");
+		var map = MappedHashMap.open(path, Codec.INT, Codec.INT);
+		for (int k = 0; k < 100; k++) {
+			map.put(k, k);
+		}
+		var i = map.iterator();
+		assertThrows(IllegalStateException.class, i::remove);
+		int visited = 0;
+		while (i.hasNext()) {
+			var entry = i.next();
+			if (entry.getKey() % 2 == 0) {
+				i.remove();
+			} else {
+				entry.setValue(-entry.getKey());
+			}
+			visited++;
+		}
+		assertEquals(100, visited);
+		assertThrows(NoSuchElementException.class, i::next);
+		assertEquals(50, map.size());
+		assertEquals(-3, map.get(3));
+		map.close();
+		assertThrows(IllegalStateException.class, () -> map.get(3));
+		assertThrows(IllegalStateException.class, map::force);
+		map.close();
+	}
+
+	@Test
+	@DisplayName("random operations behave like java.util.HashMap across reopening")
+	void testRandomOperations() throws IOException {
+		var path = directory.resolve("map.bin");
+		var random = new Random(42);
+		var expected = new java.util.HashMap<Long, Long>();
+		for (int round = 0; round < 5; round++) {
+			try (var map = MappedHashMap.open(path, Codec.LONG, Codec.LONG, 1)) {
+				assertEquals(expected.size(), map.size());
+				for (int k = 0; k < 20_000; k++) {
+					long key = random.nextInt(5_000);
+					switch (random.nextInt(3)) {
+					case 0 -> assertEquals(expected.put(key, (long) k), map.put(key, (long) k));
+					case 1 -> assertEquals(expected.remove(key), map.remove(key));
+					default -> assertEquals(expected.get(key), map.get(key));
+					}
+				}
+			}
+		}
+		try (var map = MappedHashMap.open(path, Codec.LONG, Codec.LONG)) {
+			for (var entry : map) {
+				assertEquals(expected.get(entry.getKey()), entry.getValue());
+			}
+			assertEquals(expected.size(), map.size());
+		}
+	}
+
+	@Test
+	@DisplayName("lookups and updates allocate nothing on the heap")
+	void testHotPathAllocations() throws IOException {
+		var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+		final int keyCount = 1000;
+		final int rounds = 100;
+		var keys = new Integer[keyCount];
+		var values = new Integer[keyCount];
+		for (int k = 0; k < keyCount; k++) {
+			keys[k] = k + 1000;
+			values[k] = k % 100;
+		}
+		try (var map = MappedHashMap.open(directory.resolve("map.bin"), Codec.INT, Codec.INT, 4 * keyCount)) {
+			for (int round = 0; round < rounds; round++) {
+				for (int k = 0; k < keyCount; k++) {
+					map.put(keys[k], values[k]);
+					map.get(keys[k]);
+					map.containsKey(keys[k]);
+					map.remove(keys[k]);
+				}
+			}
+			for (int k = 0; k < keyCount; k++) {
+				map.put(keys[k], values[k]);
+			}
+
+			long before = threadBean.getCurrentThreadAllocatedBytes();
+			for (int round = 0; round < rounds; round++) {
+				for (int k = 0; k < keyCount; k++) {
+					map.get(keys[k]);
+					map.containsKey(keys[k]);
+					map.put(keys[k], values[k]);
+					map.remove(keys[k]);
+					map.put(keys[k], values[k]);
+				}
+			}
+			long allocations = threadBean.getCurrentThreadAllocatedBytes() - before;
+			assertTrue(allocations < rounds * keyCount, "operations allocated " + allocations + " bytes");
+			assertEquals(keyCount, map.size());
+		}
+	}
+
+}
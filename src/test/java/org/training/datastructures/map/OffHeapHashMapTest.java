@@ -0,0 +1,247 @@
+package org.training.datastructures.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.training.datastructures.io.Codec;
+
+class OffHeapHashMapTest {
+
+	private record Point(int x, int y) {
+	}
+
+	private static final Codec<Point> POINT = new Codec<>() {
+
+		@Override
+		public int fixedSize() {
+			return 2 * Integer.BYTES;
+		}
+
+		@Override
+		public void write(Point value, ByteBuffer buffer) {
+			buffer.putInt(value.x()).putInt(value.y());
+		}
+
+		@Override
+		public Point read(ByteBuffer buffer) {
+			return new Point(buffer.getInt(), buffer.getInt());
+		}
+
+	};
+
+	@Test
+	@DisplayName("constructor rejects variable size codecs and invalid arguments")
+	void testOffHeapHashMapFail() {
+		assertThrows(IllegalArgumentException.class, () -> new OffHeapHashMap<>(Codec.STRING, Codec.INT));
+		assertThrows(IllegalArgumentException.class, () -> new OffHeapHashMap<>(Codec.INT, Codec.STRING));
+		assertThrows(IllegalArgumentException.class, () -> new OffHeapHashMap<>(Codec.INT, Codec.INT, 0));
+		assertThrows(IllegalArgumentException.class, () -> new OffHeapHashMap<>(Codec.INT, Codec.INT, 16, 1.0));
+		assertThrows(NullPointerException.class, () -> new OffHeapHashMap<>(null, Codec.INT));
+	}
+
+	@Test
+	@DisplayName("put, get and remove follow map contract")
+	void testBasicOperations() {
+		try (var map = new OffHeapHashMap<Long, Double>(Codec.LONG, Codec.DOUBLE)) {
+			assertNull(map.put(1L, 1.5));
+			assertNull(map.put(2L, 2.5));
+			assertEquals(1.5, map.put(1L, 10.5));
+			assertEquals(10.5, map.get(1L));
+			assertNull(map.get(3L));
+			assertTrue(map.containsKey(2L));
+			assertFalse(map.containsKey(3L));
+			assertEquals(2, map.size());
+			assertEquals(2.5, map.remove(2L));
+			assertNull(map.remove(2L));
+			assertEquals(1, map.size());
+			assertEquals("[1=10.5]", map.toString());
+			assertThrows(NullPointerException.class, () -> map.put(4L, null));
+			assertEquals(3.0, map.merge(1L, -7.5, Double::sum));
+		}
+	}
+
+	@Test
+	@DisplayName("composite keys are compared by their encoded bytes")
+	void testCompositeKeys() {
+		try (var map = new OffHeapHashMap<Point, Integer>(POINT, Codec.INT, 4)) {
+			for (int x = 0; x < 50; x++) {
+				for (int y = 0; y < 50; y++) {
+					map.put(new Point(x, y), x * 100 + y);
+				}
+			}
+			assertEquals(2_500, map.size());
+			assertEquals(4_917, map.get(new Point(49, 17)));
+			assertNull(map.get(new Point(50, 0)));
+		}
+	}
+
+	@Test
+	@DisplayName("table spans several direct buffer segments")
+	void testSegments() {
+		try (var map = new OffHeapHashMap<Integer, Integer>(Codec.INT, Codec.INT, 1, 0.75, 12 * 64)) {
+			for (int k = 0; k < 10_000; k++) {
+				map.put(k, -k);
+			}
+			assertEquals(16_384, map.capacity());
+			assertEquals(256, map.segmentCount());
+			assertEquals(16_384L * 12, map.offHeapBytes());
+			for (int k = 0; k < 10_000; k++) {
+				assertEquals(-k, map.get(k));
+			}
+			assertThrows(IllegalArgumentException.class,
+					() -> new OffHeapHashMap<>(Codec.LONG, Codec.LONG, 16, 0.75, 16));
+		}
+	}
+
+	@Test
+	@DisplayName("iterator visits every entry once and supports removal and write-through")
+	void testIterator() {
+		try (var map = new OffHeapHashMap<Integer, Integer>(Codec.INT, Codec.INT)) {
+			for (int k = 0; k < 1_000; k++) {
+				map.put(k, k);
+			}
+			var i = map.iterator();
+			assertThrows(IllegalStateException.class, i::remove);
+			var visited = new java.util.HashSet<Integer>();
+			while (i.hasNext()) {
+				var entry = i.next();
+				assertTrue(visited.add(entry.getKey()));
+				if (entry.getKey() % 2 == 0) {
+					i.remove();
+				} else {
+					entry.setValue(-entry.getKey());
+				}
+			}
+			assertThrows(NoSuchElementException.class, i::next);
+			assertEquals(1_000, visited.size());
+			assertEquals(500, map.size());
+			for (int k = 0; k < 1_000; k++) {
+				assertEquals(k % 2 == 0 ? null : -k, map.get(k));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("clear and close release entries and closed map rejects access")
+	void testClearAndClose() {
+		var map = new OffHeapHashMap<Integer, Long>(Codec.INT, Codec.LONG);
+		map.put(1, 1L);
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(1));
+		map.put(2, 2L);
+		assertEquals(Set.of(2), map.keySet());
+		map.close();
+		assertEquals(0, map.offHeapBytes());
+		assertThrows(IllegalStateException.class, () -> map.get(2));
+		assertThrows(IllegalStateException.class, () -> map.put(3, 3L));
+		assertThrows(IllegalStateException.class, map::iterator);
+		map.close();
+	}
+
+	@Test
+	@DisplayName("random operations behave like java.util.HashMap")
+	void testRandomOperations() {
+		var random = new Random(42);
+		var expected = new java.util.HashMap<Long, Long>();
+		try (var map = new OffHeapHashMap<Long, Long>(Codec.LONG, Codec.LONG, 1)) {
+			for (int k = 0; k < 100_000; k++) {
+				long key = random.nextInt(5_000) * 0x100000000L;
+				switch (random.nextInt(3)) {
+				case 0 -> assertEquals(expected.put(key, (long) k), map.put(key, (long) k));
+				case 1 -> assertEquals(expected.remove(key), map.remove(key));
+				default -> assertEquals(expected.get(key), map.get(key));
+				}
+			}
+			assertEquals(expected.size(), map.size());
+			for (var entry : map) {
+				assertEquals(expected.get(entry.getKey()), entry.getValue());
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("concurrent readers don't interfere with each other")
+	void testConcurrentReaders() throws Exception {
+		try (var map = new OffHeapHashMap<Point, Long>(POINT, Codec.LONG)) {
+			for (int k = 0; k < 10_000; k++) {
+				map.put(new Point(k, -k), (long) k);
+			}
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				var futures = new java.util.ArrayList<Future<?>>();
+				for (int t = 0; t < 4; t++) {
+					final int offset = t;
+					futures.add(executor.submit(() -> {
+						for (int round = 0; round < 20; round++) {
+							for (int k = offset; k < 10_000; k += 3) {
+								assertEquals(k, map.get(new Point(k, -k)));
+								assertFalse(map.containsKey(new Point(k, k + 1)));
+							}
+						}
+					}));
+				}
+				for (var future : futures) {
+					future.get(60, TimeUnit.SECONDS);
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("lookups and updates allocate nothing on the heap")
+	void testHotPathAllocations() {
+		var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+		final int keyCount = 1000;
+		final int rounds = 100;
+		var keys = new Integer[keyCount];
+		var values = new Integer[keyCount];
+		for (int k = 0; k < keyCount; k++) {
+			keys[k] = k + 1000;
+			values[k] = k % 100;
+		}
+		try (var map = new OffHeapHashMap<Integer, Integer>(Codec.INT, Codec.INT, 4 * keyCount)) {
+			for (int round = 0; round < rounds; round++) {
+				for (int k = 0; k < keyCount; k++) {
+					map.put(keys[k], values[k]);
+					map.get(keys[k]);
+					map.containsKey(keys[k]);
+					map.remove(keys[k]);
+				}
+			}
+			for (int k = 0; k < keyCount; k++) {
+				map.put(keys[k], values[k]);
+			}
+
+			long before = threadBean.getCurrentThreadAllocatedBytes();
+			for (int round = 0; round < rounds; round++) {
+				for (int k = 0; k < keyCount; k++) {
+					map.get(keys[k]);
+					map.containsKey(keys[k]);
+					map.put(keys[k], values[k]);
+					map.remove(keys[k]);
+					map.put(keys[k], values[k]);
+				}
+			}
+			long allocations = threadBean.getCurrentThreadAllocatedBytes() - before;
+			assertTrue(allocations < rounds * keyCount, "operations allocated " + allocations + " bytes");
+			assertEquals(keyCount, map.size());
+		}
+	}
+
+}
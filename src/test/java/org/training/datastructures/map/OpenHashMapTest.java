@@ -0,0 +1,200 @@
+package org.training.datastructures.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OpenHashMapTest {
+
+	private record CollidingKey(int id) {
+
+		@Override
+		public int hashCode() {
+			return id % 3;
+		}
+
+	}
+
+	@Test
+	@DisplayName("create empty map with default constructor")
+	void testOpenHashMap() {
+		var map = new OpenHashMap<String, Integer>();
+		assertEquals(0, map.size());
+		assertTrue(map.isEmpty());
+		assertEquals(16, map.capacity());
+		assertTrue(map.keySet().isEmpty());
+	}
+
+	@Test
+	@DisplayName("constructor rejects invalid capacity and load factor")
+	void testOpenHashMapFail() {
+		assertThrows(IllegalArgumentException.class, () -> new OpenHashMap<String, Integer>(0));
+		assertThrows(IllegalArgumentException.class, () -> new OpenHashMap<String, Integer>(16, 0));
+		assertThrows(IllegalArgumentException.class, () -> new OpenHashMap<String, Integer>(16, 1));
+	}
+
+	@Test
+	@DisplayName("table capacity is rounded up to power of two")
+	void testCapacityRounding() {
+		assertEquals(1, new OpenHashMap<String, Integer>(1).capacity());
+		assertEquals(16, new OpenHashMap<String, Integer>(10).capacity());
+		assertEquals(64, new OpenHashMap<String, Integer>(64).capacity());
+	}
+
+	@Test
+	@DisplayName("create filled-in map with copy constructor")
+	void testOpenHashMapCopy() {
+		var sampleMap = new HashMap<String, Integer>();
+		sampleMap.put("1", 1);
+		sampleMap.put("2", 2);
+		sampleMap.put("3", 3);
+
+		var map = new OpenHashMap<>(sampleMap);
+		assertEquals(3, map.size());
+		assertEquals(Set.of("1", "2", "3"), map.keySet());
+		assertTrue(map.values().equals(Set.of(1, 2, 3)));
+		assertEquals(sampleMap, map);
+	}
+
+	@Test
+	@DisplayName("put adds new entries and replaces old ones")
+	void testPut() {
+		var map = new OpenHashMap<String, Integer>();
+		assertNull(map.put("1", 1));
+		assertNull(map.put("2", 2));
+		assertEquals(2, map.size());
+		assertEquals(1, map.put("1", 10));
+		assertEquals(2, map.size());
+		assertEquals(10, map.get("1"));
+		assertEquals(2, map.get("2"));
+		assertNull(map.get("3"));
+	}
+
+	@Test
+	@DisplayName("map grows past initial capacity and keeps every entry")
+	void testResize() {
+		var map = new OpenHashMap<Integer, Integer>(1);
+		for (int k = 0; k < 1000; k++) {
+			map.put(k, k * k);
+		}
+		assertEquals(1000, map.size());
+		assertEquals(2048, map.capacity());
+		for (int k = 0; k < 1000; k++) {
+			assertEquals(k * k, map.get(k));
+		}
+	}
+
+	@Test
+	@DisplayName("colliding keys are found and removed correctly")
+	void testCollisions() {
+		var map = new OpenHashMap<CollidingKey, Integer>();
+		for (int k = 0; k < 100; k++) {
+			map.put(new CollidingKey(k), k);
+		}
+		for (int k = 0; k < 100; k += 2) {
+			assertEquals(k, map.remove(new CollidingKey(k)));
+		}
+		assertEquals(50, map.size());
+		for (int k = 0; k < 100; k++) {
+			assertEquals(k % 2 == 0 ? null : k, map.get(new CollidingKey(k)));
+		}
+	}
+
+	@Test
+	@DisplayName("check if remove succeeds and fails")
+	void testRemove() {
+		var map = new OpenHashMap<String, Integer>();
+		map.put("1", 1);
+		assertNull(map.remove("2"));
+		assertEquals(1, map.size());
+		assertEquals(1, map.remove("1"));
+		assertTrue(map.isEmpty());
+		assertFalse(map.containsKey("1"));
+	}
+
+	@Test
+	@DisplayName("check if clear wipes map")
+	void testClear() {
+		var map = new OpenHashMap<String, Integer>();
+		map.put("1", 1);
+		map.put("2", 2);
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get("1"));
+		assertFalse(map.iterator().hasNext());
+	}
+
+	@Test
+	@DisplayName("iterator yields every entry and supports removal")
+	void testIteratorRemove() {
+		var map = new OpenHashMap<CollidingKey, Integer>(8);
+		for (int k = 0; k < 6; k++) {
+			map.put(new CollidingKey(k), k);
+		}
+		int visited = 0;
+		var i = map.iterator();
+		assertThrows(IllegalStateException.class, i::remove);
+		while (i.hasNext()) {
+			var entry = i.next();
+			assertEquals(entry.getKey().id(), entry.getValue());
+			i.remove();
+			visited++;
+		}
+		assertEquals(6, visited);
+		assertTrue(map.isEmpty());
+		assertThrows(NoSuchElementException.class, i::next);
+	}
+
+	@Test
+	@DisplayName("entry setValue writes through to map")
+	void testEntrySetValue() {
+		var map = new OpenHashMap<String, Integer>();
+		map.put("1", 1);
+		var entry = map.iterator().next();
+		assertEquals(1, entry.setValue(5));
+		assertEquals(5, map.get("1"));
+	}
+
+	@Test
+	@DisplayName("inherited compute methods follow map contract")
+	void testComputeMethods() {
+		var map = new OpenHashMap<String, Integer>();
+		assertEquals(-1, map.getOrDefault("A", -1));
+		assertNull(map.putIfAbsent("A", 1));
+		assertEquals(1, map.putIfAbsent("A", 2));
+		assertEquals(1, map.computeIfAbsent("A", key -> 10));
+		assertEquals(11, map.compute("A", (key, value) -> value + 10));
+		assertNull(map.compute("A", (key, value) -> null));
+		assertFalse(map.containsKey("A"));
+		assertEquals(1, map.merge("B", 1, Integer::sum));
+		assertEquals(3, map.merge("B", 2, Integer::sum));
+		assertNull(map.merge("B", 1, (value, other) -> null));
+		assertTrue(map.isEmpty());
+	}
+
+	@Test
+	@DisplayName("random operations behave like java.util.HashMap")
+	void testRandomOperations() {
+		var random = new Random(42);
+		var map = new OpenHashMap<Integer, Integer>();
+		var expected = new java.util.HashMap<Integer, Integer>();
+		for (int k = 0; k < 100_000; k++) {
+			int key = random.nextInt(5_000);
+			if (random.nextBoolean()) {
+				assertEquals(expected.put(key, k), map.put(key, k));
+			} else {
+				assertEquals(expected.remove(key), map.remove(key));
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		for (var entry : map) {
+			assertEquals(expected.get(entry.getKey()), entry.getValue());
+		}
+	}
+
+}
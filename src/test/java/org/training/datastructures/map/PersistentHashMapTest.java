@@ -0,0 +1,226 @@
+package org.training.datastructures.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PersistentHashMapTest {
+
+	private record CollidingKey(int id) {
+
+		@Override
+		public int hashCode() {
+			return id % 3;
+		}
+
+	}
+
+	private static <K, V> java.util.Map<K, V> toJavaMap(Map<K, V> map) {
+		var result = new java.util.HashMap<K, V>();
+		for (var entry : map) {
+			assertNull(result.put(entry.getKey(), entry.getValue()));
+		}
+		return result;
+	}
+
+	@Test
+	@DisplayName("empty map is shared and has no entries")
+	void testEmpty() {
+		PersistentHashMap<String, Integer> map = PersistentHashMap.empty();
+		assertSame(map, PersistentHashMap.<Integer, Integer>empty());
+		assertEquals(0, map.size());
+		assertTrue(map.isEmpty());
+		assertNull(map.get("A"));
+		assertFalse(map.iterator().hasNext());
+		assertThrows(NoSuchElementException.class, () -> map.iterator().next());
+		assertSame(map, map.without("A"));
+	}
+
+	@Test
+	@DisplayName("with and without return new versions and leave previous ones unchanged")
+	void testWithAndWithout() {
+		PersistentHashMap<String, Integer> empty = PersistentHashMap.empty();
+		var first = empty.with("A", 1);
+		var second = first.with("B", 2);
+		var third = second.with("A", 10);
+		var fourth = third.without("B");
+
+		assertEquals(0, empty.size());
+		assertEquals(1, first.size());
+		assertEquals(1, first.get("A"));
+		assertFalse(first.containsKey("B"));
+		assertEquals(2, second.size());
+		assertEquals(1, second.get("A"));
+		assertEquals(2, third.size());
+		assertEquals(10, third.get("A"));
+		assertEquals(1, fourth.size());
+		assertEquals(10, fourth.get("A"));
+		assertNull(fourth.get("B"));
+		assertEquals(2, third.get("B"));
+
+		assertSame(third, third.with("A", 10));
+		assertSame(third, third.without("C"));
+	}
+
+	@Test
+	@DisplayName("null values are stored and distinguished from absent keys")
+	void testNullValues() {
+		var map = PersistentHashMap.<String, Integer>empty().with("A", null);
+		assertEquals(1, map.size());
+		assertTrue(map.containsKey("A"));
+		assertNull(map.get("A"));
+		assertEquals(5, map.getOrDefault("B", 5));
+		assertNull(map.getOrDefault("A", 5));
+		assertSame(map, map.with("A", null));
+		assertTrue(map.without("A").isEmpty());
+	}
+
+	@Test
+	@DisplayName("map mutators throw unsupported operation exception")
+	void testMutatorsFail() {
+		var map = PersistentHashMap.<String, Integer>empty().with("A", 1);
+		assertThrows(UnsupportedOperationException.class, () -> map.put("B", 2));
+		assertThrows(UnsupportedOperationException.class, () -> map.remove("A"));
+		assertThrows(UnsupportedOperationException.class, () -> map.clear());
+		assertThrows(UnsupportedOperationException.class, () -> map.putAll(new HashMap<>()));
+		assertThrows(UnsupportedOperationException.class, () -> map.putIfAbsent("B", 2));
+		assertThrows(UnsupportedOperationException.class, () -> map.computeIfAbsent("B", any -> 2));
+		assertThrows(UnsupportedOperationException.class, () -> map.compute("A", (key, value) -> 2));
+		assertThrows(UnsupportedOperationException.class, () -> map.merge("A", 2, Integer::sum));
+		assertThrows(UnsupportedOperationException.class, () -> map.iterator().next().setValue(2));
+		assertEquals(1, map.get("A"));
+	}
+
+	@Test
+	@DisplayName("copy of map contains same entries and equals source")
+	void testCopyOf() {
+		var source = new HashMap<String, Integer>();
+		source.put("A", 1);
+		source.put("B", 2);
+		source.put("C", 3);
+		var map = PersistentHashMap.copyOf(source);
+		assertEquals(3, map.size());
+		assertEquals(Set.of("A", "B", "C"), map.keySet());
+		assertEquals(source, map);
+		assertEquals(map, source);
+		assertEquals(source.hashCode(), map.hashCode());
+	}
+
+	@Test
+	@DisplayName("keys with equal hash codes share collision nodes and collapse on removal")
+	void testCollidingKeys() {
+		PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.empty();
+		for (int k = 0; k < 300; k++) {
+			map = map.with(new CollidingKey(k), k);
+		}
+		assertEquals(300, map.size());
+		for (int k = 0; k < 300; k++) {
+			assertEquals(k, map.get(new CollidingKey(k)));
+		}
+		assertNull(map.get(new CollidingKey(300)));
+		assertEquals(300, toJavaMap(map).size());
+
+		var reduced = map;
+		for (int k = 0; k < 300; k++) {
+			if (k != 7) {
+				reduced = reduced.without(new CollidingKey(k));
+			}
+		}
+		assertEquals(1, reduced.size());
+		assertEquals(7, reduced.get(new CollidingKey(7)));
+		assertEquals(1, reduced.depth());
+		assertEquals(300, map.size());
+	}
+
+	@Test
+	@DisplayName("removal keeps trie compact")
+	void testCompaction() {
+		PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+		for (int k = 0; k < 100_000; k++) {
+			map = map.with(k, k);
+		}
+		assertTrue(map.depth() > 1);
+		for (int k = 1; k < 100_000; k++) {
+			map = map.without(k);
+		}
+		assertEquals(1, map.size());
+		assertEquals(1, map.depth());
+		assertTrue(map.without(0).isEmpty());
+	}
+
+	@Test
+	@DisplayName("random operations match java.util.HashMap and older versions stay intact")
+	void testRandomOperations() {
+		var random = new Random(42);
+		PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+		var expected = new java.util.HashMap<Integer, Integer>();
+		var versions = new ArrayList<PersistentHashMap<Integer, Integer>>();
+		var snapshots = new ArrayList<java.util.Map<Integer, Integer>>();
+		for (int k = 0; k < 100_000; k++) {
+			int key = random.nextInt(5_000);
+			switch (random.nextInt(3)) {
+			case 0 -> {
+				expected.put(key, k);
+				map = map.with(key, k);
+			}
+			case 1 -> {
+				expected.remove(key);
+				map = map.without(key);
+			}
+			default -> assertEquals(expected.get(key), map.get(key));
+			}
+			assertEquals(expected.size(), map.size());
+			if (k % 10_000 == 0) {
+				versions.add(map);
+				snapshots.add(new java.util.HashMap<>(expected));
+			}
+		}
+		assertEquals(expected, toJavaMap(map));
+		for (int k = 0; k < versions.size(); k++) {
+			assertEquals(snapshots.get(k), toJavaMap(versions.get(k)));
+		}
+	}
+
+	@Test
+	@DisplayName("versions are safely read by concurrent threads without locking")
+	void testConcurrentReaders() throws Exception {
+		PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+		for (int k = 0; k < 10_000; k++) {
+			map = map.with(k, k);
+		}
+		final var shared = map;
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			var futures = new ArrayList<Future<Long>>();
+			for (int t = 0; t < 4; t++) {
+				futures.add(executor.submit(() -> {
+					var local = shared;
+					long sum = 0;
+					for (int k = 0; k < 10_000; k++) {
+						sum += local.get(k);
+						local = local.without(k);
+					}
+					assertTrue(local.isEmpty());
+					return sum;
+				}));
+			}
+			for (var future : futures) {
+				assertEquals(49_995_000L, future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(10_000, shared.size());
+		assertEquals(toJavaMap(shared).size(), shared.size());
+	}
+
+}